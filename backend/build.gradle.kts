@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("org.graalvm.buildtools.native") version "0.10.6" apply false
 }
 
 group = "com.port"
@@ -29,6 +30,10 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.mysql:mysql-connector-j")
+
+	// 스키마 버전 관리
+	implementation("org.flywaydb:flyway-core")
+	implementation("org.flywaydb:flyway-mysql")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
@@ -48,6 +53,13 @@ dependencies {
 
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 
+	// 전문 검색 (임베디드 인덱스)
+	implementation("org.apache.lucene:lucene-core:9.12.0")
+	implementation("org.apache.lucene:lucene-analysis-common:9.12.0")
+
+	// 태그 역색인 (압축 비트맵)
+	implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+
 	testImplementation ("com.h2database:h2")
 
 }
@@ -55,3 +67,26 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// Dockerfile 에서 이름으로 복사 (plain jar 와 구분)
+tasks.bootJar {
+	archiveFileName.set("app.jar")
+}
+
+// 빠른 기동 모드: ./gradlew bootJar -Pstartup=aot | ./gradlew nativeCompile -Pstartup=native
+// → aot: 빌드 시 Spring AOT 처리 결과(빈 정의 코드)를 jar 에 포함, 실행 시 -Dspring.aot.enabled=true
+// → native: GraalVM 네이티브 이미지 (AOT 포함)
+// → AOT 는 빌드 시점의 프로필 / 프로퍼티로 조건부 빈(custom.storage.type 등)을 확정하므로 실행 프로필과 맞춰야 함
+val startupMode = (findProperty("startup") as String?) ?: "jvm"
+val aotProfiles = (findProperty("aotProfiles") as String?) ?: "prod"
+when (startupMode) {
+	"jvm" -> {}
+	"aot" -> apply(plugin = "org.springframework.boot.aot")
+	"native" -> apply(plugin = "org.graalvm.buildtools.native")
+	else -> throw GradleException("startup 은 jvm, aot, native 중 하나여야 합니다: $startupMode")
+}
+if (startupMode != "jvm") {
+	tasks.named<JavaExec>("processAot") {
+		jvmArgs("-Dspring.profiles.active=$aotProfiles")
+	}
+}
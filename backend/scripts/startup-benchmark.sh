@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# 기동 모드별 기동 시간 측정 (Docker 이미지 기준)
+# → 모드: jvm(CDS 끔) / cds / aot (AOT + CDS) / native
+# → time-to-ready: 컨테이너 시작 ~ /actuator/health/readiness 200 응답
+# → first-request: 준비 직후 첫 API 요청 응답 시간
+# → 모드별 RUNS 회 반복 후 중앙값 출력
+#
+# 예: DOCKER_RUN_ARGS="--network folio -v $PWD/application-secret.yml:/app/config/application-secret.yml" \
+#       RUNS=5 ./scripts/startup-benchmark.sh jvm cds aot
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+FIRST_REQUEST_PATH=${FIRST_REQUEST_PATH:-/api/nearby?lat=37.5665&lng=126.978}
+DOCKER_RUN_ARGS=${DOCKER_RUN_ARGS:-}
+MODES=("$@")
+if [ ${#MODES[@]} -eq 0 ]; then
+  MODES=(jvm cds aot native)
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) { print "-"; exit } if (NR % 2) print v[(NR + 1) / 2]; else print int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+build_image() {
+  local mode=$1
+  case "$mode" in
+    jvm | cds) docker build -q --build-arg STARTUP=jvm -t folio-startup:jvm . > /dev/null ;;
+    aot) docker build -q --build-arg STARTUP=aot -t folio-startup:aot . > /dev/null ;;
+    native) docker build -q --target native -t folio-startup:native . > /dev/null ;;
+    *) echo "알 수 없는 모드: $mode" >&2; exit 1 ;;
+  esac
+}
+
+run_once() {
+  local mode=$1
+  local image env_args=()
+  case "$mode" in
+    jvm) image=folio-startup:jvm; env_args=(-e JAVA_OPTS=-Xshare:off) ;;
+    cds) image=folio-startup:jvm ;;
+    aot) image=folio-startup:aot ;;
+    native) image=folio-startup:native ;;
+  esac
+
+  local started ready first container
+  started=$(now_ms)
+  # shellcheck disable=SC2086
+  container=$(docker run -d --rm -p "$PORT:8080" "${env_args[@]}" $DOCKER_RUN_ARGS "$image")
+
+  local deadline=$((started + TIMEOUT_SECONDS * 1000))
+  until curl -fs -o /dev/null "http://localhost:$PORT/actuator/health/readiness"; do
+    if [ "$(now_ms)" -gt "$deadline" ]; then
+      echo "기동 시간 초과: $mode" >&2
+      docker logs --tail 50 "$container" >&2 || true
+      docker stop "$container" > /dev/null || true
+      return 1
+    fi
+    sleep 0.05
+  done
+  ready=$(($(now_ms) - started))
+
+  first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT$FIRST_REQUEST_PATH" | awk '{ printf "%d", $1 * 1000 }')
+
+  docker stop "$container" > /dev/null
+  echo "$ready $first"
+}
+
+printf '%-8s %18s %22s\n' mode "time-to-ready(ms)" "first-request(ms)"
+for mode in "${MODES[@]}"; do
+  build_image "$mode"
+  results=()
+  for ((i = 1; i <= RUNS; i++)); do
+    results+=("$(run_once "$mode")")
+  done
+  ready_median=$(printf '%s\n' "${results[@]}" | awk '{ print $1 }' | median)
+  first_median=$(printf '%s\n' "${results[@]}" | awk '{ print $2 }' | median)
+  printf '%-8s %18s %22s\n' "$mode" "$ready_median" "$first_median"
+done
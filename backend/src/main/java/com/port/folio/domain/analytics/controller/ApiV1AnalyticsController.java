@@ -0,0 +1,33 @@
+package com.port.folio.domain.analytics.controller;
+
+import com.port.folio.domain.analytics.dto.VisitAnalyticsResponse;
+import com.port.folio.domain.analytics.service.VisitAnalyticsService;
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.global.rq.Rq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class ApiV1AnalyticsController {
+    private final VisitAnalyticsService visitAnalyticsService;
+    private final Rq rq;
+
+    // 포트폴리오 주인만 조회 가능 (최근 days 일, hour / day 단위)
+    @GetMapping("/visits")
+    public ResponseEntity<VisitAnalyticsResponse> visits(@RequestParam Long categoryId,
+                                                         @RequestParam(defaultValue = "day") String granularity,
+                                                         @RequestParam(defaultValue = "7") int days) {
+        User actor = rq.getActor();
+        if (actor == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!visitAnalyticsService.isOwner(categoryId, actor.getId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(visitAnalyticsService.series(categoryId, granularity, days));
+    }
+}
@@ -0,0 +1,26 @@
+package com.port.folio.domain.analytics.controller;
+
+import com.port.folio.domain.analytics.dto.TrendingResponse;
+import com.port.folio.domain.analytics.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/trending")
+@RequiredArgsConstructor
+public class ApiV1TrendingController {
+    private final TrendingService trendingService;
+
+    // 인기 포트폴리오 (주기적으로 갱신된 목록을 그대로 반환)
+    @GetMapping
+    public ResponseEntity<TrendingResponse> trending(@RequestParam(defaultValue = "24h") String window,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(trendingService.getRefreshSeconds())).cachePublic())
+                .body(trendingService.trending(window, limit));
+    }
+}
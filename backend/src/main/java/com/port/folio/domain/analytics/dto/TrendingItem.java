@@ -0,0 +1,19 @@
+package com.port.folio.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 포트폴리오 한 건 (views 는 스케치 추정치, 실제보다 약간 클 수 있음)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingItem {
+    private String publicId;
+    private Long categoryId;
+    private String categoryTitle;
+    private Long userId;
+    private long views;
+}
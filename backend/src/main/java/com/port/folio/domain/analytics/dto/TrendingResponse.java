@@ -0,0 +1,17 @@
+package com.port.folio.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrendingResponse {
+    private String window;
+    private LocalDateTime refreshedAt;
+    private List<TrendingItem> items;
+}
@@ -0,0 +1,17 @@
+package com.port.folio.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VisitAnalyticsResponse {
+    private Long categoryId;
+    private String granularity;
+    private VisitSeries portfolio;
+    private List<VisitSeries> tabs;
+}
@@ -0,0 +1,19 @@
+package com.port.folio.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구간(시간 / 일) 하나의 조회 수와 고유 방문자 추정치
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VisitPoint {
+    private LocalDateTime start;
+    private long views;
+    private long uniques;
+}
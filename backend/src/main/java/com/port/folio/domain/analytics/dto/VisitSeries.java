@@ -0,0 +1,21 @@
+package com.port.folio.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대상 하나의 방문 시계열 (tabId 가 null 이면 포트폴리오 전체 페이지)
+ * → totalUniques: 기간 전체 고유 방문자 (구간별 값의 합이 아님)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VisitSeries {
+    private Long tabId;
+    private long totalViews;
+    private long totalUniques;
+    private List<VisitPoint> points;
+}
@@ -0,0 +1,38 @@
+package com.port.folio.domain.analytics.entity;
+
+import com.port.folio.global.Jpa.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방문 집계 (범위 × 1시간 단위 1행)
+ * → scope: "p:{publicId}" (포트폴리오) / "t:{tabId}" (탭)
+ * → sketch: 고유 방문자 HyperLogLog (압축), 시간 단위 스케치를 합쳐 일 단위 고유 방문자 계산
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_visit_rollup_scope_bucket", columnNames = {"scope", "bucket_start"}))
+@SuperBuilder
+@Getter
+@Setter
+@NoArgsConstructor
+public class VisitRollup extends BaseEntity {
+
+    @Column(nullable = false, length = 64)
+    private String scope;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long views;
+
+    @Column(length = 4096)
+    private byte[] sketch;
+}
@@ -0,0 +1,78 @@
+package com.port.folio.domain.analytics.filter;
+
+import com.port.folio.domain.analytics.service.TrendingService;
+import com.port.folio.domain.analytics.service.VisitAnalyticsService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * 공개 조회 경로의 방문 기록
+ * → 포트폴리오: GET /api/snapshot/portfolio/{publicId}, 탭: GET /api/posts?tabId=
+ * → 응답 캐시 필터보다 먼저 실행되므로 캐시 적중 요청도 집계됨, 성공 응답(2xx)만 기록
+ * → 방문자 = IP + User-Agent 의 해시 (원문은 남기지 않음), 봇은 제외
+ * → 포트폴리오 조회는 인기 포트폴리오 스케치(TrendingService)에도 반영
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@RequiredArgsConstructor
+public class VisitAnalyticsFilter extends OncePerRequestFilter {
+
+    private static final String PORTFOLIO_PREFIX = "/api/snapshot/portfolio/";
+    private static final String POST_PATH = "/api/posts";
+
+    private final VisitAnalyticsService visitAnalyticsService;
+    private final TrendingService trendingService;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod())) return true;
+        String uri = request.getRequestURI();
+        return !uri.startsWith(PORTFOLIO_PREFIX) && !uri.equals(POST_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+
+        int status = response.getStatus();
+        if (status < 200 || status >= 300) return;
+
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        if (isBot(userAgent)) return;
+        String visitor = request.getRemoteAddr() + "|" + userAgent;
+
+        String uri = request.getRequestURI();
+        if (uri.startsWith(PORTFOLIO_PREFIX)) {
+            String publicId = uri.substring(PORTFOLIO_PREFIX.length());
+            visitAnalyticsService.recordPortfolio(publicId, visitor);
+            trendingService.record(publicId);
+            return;
+        }
+
+        String tabId = request.getParameter("tabId");
+        if (tabId != null && tabId.matches("\\d{1,18}")) {
+            visitAnalyticsService.recordTab(Long.parseLong(tabId), visitor);
+        }
+    }
+
+    private boolean isBot(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) return true;
+        String ua = userAgent.toLowerCase(Locale.ROOT);
+        return ua.contains("bot") || ua.contains("spider") || ua.contains("crawl");
+    }
+}
@@ -0,0 +1,17 @@
+package com.port.folio.domain.analytics.repository;
+
+import com.port.folio.domain.analytics.entity.VisitRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface VisitRollupRepository extends JpaRepository<VisitRollup, Long> {
+
+    Optional<VisitRollup> findByScopeAndBucketStart(String scope, LocalDateTime bucketStart);
+
+    List<VisitRollup> findAllByScopeInAndBucketStartGreaterThanEqualOrderByBucketStart(Collection<String> scopes,
+                                                                                      LocalDateTime from);
+}
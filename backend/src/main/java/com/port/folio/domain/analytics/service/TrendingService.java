@@ -0,0 +1,181 @@
+package com.port.folio.domain.analytics.service;
+
+import com.port.folio.domain.analytics.dto.TrendingItem;
+import com.port.folio.domain.analytics.dto.TrendingResponse;
+import com.port.folio.domain.analytics.sketch.SpaceSaving;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 포트폴리오 (최근 1시간 / 24시간 / 7일 조회 상위)
+ * → 공개 포트폴리오 조회마다 현재 구간의 Space-Saving 스케치에 publicId 추가 (메모리 고정)
+ * → 구간: 5분 × 12 (1h), 1시간 × 168 (24h / 7d), 오래된 구간은 덮어써지며 창 밖으로 밀려남
+ * → refreshSeconds 마다 창별로 구간 스케치를 합쳐 상위 목록을 만들고 카테고리 정보를 붙여 캐시
+ *   → 조회 API 는 캐시된 목록을 그대로 반환 (DB / 집계 없음)
+ * → 메모리 집계이므로 재시작하면 창이 비어서 다시 쌓임
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+    public static final int MAX_LIMIT = 50;
+    private static final int CAPACITY = 500;
+    private static final List<String> WINDOWS = List.of("1h", "24h", "7d");
+
+    private final long refreshSeconds;
+    private final CategoryRepository categoryRepository;
+
+    private final SlotRing fine = new SlotRing(300, 12);
+    private final SlotRing coarse = new SlotRing(3600, 168);
+    private volatile Map<String, TrendingResponse> cached = Map.of();
+
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "trending-refresher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TrendingService(
+            @Value("${custom.trending.refreshSeconds:30}") long refreshSeconds,
+            CategoryRepository categoryRepository
+    ) {
+        this.refreshSeconds = refreshSeconds;
+        this.categoryRepository = categoryRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.error("인기 포트폴리오 갱신 실패", e);
+            }
+        }, 0, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    public void record(String publicId) {
+        long now = Instant.now().getEpochSecond();
+        fine.sketch(now).add(publicId);
+        coarse.sketch(now).add(publicId);
+    }
+
+    public TrendingResponse trending(String window, int limit) {
+        if (!WINDOWS.contains(window)) {
+            throw new IllegalArgumentException("window 는 1h, 24h, 7d 중 하나입니다");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1~" + MAX_LIMIT + " 입니다");
+        }
+        TrendingResponse response = cached.get(window);
+        if (response == null) {
+            return new TrendingResponse(window, null, List.of());
+        }
+        if (response.getItems().size() <= limit) {
+            return response;
+        }
+        return new TrendingResponse(window, response.getRefreshedAt(), response.getItems().subList(0, limit));
+    }
+
+    public long getRefreshSeconds() {
+        return refreshSeconds;
+    }
+
+    /**
+     * 창별 상위 목록 재계산 (삭제된 카테고리는 빠지도록 후보를 두 배로 뽑음)
+     */
+    public void refresh() {
+        long now = Instant.now().getEpochSecond();
+        Map<String, List<SpaceSaving.Entry>> tops = new HashMap<>();
+        tops.put("1h", SpaceSaving.top(fine.recent(now, 12), MAX_LIMIT * 2));
+        tops.put("24h", SpaceSaving.top(coarse.recent(now, 24), MAX_LIMIT * 2));
+        tops.put("7d", SpaceSaving.top(coarse.recent(now, 168), MAX_LIMIT * 2));
+
+        Set<String> publicIds = new HashSet<>();
+        tops.values().forEach(entries -> entries.forEach(entry -> publicIds.add(entry.key())));
+        Map<String, CategoryRepository.CategorySummaryRow> categories = publicIds.isEmpty()
+                ? Map.of()
+                : categoryRepository.findSummariesByPublicIdIn(publicIds).stream()
+                .collect(Collectors.toMap(CategoryRepository.CategorySummaryRow::getPublicId, Function.identity()));
+
+        LocalDateTime refreshedAt = LocalDateTime.now();
+        Map<String, TrendingResponse> next = new HashMap<>();
+        tops.forEach((window, entries) -> {
+            List<TrendingItem> items = new ArrayList<>(MAX_LIMIT);
+            for (SpaceSaving.Entry entry : entries) {
+                CategoryRepository.CategorySummaryRow category = categories.get(entry.key());
+                if (category == null) continue;
+                items.add(new TrendingItem(category.getPublicId(), category.getId(), category.getCategoryTitle(),
+                        category.getUserId(), entry.count()));
+                if (items.size() == MAX_LIMIT) break;
+            }
+            next.put(window, new TrendingResponse(window, refreshedAt, List.copyOf(items)));
+        });
+        cached = Map.copyOf(next);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdown();
+    }
+
+    /**
+     * 고정 길이 구간 스케치 링 (구간 번호 = epoch 초 / slotSeconds)
+     */
+    private static final class SlotRing {
+        private final long slotSeconds;
+        private final AtomicReferenceArray<Slot> slots;
+
+        private SlotRing(long slotSeconds, int size) {
+            this.slotSeconds = slotSeconds;
+            this.slots = new AtomicReferenceArray<>(size);
+        }
+
+        private SpaceSaving sketch(long epochSecond) {
+            long index = epochSecond / slotSeconds;
+            int i = (int) (index % slots.length());
+            Slot slot = slots.get(i);
+            if (slot == null || slot.index() != index) {
+                Slot fresh = new Slot(index, new SpaceSaving(CAPACITY));
+                slot = slots.compareAndSet(i, slot, fresh) ? fresh : slots.get(i);
+            }
+            return slot.sketch();
+        }
+
+        // 현재 구간 포함 최근 count 개 구간
+        private List<SpaceSaving> recent(long epochSecond, int count) {
+            long current = epochSecond / slotSeconds;
+            List<SpaceSaving> sketches = new ArrayList<>(count);
+            for (int i = 0; i < slots.length(); i++) {
+                Slot slot = slots.get(i);
+                if (slot != null && current - slot.index() >= 0 && current - slot.index() < count) {
+                    sketches.add(slot.sketch());
+                }
+            }
+            return sketches;
+        }
+    }
+
+    private record Slot(long index, SpaceSaving sketch) {
+    }
+}
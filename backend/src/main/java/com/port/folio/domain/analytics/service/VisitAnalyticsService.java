@@ -0,0 +1,268 @@
+package com.port.folio.domain.analytics.service;
+
+import com.port.folio.domain.analytics.dto.VisitAnalyticsResponse;
+import com.port.folio.domain.analytics.dto.VisitPoint;
+import com.port.folio.domain.analytics.dto.VisitSeries;
+import com.port.folio.domain.analytics.entity.VisitRollup;
+import com.port.folio.domain.analytics.repository.VisitRollupRepository;
+import com.port.folio.domain.analytics.sketch.HyperLogLog;
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.tab.repository.TabRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 공개 페이지 방문 집계 (포트폴리오 publicId / 탭 단위)
+ * → 조회마다 DB 에 쓰지 않고 메모리의 1시간 버킷에 누적: 조회 수는 LongAdder, 고유 방문자는 HyperLogLog
+ * → flushSeconds 마다 버킷을 떼어내 visit_rollup 행에 합산 (범위 × 시간당 1행)
+ * → 조회 API 는 저장된 집계와 아직 반영되지 않은 버킷을 합쳐서 반환
+ * → 버킷의 HyperLogLog 는 sparse 로 시작하므로 방문이 적은 버킷은 수십~수백 바이트
+ */
+@Slf4j
+@Service
+public class VisitAnalyticsService {
+
+    public static final int MAX_DAYS = 90;
+    private static final int MAX_LIVE_BUCKETS = 100_000;
+
+    private final boolean enabled;
+    private final long flushSeconds;
+    private final TransactionTemplate tx;
+    private final VisitRollupRepository rollupRepository;
+    private final CategoryRepository categoryRepository;
+    private final TabRepository tabRepository;
+
+    private final Map<BucketKey, Bucket> live = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "visit-analytics-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public VisitAnalyticsService(
+            @Value("${custom.analytics.enabled:true}") boolean enabled,
+            @Value("${custom.analytics.flushSeconds:60}") long flushSeconds,
+            PlatformTransactionManager transactionManager,
+            VisitRollupRepository rollupRepository,
+            CategoryRepository categoryRepository,
+            TabRepository tabRepository
+    ) {
+        this.enabled = enabled;
+        this.flushSeconds = flushSeconds;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.rollupRepository = rollupRepository;
+        this.categoryRepository = categoryRepository;
+        this.tabRepository = tabRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception e) {
+                log.error("방문 집계 반영 실패", e);
+            }
+        }, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    public void recordPortfolio(String publicId, String visitor) {
+        record(portfolioScope(publicId), visitor, () -> true);
+    }
+
+    public void recordTab(Long tabId, String visitor) {
+        record(tabScope(tabId), visitor, () -> tabRepository.existsById(tabId));
+    }
+
+    // 버킷을 새로 만들 때만 (범위당 한 시간에 한 번) 대상 존재 확인 → 없는 tabId 로는 버킷이 생기지 않음
+    private void record(String scope, String visitor, BooleanSupplier exists) {
+        if (!enabled) return;
+        BucketKey key = new BucketKey(scope, LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+        Bucket bucket = live.get(key);
+        if (bucket == null) {
+            if (live.size() >= MAX_LIVE_BUCKETS) return;
+            if (!exists.getAsBoolean()) return;
+            bucket = live.computeIfAbsent(key, k -> new Bucket());
+        }
+        bucket.views.increment();
+        bucket.uniques.add(HyperLogLog.hash(visitor));
+    }
+
+    /**
+     * 메모리 버킷을 떼어내 DB 집계에 합산
+     * → 떼어내는 순간 진행 중이던 기록 몇 건은 빠질 수 있음 (통계용이므로 허용)
+     */
+    public synchronized void flush() {
+        Map<BucketKey, Bucket> drained = new HashMap<>();
+        for (BucketKey key : live.keySet()) {
+            Bucket bucket = live.remove(key);
+            if (bucket != null) drained.put(key, bucket);
+        }
+        if (drained.isEmpty()) return;
+
+        try {
+            tx.executeWithoutResult(status -> drained.forEach(this::mergeIntoRollup));
+        } catch (RuntimeException e) {
+            // 실패하면 다음 주기에 다시 반영
+            drained.forEach((key, bucket) -> live.merge(key, bucket, Bucket::mergedWith));
+            throw e;
+        }
+        log.debug("방문 집계 반영: 버킷 {}개", drained.size());
+    }
+
+    private void mergeIntoRollup(BucketKey key, Bucket bucket) {
+        VisitRollup rollup = rollupRepository.findByScopeAndBucketStart(key.scope(), key.hour()).orElse(null);
+        if (rollup == null) {
+            rollupRepository.save(VisitRollup.builder()
+                    .scope(key.scope())
+                    .bucketStart(key.hour())
+                    .views(bucket.views.sum())
+                    .sketch(bucket.uniques.toBytes())
+                    .build());
+            return;
+        }
+        HyperLogLog uniques = HyperLogLog.fromBytes(rollup.getSketch());
+        uniques.merge(bucket.uniques);
+        rollup.setViews(rollup.getViews() + bucket.views.sum());
+        rollup.setSketch(uniques.toBytes());
+    }
+
+    public boolean isOwner(Long categoryId, Long userId) {
+        return categoryRepository.findById(categoryId)
+                .map(category -> category.getUserId() != null && category.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("카테고리가 없습니다"));
+    }
+
+    /**
+     * 카테고리(포트폴리오 + 탭별) 방문 시계열
+     * → granularity: hour / day, 방문이 없는 구간은 생략
+     */
+    public VisitAnalyticsResponse series(Long categoryId, String granularity, int days) {
+        boolean daily = switch (granularity) {
+            case "day" -> true;
+            case "hour" -> false;
+            default -> throw new IllegalArgumentException("granularity 는 hour 또는 day 입니다");
+        };
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("기간은 1~" + MAX_DAYS + "일입니다");
+        }
+
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new IllegalArgumentException("카테고리가 없습니다"));
+        List<Long> tabIds = tabRepository.findIdsByCategoryId(categoryId);
+
+        Set<String> scopes = new LinkedHashSet<>();
+        scopes.add(portfolioScope(category.getPublicId()));
+        tabIds.forEach(tabId -> scopes.add(tabScope(tabId)));
+
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(days - 1);
+
+        Map<String, TreeMap<LocalDateTime, Accumulator>> byScope = new HashMap<>();
+        for (VisitRollup rollup : rollupRepository.findAllByScopeInAndBucketStartGreaterThanEqualOrderByBucketStart(scopes, from)) {
+            accumulator(byScope, rollup.getScope(), rollup.getBucketStart(), daily)
+                    .add(rollup.getViews(), HyperLogLog.fromBytes(rollup.getSketch()));
+        }
+        live.forEach((key, bucket) -> {
+            if (scopes.contains(key.scope()) && !key.hour().isBefore(from)) {
+                accumulator(byScope, key.scope(), key.hour(), daily).add(bucket.views.sum(), bucket.uniques);
+            }
+        });
+
+        List<VisitSeries> tabs = new ArrayList<>(tabIds.size());
+        for (Long tabId : tabIds) {
+            tabs.add(toSeries(tabId, byScope.get(tabScope(tabId))));
+        }
+        return new VisitAnalyticsResponse(categoryId, granularity,
+                toSeries(null, byScope.get(portfolioScope(category.getPublicId()))), tabs);
+    }
+
+    private Accumulator accumulator(Map<String, TreeMap<LocalDateTime, Accumulator>> byScope,
+                                    String scope, LocalDateTime hour, boolean daily) {
+        LocalDateTime start = daily ? hour.truncatedTo(ChronoUnit.DAYS) : hour;
+        return byScope.computeIfAbsent(scope, k -> new TreeMap<>())
+                .computeIfAbsent(start, k -> new Accumulator());
+    }
+
+    private VisitSeries toSeries(Long tabId, TreeMap<LocalDateTime, Accumulator> buckets) {
+        if (buckets == null) {
+            return new VisitSeries(tabId, 0, 0, List.of());
+        }
+        List<VisitPoint> points = new ArrayList<>(buckets.size());
+        HyperLogLog total = new HyperLogLog();
+        long totalViews = 0;
+        for (Map.Entry<LocalDateTime, Accumulator> entry : buckets.entrySet()) {
+            Accumulator acc = entry.getValue();
+            points.add(new VisitPoint(entry.getKey(), acc.views, acc.uniques.estimate()));
+            total.merge(acc.uniques);
+            totalViews += acc.views;
+        }
+        return new VisitSeries(tabId, totalViews, total.estimate(), points);
+    }
+
+    private static String portfolioScope(String publicId) {
+        return "p:" + publicId;
+    }
+
+    private static String tabScope(Long tabId) {
+        return "t:" + tabId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        if (!enabled) return;
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 전 방문 집계 반영 실패", e);
+        }
+    }
+
+    private record BucketKey(String scope, LocalDateTime hour) {
+    }
+
+    private static final class Bucket {
+        private final LongAdder views = new LongAdder();
+        private final HyperLogLog uniques = new HyperLogLog();
+
+        private Bucket mergedWith(Bucket other) {
+            views.add(other.views.sum());
+            uniques.merge(other.uniques);
+            return this;
+        }
+    }
+
+    private static final class Accumulator {
+        private long views;
+        private final HyperLogLog uniques = new HyperLogLog();
+
+        private void add(long views, HyperLogLog uniques) {
+            this.views += views;
+            this.uniques.merge(uniques);
+        }
+    }
+}
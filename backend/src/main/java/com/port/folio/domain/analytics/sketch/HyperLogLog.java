@@ -0,0 +1,202 @@
+package com.port.folio.domain.analytics.sketch;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 고유 방문자 수 추정 (HyperLogLog, 레지스터 2^PRECISION 개 = 2KB, 표준 오차 약 2.3%)
+ * → 같은 방문자는 몇 번 더해도 한 번으로 셈, 두 스케치는 레지스터별 max 로 합칠 수 있음 (시간 → 일 합산)
+ * → 방문자 식별값 자체는 저장하지 않음
+ * → 처음에는 sparse 표현((레지스터 번호 << 8) | 값 배열)으로 시작, SPARSE_MAX 개를 넘으면 2KB 배열로 전환
+ *   (방문이 적은 시간 버킷 대부분이 수십 바이트로 끝남)
+ */
+public class HyperLogLog {
+
+    public static final int PRECISION = 11;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+    static final int SPARSE_MAX = 128;
+
+    // dense 로 전환되기 전에는 null
+    private volatile byte[] registers;
+    private int[] sparse;
+    private int sparseSize;
+
+    public HyperLogLog() {
+        this.sparse = new int[8];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * 64비트 해시 하나 추가
+     * → dense 상태에서는 대부분의 재방문이 레지스터를 바꾸지 않으므로 잠금 없이 먼저 비교
+     */
+    public void add(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        byte[] dense = registers;
+        if (dense != null && dense[index] >= rank) return;
+        synchronized (this) {
+            update(index, rank);
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        byte[] otherDense;
+        int[] otherSparse;
+        synchronized (other) {
+            otherDense = other.registers;
+            otherSparse = otherDense == null ? Arrays.copyOf(other.sparse, other.sparseSize) : null;
+        }
+
+        synchronized (this) {
+            if (otherDense != null) {
+                byte[] dense = toDense();
+                for (int i = 0; i < REGISTERS; i++) {
+                    if (otherDense[i] > dense[i]) {
+                        dense[i] = otherDense[i];
+                    }
+                }
+                return;
+            }
+            for (int entry : otherSparse) {
+                update(entry >>> 8, (byte) entry);
+            }
+        }
+    }
+
+    public synchronized long estimate() {
+        byte[] view = registers != null ? registers : sparseView();
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : view) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // 작은 범위는 linear counting 이 더 정확
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * sparse 표현인지 (테스트 / 메모리 확인용)
+     */
+    public synchronized boolean isSparse() {
+        return registers == null;
+    }
+
+    // this 잠금 안에서 호출
+    private void update(int index, byte rank) {
+        byte[] dense = registers;
+        if (dense != null) {
+            if (dense[index] < rank) {
+                dense[index] = rank;
+            }
+            return;
+        }
+
+        for (int i = 0; i < sparseSize; i++) {
+            if (sparse[i] >>> 8 == index) {
+                if ((byte) sparse[i] < rank) {
+                    sparse[i] = (index << 8) | rank;
+                }
+                return;
+            }
+        }
+        if (sparseSize == SPARSE_MAX) {
+            toDense()[index] = rank;
+            return;
+        }
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(SPARSE_MAX, sparse.length * 2));
+        }
+        sparse[sparseSize++] = (index << 8) | rank;
+    }
+
+    // this 잠금 안에서 호출, dense 로 전환 후 레지스터 반환
+    private byte[] toDense() {
+        byte[] dense = registers;
+        if (dense == null) {
+            dense = sparseView();
+            sparse = null;
+            sparseSize = 0;
+            registers = dense;
+        }
+        return dense;
+    }
+
+    private byte[] sparseView() {
+        byte[] view = new byte[REGISTERS];
+        for (int i = 0; i < sparseSize; i++) {
+            view[sparse[i] >>> 8] = (byte) sparse[i];
+        }
+        return view;
+    }
+
+    /**
+     * 저장용 직렬화 (방문자가 적으면 레지스터 대부분이 0 이라 수십 바이트로 줄어듦)
+     */
+    public synchronized byte[] toBytes() {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(registers != null ? registers : sparseView());
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static HyperLogLog fromBytes(byte[] data) {
+        byte[] registers = new byte[REGISTERS];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            int read = 0;
+            while (read < REGISTERS && !inflater.finished()) {
+                int n = inflater.inflate(registers, read, REGISTERS - read);
+                if (n == 0 && inflater.needsInput()) break;
+                read += n;
+            }
+            if (read != REGISTERS) {
+                throw new IllegalArgumentException("잘못된 방문자 스케치입니다");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("잘못된 방문자 스케치입니다", e);
+        } finally {
+            inflater.end();
+        }
+        return new HyperLogLog(registers);
+    }
+
+    /**
+     * 문자열 → 64비트 해시 (FNV-1a + murmur3 finalizer 로 비트 고르게 섞음)
+     */
+    public static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
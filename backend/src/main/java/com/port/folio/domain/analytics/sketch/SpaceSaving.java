@@ -0,0 +1,79 @@
+package com.port.folio.domain.analytics.sketch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자주 등장하는 키 추적 (Space-Saving, 카운터 capacity 개로 메모리 고정)
+ * → 추적 중이 아닌 키가 들어오고 자리가 없으면 가장 작은 카운터를 넘겨받음 (count = 최소값 + 1, error = 최소값)
+ * → 실제 빈도가 전체의 1/capacity 를 넘는 키는 반드시 남음, count 는 실제 값 이상 (최대 error 만큼 과대)
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSaving(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(String key) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, 1, 0));
+            return;
+        }
+
+        Counter min = null;
+        for (Counter c : counters.values()) {
+            if (min == null || c.count < min.count) min = c;
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, min.count + 1, min.count));
+    }
+
+    /**
+     * 여러 구간 스케치의 합산 상위 limit 개 (키별 count 합, 많은 순)
+     */
+    public static List<Entry> top(Collection<SpaceSaving> sketches, int limit) {
+        Map<String, long[]> merged = new HashMap<>();
+        for (SpaceSaving sketch : sketches) {
+            synchronized (sketch) {
+                for (Counter c : sketch.counters.values()) {
+                    long[] acc = merged.computeIfAbsent(c.key, k -> new long[2]);
+                    acc[0] += c.count;
+                    acc[1] += c.error;
+                }
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>(merged.size());
+        merged.forEach((key, acc) -> entries.add(new Entry(key, acc[0], acc[1])));
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key));
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+
+    public record Entry(String key, long count, long error) {
+    }
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+
+        private Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
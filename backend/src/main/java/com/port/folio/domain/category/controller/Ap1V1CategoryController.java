@@ -5,6 +5,7 @@ import com.port.folio.domain.category.dto.CategoryResponse;
 import com.port.folio.domain.category.entity.Category;
 import com.port.folio.domain.category.repository.CategoryRepository;
 import com.port.folio.domain.category.service.CategoryService;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Repository;
@@ -17,6 +18,7 @@ import java.util.List;
 @RequestMapping("/api/category")
 public class Ap1V1CategoryController {
     private final CategoryService categoryService;
+    private final CursorPaging cursorPaging;
 
     @PostMapping
     public ResponseEntity<Category> createCategory(@RequestBody CategoryRequest req, @RequestParam Long userId) {
@@ -25,9 +27,10 @@ public class Ap1V1CategoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> categoryList(@RequestParam Long userId) {
-        List<CategoryResponse> categories = categoryService.getCategories(userId);
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<CategoryResponse>> categoryList(@RequestParam Long userId,
+                                                               @RequestParam(required = false) Long cursor,
+                                                               @RequestParam(required = false) Integer size) {
+        return cursorPaging.respond(cursor, size, (c, n) -> categoryService.getCategories(userId, c, n));
     }
 
     @DeleteMapping
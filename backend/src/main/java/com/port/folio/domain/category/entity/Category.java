@@ -23,7 +23,8 @@ import java.util.UUID;
 @AllArgsConstructor
 @Entity
 @Table(name = "category", indexes = {
-        @Index(name = "idx_category_public_id", columnList = "public_id", unique = true)
+        @Index(name = "idx_category_public_id", columnList = "public_id", unique = true),
+        @Index(name = "idx_category_user_id_id", columnList = "user_id, id")
 })
 public class Category extends BaseEntity {
 
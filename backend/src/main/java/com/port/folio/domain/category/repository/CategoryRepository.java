@@ -1,13 +1,46 @@
 package com.port.folio.domain.category.repository;
 
 import com.port.folio.domain.category.entity.Category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category,Long> {
     List<Category> findAllByUserId(Long userId);
+    List<Category> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
     Optional<Category> findByPublicId(String publicId);
+
+    // 인기 포트폴리오 표시용 요약 (엔티티 로딩 없이)
+    @Query("SELECT c.id AS id, c.publicId AS publicId, c.categoryTitle AS categoryTitle, c.userId AS userId " +
+            "FROM Category c WHERE c.publicId IN :publicIds")
+    List<CategorySummaryRow> findSummariesByPublicIdIn(@Param("publicIds") Collection<String> publicIds);
+
     void deleteByUserId(Long userId);
+
+    long countByUserId(Long userId);
+
+    @Query("SELECT c.id FROM Category c WHERE c.userId = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 대표 동영상 FK 해제 (file 일괄 삭제 전에 필요)
+    @Modifying
+    @Query("UPDATE Category c SET c.mainVideo = null WHERE c.id = :id")
+    int clearMainVideo(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+
+    interface CategorySummaryRow {
+        Long getId();
+        String getPublicId();
+        String getCategoryTitle();
+        Long getUserId();
+    }
 }
@@ -4,16 +4,26 @@ import com.port.folio.domain.category.dto.CategoryRequest;
 import com.port.folio.domain.category.dto.CategoryResponse;
 import com.port.folio.domain.category.entity.Category;
 import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.post.repository.FileRepository;
+import com.port.folio.domain.post.repository.IntroduceRepository;
+import com.port.folio.domain.post.repository.PostRepository;
 import com.port.folio.domain.tab.entity.BasicTab;
 import com.port.folio.domain.tab.repository.BasicTabRepository;
+import com.port.folio.domain.tab.repository.TabRepository;
+import com.port.folio.domain.tag.repository.TagRepository;
 import com.port.folio.domain.user.entity.User;
 import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.event.StorageKeysReleasedEvent;
+import com.port.folio.global.paging.CursorPage;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -22,6 +32,13 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final BasicTabRepository basicTabRepository;
+    private final TabRepository tabRepository;
+    private final PostRepository postRepository;
+    private final TagRepository tagRepository;
+    private final IntroduceRepository introduceRepository;
+    private final FileRepository fileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
     public Category createCategory(CategoryRequest req, Long userId){
 
         Category category = Category.builder()
@@ -40,27 +57,60 @@ public class CategoryService {
 
         Category category1 = categoryRepository.save(category);
         basicTabRepository.save(basicTab);
+        publishChanged(userId, category1.getId(), category1.getPublicId());
 
         return category1;
     }
 
-    public List<CategoryResponse> getCategories(Long userId){
-        List<Category> categories = categoryRepository.findAllByUserId(userId);
-        return categories.stream()
-                .map(category -> new CategoryResponse(
-                        category.getId(),
-                        category.getPublicId(),
-                        category.getCategoryTitle(),
-                        category.getCreatedAt(),
-                        category.getUpdatedAt()
-                ))
-                .collect(Collectors.toList());
+    public CursorPage<CategoryResponse> getCategories(Long userId, Long cursor, int size){
+        List<Category> categories = categoryRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                userId, CursorPaging.after(cursor), CursorPaging.fetchOneMore(size));
+        return CursorPage.of(categories, size, Category::getId, category -> new CategoryResponse(
+                category.getId(),
+                category.getPublicId(),
+                category.getCategoryTitle(),
+                category.getCreatedAt(),
+                category.getUpdatedAt()
+        ));
     }
 
     public void deleteCategory (Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(()-> new IllegalArgumentException("카테고리가 없습니다"));
 
-        categoryRepository.delete(category);
+        // 하위 엔티티를 로딩하지 않고 FK 의존 순서대로 일괄 DELETE
+        // (post → tab, 나머지 → category, category.main_video → file)
+        List<String> fileKeys = fileRepository.findKeyRowsByCategoryId(categoryId).stream()
+                .flatMap(row -> row.keys().stream())
+                .toList();
+        // 탭 범위로만 캐시되는 응답(글 목록 등)도 무효화해야 하므로 삭제 전에 탭 id 확보
+        List<Long> tabIds = tabRepository.findIdsByCategoryId(categoryId);
+        postRepository.bulkDeleteByCategoryId(categoryId);
+        tabRepository.bulkDeleteByCategoryId(categoryId);
+        tagRepository.bulkDeleteByCategoryId(categoryId);
+        introduceRepository.bulkDeleteByCategoryId(categoryId);
+        basicTabRepository.bulkDeleteByCategoryId(categoryId);
+        categoryRepository.clearMainVideo(categoryId);
+        fileRepository.bulkDeleteByCategoryId(categoryId);
+        categoryRepository.bulkDeleteById(categoryId);
+
+        // S3 객체는 커밋 이후 비동기 삭제
+        eventPublisher.publishEvent(new StorageKeysReleasedEvent(fileKeys));
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.CATEGORY)
+                .userId(category.getUserId())
+                .categoryId(categoryId)
+                .publicId(category.getPublicId())
+                .tabIds(tabIds)
+                .build());
+    }
+
+    private void publishChanged(Long userId, Long categoryId, String publicId) {
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.CATEGORY)
+                .userId(userId)
+                .categoryId(categoryId)
+                .publicId(publicId)
+                .build());
     }
 }
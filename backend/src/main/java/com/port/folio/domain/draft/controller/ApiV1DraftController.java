@@ -0,0 +1,71 @@
+package com.port.folio.domain.draft.controller;
+
+import com.port.folio.domain.draft.dto.DraftResponse;
+import com.port.folio.domain.draft.dto.DraftSaveRequest;
+import com.port.folio.domain.draft.entity.DraftKind;
+import com.port.folio.domain.draft.service.DraftService;
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.global.rq.Rq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 편집기 자동 저장 (kind: post → targetId = tabId / basic → targetId = categoryId)
+ * → 응답 캐시 대상 경로(/api/posts, /api/v1/tab) 밖에 둠
+ * → 로그인한 대상 소유자만 가능 (비로그인 401, 대상 없음 404, 남의 대상 403)
+ */
+@RestController
+@RequestMapping("/api/drafts")
+@RequiredArgsConstructor
+public class ApiV1DraftController {
+    private final DraftService draftService;
+    private final Rq rq;
+
+    @PutMapping("/{kind}")
+    public ResponseEntity<DraftResponse> save(@PathVariable String kind, @RequestParam Long targetId,
+                                              @RequestBody DraftSaveRequest req) {
+        DraftKind draftKind = DraftKind.from(kind);
+        HttpStatus denied = checkOwner(draftKind, targetId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        return ResponseEntity.ok(draftService.save(draftKind, targetId, req));
+    }
+
+    @GetMapping("/{kind}")
+    public ResponseEntity<DraftResponse> get(@PathVariable String kind, @RequestParam Long targetId) {
+        DraftKind draftKind = DraftKind.from(kind);
+        HttpStatus denied = checkOwner(draftKind, targetId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        DraftResponse draft = draftService.get(draftKind, targetId);
+        return draft == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(draft);
+    }
+
+    @PostMapping("/{kind}/publish")
+    public ResponseEntity<String> publish(@PathVariable String kind, @RequestParam Long targetId) {
+        DraftKind draftKind = DraftKind.from(kind);
+        HttpStatus denied = checkOwner(draftKind, targetId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        draftService.publish(draftKind, targetId);
+        return ResponseEntity.ok("게시 완료");
+    }
+
+    // 통과하면 null
+    private HttpStatus checkOwner(DraftKind kind, Long targetId) {
+        User actor = rq.getActor();
+        if (actor == null) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        Long ownerId = draftService.findOwnerId(kind, targetId);
+        if (ownerId == null) {
+            return HttpStatus.NOT_FOUND;
+        }
+        return actor.getId().equals(ownerId) ? null : HttpStatus.FORBIDDEN;
+    }
+}
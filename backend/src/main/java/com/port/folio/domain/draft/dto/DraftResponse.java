@@ -0,0 +1,21 @@
+package com.port.folio.domain.draft.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초안 조회 / 저장 결과
+ * → persisted=false: 아직 메모리 + 저널에만 있음 (다음 주기에 DB 반영)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DraftResponse {
+    private String content;
+    private String imageUrl;
+    private LocalDateTime savedAt;
+    private boolean persisted;
+}
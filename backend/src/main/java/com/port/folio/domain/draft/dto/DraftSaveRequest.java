@@ -0,0 +1,17 @@
+package com.port.folio.domain.draft.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자동 저장 요청 (편집기의 현재 상태 전체)
+ * → imageUrl 은 게시글 초안에서만 사용
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DraftSaveRequest {
+    private String content;
+    private String imageUrl;
+}
@@ -0,0 +1,41 @@
+package com.port.folio.domain.draft.entity;
+
+import com.port.folio.global.Jpa.BaseEntity;
+import com.port.folio.global.Jpa.CompressedTextConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 게시 전 편집 중인 본문 (대상마다 1행)
+ * → 공개 페이지는 게시된 본문(Post / BasicTab)만 읽으므로 초안은 노출되지 않음
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_content_draft_target", columnNames = {"kind", "target_id"}))
+@SuperBuilder
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentDraft extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DraftKind kind;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_z", length = CompressedTextConverter.COLUMN_LENGTH)
+    private String content;
+
+    private String imageUrl;
+}
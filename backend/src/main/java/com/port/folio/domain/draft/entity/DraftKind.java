@@ -0,0 +1,19 @@
+package com.port.folio.domain.draft.entity;
+
+/**
+ * 초안 대상
+ * → POST: 게시글 본문 (targetId = tabId)
+ * → BASIC_TAB: 기본 탭 본문 (targetId = categoryId)
+ */
+public enum DraftKind {
+    POST,
+    BASIC_TAB;
+
+    public static DraftKind from(String value) {
+        return switch (value) {
+            case "post" -> POST;
+            case "basic" -> BASIC_TAB;
+            default -> throw new IllegalArgumentException("초안 종류가 올바르지 않습니다: " + value);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.port.folio.domain.draft.repository;
+
+import com.port.folio.domain.draft.entity.ContentDraft;
+import com.port.folio.domain.draft.entity.DraftKind;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ContentDraftRepository extends JpaRepository<ContentDraft, Long> {
+
+    Optional<ContentDraft> findByKindAndTargetId(DraftKind kind, Long targetId);
+
+    @Modifying
+    @Query("DELETE FROM ContentDraft d WHERE d.kind = :kind AND d.targetId = :targetId")
+    int bulkDeleteByKindAndTargetId(@Param("kind") DraftKind kind, @Param("targetId") Long targetId);
+
+    @Modifying
+    @Query("DELETE FROM ContentDraft d WHERE d.kind = :kind AND d.targetId IN :targetIds")
+    int bulkDeleteByKindAndTargetIdIn(@Param("kind") DraftKind kind, @Param("targetIds") Collection<Long> targetIds);
+}
@@ -0,0 +1,456 @@
+package com.port.folio.domain.draft.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.port.folio.domain.draft.dto.DraftResponse;
+import com.port.folio.domain.draft.dto.DraftSaveRequest;
+import com.port.folio.domain.draft.entity.ContentDraft;
+import com.port.folio.domain.draft.entity.DraftKind;
+import com.port.folio.domain.draft.repository.ContentDraftRepository;
+import com.port.folio.domain.post.dto.CreatePostDto;
+import com.port.folio.domain.post.repository.PostRepository;
+import com.port.folio.domain.post.service.PostService;
+import com.port.folio.domain.tab.dto.BasicTabUpdateReq;
+import com.port.folio.domain.tab.repository.BasicTabRepository;
+import com.port.folio.domain.tab.service.TabService;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 편집기 자동 저장 버퍼 (write-behind)
+ * → 저장 요청은 대상별 마지막 상태만 메모리에 두고 로컬 저널(JSON 한 줄씩 append)에 기록한 뒤 바로 반환
+ * → flushSeconds 주기 / 게시 / 종료 시에 마지막 상태만 content_draft 테이블에 반영 (연속 저장은 한 번의 쓰기로 합쳐짐)
+ * → 게시(publish) 해야 Post / BasicTab 에 반영되므로 공개 페이지는 마지막으로 게시한 본문만 보임
+ * → 비정상 종료 시 기동하면서 저널을 다시 읽어 반영되지 않은 초안 복구
+ * → 메모리 초안이 maxBuffered 건 / maxBufferedChars 자를 넘으면 주기를 기다리지 않고 바로 반영 (2배를 넘으면 저장 요청이 직접 반영)
+ * → 카테고리 / 탭 삭제(탈퇴 시 카테고리 삭제 포함) 커밋 후 해당 대상의 메모리 초안과 content_draft 행 삭제
+ * → 반영 시점에 대상이 이미 없으면 행을 만들지 않음 (삭제와 겹친 반영, 저널에서 복구된 초안)
+ */
+@Slf4j
+@Service
+public class DraftService {
+
+    private static final int MAX_CONTENT_LENGTH = 2_000_000;
+
+    private final long flushSeconds;
+    private final int maxBuffered;
+    private final long maxBufferedChars;
+    private final boolean fsync;
+    private final Path journalPath;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate requiresNew;
+    private final ContentDraftRepository draftRepository;
+    private final PostRepository postRepository;
+    private final BasicTabRepository basicTabRepository;
+    private final PostService postService;
+    private final TabService tabService;
+
+    // DB 에 아직 반영되지 않은 초안 (this 로 보호)
+    private final Map<DraftKey, Draft> dirty = new HashMap<>();
+    private long bufferedChars;
+    private boolean earlyFlushScheduled;
+    private FileChannel journal;
+    private long sequence;
+    private long savesSinceFlush;
+
+    // 주기 반영 / 게시 / 종료 반영이 겹치지 않도록
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "draft-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public DraftService(
+            @Value("${custom.draft.flushSeconds:30}") long flushSeconds,
+            @Value("${custom.draft.maxBuffered:1000}") int maxBuffered,
+            @Value("${custom.draft.maxBufferedChars:20000000}") long maxBufferedChars,
+            @Value("${custom.draft.fsync:false}") boolean fsync,
+            @Value("${custom.genFile.dirPath}") String dirPath,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ContentDraftRepository draftRepository,
+            PostRepository postRepository,
+            BasicTabRepository basicTabRepository,
+            PostService postService,
+            TabService tabService
+    ) throws IOException {
+        this.flushSeconds = flushSeconds;
+        this.maxBuffered = maxBuffered;
+        this.maxBufferedChars = maxBufferedChars;
+        this.fsync = fsync;
+        this.journalPath = Path.of(dirPath, "draft.journal").toAbsolutePath();
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.draftRepository = draftRepository;
+        this.postRepository = postRepository;
+        this.basicTabRepository = basicTabRepository;
+        this.postService = postService;
+        this.tabService = tabService;
+
+        Files.createDirectories(journalPath.getParent());
+        replay();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception e) {
+                log.error("초안 반영 실패 (저널에 남아 있으므로 다음 주기에 재시도)", e);
+            }
+        }, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 초안 대상의 소유자 (post → 탭의 게시글, basic → 카테고리의 기본 탭 / 대상이 없으면 null)
+     */
+    public Long findOwnerId(DraftKind kind, Long targetId) {
+        return tx.execute(status -> ownerId(kind, targetId));
+    }
+
+    private Long ownerId(DraftKind kind, Long targetId) {
+        return switch (kind) {
+            case POST -> postRepository.findOwnerIdByTabId(targetId).orElse(null);
+            case BASIC_TAB -> basicTabRepository.findOwnerIdByCategoryId(targetId).orElse(null);
+        };
+    }
+
+    /**
+     * 자동 저장: 메모리 + 저널에만 기록 (대상 존재 / 소유자 확인은 호출하는 쪽에서)
+     */
+    public DraftResponse save(DraftKind kind, Long targetId, DraftSaveRequest req) {
+        if (req.getContent() != null && req.getContent().length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("본문이 너무 깁니다");
+        }
+
+        Draft draft;
+        boolean flushNow = false;
+        boolean flushSoon = false;
+        synchronized (this) {
+            draft = new Draft(kind, targetId, req.getContent(), req.getImageUrl(), LocalDateTime.now(), ++sequence);
+            append(draft);
+            Draft previous = dirty.put(new DraftKey(kind, targetId), draft);
+            bufferedChars += length(draft) - length(previous);
+            savesSinceFlush++;
+
+            if (dirty.size() >= 2L * maxBuffered || bufferedChars >= 2 * maxBufferedChars) {
+                flushNow = true;
+            } else if ((dirty.size() >= maxBuffered || bufferedChars >= maxBufferedChars) && !earlyFlushScheduled) {
+                earlyFlushScheduled = true;
+                flushSoon = true;
+            }
+        }
+
+        if (flushNow) {
+            // 반영이 밀려 한도의 2배까지 쌓이면 저장하는 쪽이 직접 반영 → 메모리 상한 유지
+            flush();
+        } else if (flushSoon) {
+            flusher.execute(() -> {
+                try {
+                    flush();
+                } catch (Exception e) {
+                    log.error("초안 조기 반영 실패 (저널에 남아 있으므로 다음 주기에 재시도)", e);
+                }
+            });
+        }
+        return new DraftResponse(draft.content(), draft.imageUrl(), draft.savedAt(), false);
+    }
+
+    /**
+     * 편집 중인 초안 조회 (없으면 null)
+     */
+    public DraftResponse get(DraftKind kind, Long targetId) {
+        Draft draft;
+        synchronized (this) {
+            draft = dirty.get(new DraftKey(kind, targetId));
+        }
+        if (draft != null) {
+            return new DraftResponse(draft.content(), draft.imageUrl(), draft.savedAt(), false);
+        }
+        return tx.execute(status -> draftRepository.findByKindAndTargetId(kind, targetId)
+                .map(row -> new DraftResponse(row.getContent(), row.getImageUrl(), row.getUpdatedAt(), true))
+                .orElse(null));
+    }
+
+    /**
+     * 게시: 마지막 초안을 본문에 반영하고 초안 삭제
+     * → 게시 도중 들어온 저장은 새 초안으로 남음
+     */
+    public void publish(DraftKind kind, Long targetId) {
+        DraftKey key = new DraftKey(kind, targetId);
+        synchronized (flushLock) {
+            Draft draft;
+            synchronized (this) {
+                draft = dirty.get(key);
+            }
+
+            String content;
+            String imageUrl;
+            if (draft != null) {
+                content = draft.content();
+                imageUrl = draft.imageUrl();
+            } else {
+                ContentDraft row = tx.execute(status -> draftRepository.findByKindAndTargetId(kind, targetId).orElse(null));
+                if (row == null) {
+                    throw new IllegalArgumentException("게시할 초안이 없습니다");
+                }
+                content = row.getContent();
+                imageUrl = row.getImageUrl();
+            }
+
+            tx.executeWithoutResult(status -> {
+                switch (kind) {
+                    case POST -> {
+                        CreatePostDto dto = new CreatePostDto();
+                        dto.setContent(content);
+                        dto.setImageUrl(imageUrl);
+                        postService.updatePost(dto, targetId);
+                    }
+                    case BASIC_TAB -> tabService.updateBasicContent(new BasicTabUpdateReq(content), targetId);
+                }
+                draftRepository.bulkDeleteByKindAndTargetId(kind, targetId);
+            });
+
+            if (draft != null) {
+                synchronized (this) {
+                    if (dirty.remove(key, draft)) {
+                        bufferedChars -= length(draft);
+                    }
+                    compactJournal();
+                }
+            }
+        }
+    }
+
+    /**
+     * 메모리 초안을 DB 에 반영 (대상별 마지막 상태 1건씩, 한 트랜잭션)
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<Draft> pending;
+            long saves;
+            synchronized (this) {
+                earlyFlushScheduled = false;
+                if (dirty.isEmpty()) return;
+                pending = new ArrayList<>(dirty.values());
+                saves = savesSinceFlush;
+                savesSinceFlush = 0;
+            }
+
+            tx.executeWithoutResult(status -> pending.forEach(this::upsert));
+
+            synchronized (this) {
+                // 반영하는 동안 새로 저장된 초안은 남겨 둠
+                for (Draft draft : pending) {
+                    if (dirty.remove(new DraftKey(draft.kind(), draft.targetId()), draft)) {
+                        bufferedChars -= length(draft);
+                    }
+                }
+                compactJournal();
+            }
+            log.debug("초안 반영: 저장 요청 {}건 → DB 쓰기 {}건", saves, pending.size());
+        }
+    }
+
+    // 대상이 사라졌으면 (삭제 커밋 이후 반영) 고아 행을 만들지 않고 버림
+    private void upsert(Draft draft) {
+        if (ownerId(draft.kind(), draft.targetId()) == null) {
+            log.debug("대상이 없는 초안 버림: {} {}", draft.kind(), draft.targetId());
+            return;
+        }
+        ContentDraft row = draftRepository.findByKindAndTargetId(draft.kind(), draft.targetId())
+                .orElseGet(() -> ContentDraft.builder()
+                        .kind(draft.kind())
+                        .targetId(draft.targetId())
+                        .build());
+        row.setContent(draft.content());
+        row.setImageUrl(draft.imageUrl());
+        draftRepository.save(row);
+    }
+
+    /**
+     * 삭제 커밋 이후 해당 대상 초안 정리
+     * → 카테고리 삭제: tabIds 가 채워진 CATEGORY 이벤트 → 기본 탭 초안 + 탭 게시글 초안
+     * → 탭 삭제: TAB 이벤트 중 게시글 소유자가 더 이상 없는 탭 (수정 이벤트는 그대로 둠)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.getType() == ChangeType.CATEGORY && event.getTabIds() != null) {
+            discard(DraftKind.BASIC_TAB, List.of(event.getCategoryId()));
+            discard(DraftKind.POST, event.getTabIds());
+        } else if (event.getType() == ChangeType.TAB && event.getTabId() != null
+                && findOwnerId(DraftKind.POST, event.getTabId()) == null) {
+            discard(DraftKind.POST, List.of(event.getTabId()));
+        }
+    }
+
+    /**
+     * 메모리 초안과 content_draft 행 삭제
+     * → flushLock 으로 반영과 순서를 맞춤 (삭제 전에 시작한 반영이 만든 행도 여기서 지워짐)
+     */
+    public void discard(DraftKind kind, List<Long> targetIds) {
+        if (targetIds.isEmpty()) return;
+        synchronized (flushLock) {
+            synchronized (this) {
+                boolean removed = false;
+                for (Long targetId : targetIds) {
+                    Draft draft = dirty.remove(new DraftKey(kind, targetId));
+                    if (draft != null) {
+                        bufferedChars -= length(draft);
+                        removed = true;
+                    }
+                }
+                if (removed) {
+                    compactJournal();
+                }
+            }
+            requiresNew.executeWithoutResult(status -> draftRepository.bulkDeleteByKindAndTargetIdIn(kind, targetIds));
+        }
+    }
+
+    private static long length(Draft draft) {
+        return draft == null || draft.content() == null ? 0 : draft.content().length();
+    }
+
+    // this 잠금 안에서 호출
+    private void append(Draft draft) {
+        try {
+            writeLine(journal, draft);
+            if (fsync) journal.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException("초안 저널 기록 실패", e);
+        }
+    }
+
+    /**
+     * 저널을 아직 반영되지 않은 초안만으로 다시 씀 (임시 파일 → rename), this 잠금 안에서 호출
+     * → 실패하면 기존 저널을 그대로 쓰므로 복구 시 이미 반영된 초안이 한 번 더 반영될 뿐
+     */
+    private void compactJournal() {
+        Path tmp = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (Draft draft : dirty.values()) {
+                    writeLine(out, draft);
+                }
+                out.force(false);
+            }
+            journal.close();
+            Files.move(tmp, journalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("초안 저널 정리 실패", e);
+        } finally {
+            try {
+                if (!journal.isOpen()) {
+                    journal = openJournal();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("초안 저널을 열 수 없습니다", e);
+            }
+        }
+    }
+
+    /**
+     * 기동 시 저널 복구 (마지막 줄이 쓰다 만 줄이면 그 앞까지만)
+     */
+    private void replay() throws IOException {
+        if (Files.exists(journalPath)) {
+            int recovered = 0;
+            try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    Draft draft;
+                    try {
+                        draft = objectMapper.readValue(line, Draft.class);
+                    } catch (JsonProcessingException e) {
+                        log.warn("초안 저널 끝의 손상된 기록 무시");
+                        break;
+                    }
+                    dirty.merge(new DraftKey(draft.kind(), draft.targetId()), draft,
+                            (a, b) -> a.seq() >= b.seq() ? a : b);
+                    sequence = Math.max(sequence, draft.seq());
+                    recovered++;
+                }
+            }
+            bufferedChars = dirty.values().stream().mapToLong(DraftService::length).sum();
+            if (recovered > 0) {
+                log.info("초안 저널 복구: 기록 {}건, 대상 {}건", recovered, dirty.size());
+            }
+        }
+
+        journal = openJournal();
+        synchronized (this) {
+            compactJournal();
+        }
+    }
+
+    private FileChannel openJournal() throws IOException {
+        return FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void writeLine(FileChannel channel, Draft draft) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(draft);
+        ByteBuffer buffer = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 전 초안 반영 실패 (저널에서 다음 기동 시 복구)", e);
+        }
+        synchronized (this) {
+            try {
+                journal.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private record DraftKey(DraftKind kind, Long targetId) {
+    }
+
+    private record Draft(DraftKind kind, Long targetId, String content, String imageUrl,
+                         LocalDateTime savedAt, long seq) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.port.folio.domain.export.controller;
+
+import com.port.folio.domain.export.service.PortfolioExportService;
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.global.rq.Rq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ApiV1ExportController {
+    private final PortfolioExportService portfolioExportService;
+    private final Rq rq;
+
+    // 포트폴리오 전체 ZIP 다운로드, 본인만 가능 (동시 내보내기 한도 초과 시 429)
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam Long userId) {
+        User actor = rq.getActor();
+        if (actor == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!actor.getId().equals(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        portfolioExportService.validate(userId);
+
+        if (!portfolioExportService.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try {
+                portfolioExportService.export(userId, out);
+            } finally {
+                portfolioExportService.release();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"portfolio-" + userId + ".zip\"")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+}
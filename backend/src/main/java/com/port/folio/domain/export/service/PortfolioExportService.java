@@ -0,0 +1,438 @@
+package com.port.folio.domain.export.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.main.entity.CardSlot;
+import com.port.folio.domain.main.entity.Main;
+import com.port.folio.domain.main.entity.SkillCard;
+import com.port.folio.domain.main.entity.SkillCategory;
+import com.port.folio.domain.main.repository.MainRepository;
+import com.port.folio.domain.main.repository.SkillCardRepository;
+import com.port.folio.domain.main.repository.SkillCategoryRepository;
+import com.port.folio.domain.main.repository.UserLocationRepository;
+import com.port.folio.domain.post.entity.File;
+import com.port.folio.domain.post.entity.Introduce;
+import com.port.folio.domain.post.repository.FileRepository;
+import com.port.folio.domain.post.repository.FileRepository.FileExportRow;
+import com.port.folio.domain.post.repository.IntroduceRepository;
+import com.port.folio.domain.tab.entity.BasicTab;
+import com.port.folio.domain.tab.entity.Tab;
+import com.port.folio.domain.tab.repository.BasicTabRepository;
+import com.port.folio.domain.tab.repository.TabRepository;
+import com.port.folio.domain.tag.entity.Tag;
+import com.port.folio.domain.tag.repository.TagRepository;
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.global.aws.S3Service;
+import com.port.folio.global.paging.CursorPaging;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 유저 포트폴리오 전체를 ZIP 으로 내보내기
+ * → DB 를 읽는 동안에는 클라이언트에 쓰지 않음 (느린 다운로드가 커넥션 / 서버 커서를 붙잡지 않도록)
+ *   → JSON 문서(프로필, 카테고리 하나)는 짧은 읽기 트랜잭션 안에서 메모리에 만든 뒤, 커밋 후 zip 에 기록
+ *   → 파일은 키 + 메타데이터만 작은 배치로 읽고 트랜잭션을 닫은 다음 S3 객체를 입력 스트림 그대로 흘려 씀
+ * → 메모리에는 "JSON 문서 하나 / 파일 행 배치 하나 / 복사 버퍼 하나" 만 있으므로 포트폴리오 크기와 무관
+ * → 동시 내보내기 수는 custom.export.maxConcurrent 로 제한
+ *
+ * 아카이브 구조
+ *   manifest.json
+ *   profile.json, profile/{파일명}
+ *   categories/{categoryId}/category.json
+ *   categories/{categoryId}/files/{fileId}.json, categories/{categoryId}/files/{fileId}/{파일명}
+ */
+@Slf4j
+@Service
+public class PortfolioExportService {
+
+    public static final int FORMAT_VERSION = 1;
+    private static final int CATEGORY_PAGE_SIZE = 100;
+    private static final int FILE_BATCH_SIZE = 100;
+
+    private final Semaphore permits;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final EntityManager entityManager;
+    private final S3Service s3Service;
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final BasicTabRepository basicTabRepository;
+    private final IntroduceRepository introduceRepository;
+    private final TabRepository tabRepository;
+    private final TagRepository tagRepository;
+    private final FileRepository fileRepository;
+    private final MainRepository mainRepository;
+    private final SkillCategoryRepository skillCategoryRepository;
+    private final SkillCardRepository skillCardRepository;
+    private final UserLocationRepository userLocationRepository;
+
+    public PortfolioExportService(
+            @Value("${custom.export.maxConcurrent:2}") int maxConcurrent,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            EntityManager entityManager,
+            S3Service s3Service,
+            UserRepository userRepository,
+            CategoryRepository categoryRepository,
+            BasicTabRepository basicTabRepository,
+            IntroduceRepository introduceRepository,
+            TabRepository tabRepository,
+            TagRepository tagRepository,
+            FileRepository fileRepository,
+            MainRepository mainRepository,
+            SkillCategoryRepository skillCategoryRepository,
+            SkillCardRepository skillCardRepository,
+            UserLocationRepository userLocationRepository
+    ) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.s3Service = s3Service;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.basicTabRepository = basicTabRepository;
+        this.introduceRepository = introduceRepository;
+        this.tabRepository = tabRepository;
+        this.tagRepository = tagRepository;
+        this.fileRepository = fileRepository;
+        this.mainRepository = mainRepository;
+        this.skillCategoryRepository = skillCategoryRepository;
+        this.skillCardRepository = skillCardRepository;
+        this.userLocationRepository = userLocationRepository;
+    }
+
+    /**
+     * 스트리밍 시작 전에 검증 (응답 헤더가 나간 뒤에는 에러 응답을 줄 수 없음)
+     */
+    public void validate(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("유저가 없습니다");
+        }
+    }
+
+    /**
+     * 내보내기 슬롯 확보 (가득 차 있으면 false → 호출자는 429 응답)
+     */
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * out 에 ZIP 을 스트리밍으로 기록 (out 은 닫지 않음)
+     */
+    public void export(Long userId, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        // 업로드 파일 대부분이 이미 압축된 포맷이므로 압축률보다 속도 우선
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        writeManifest(zip, userId);
+        writeProfile(zip, userId);
+        writeCategories(zip, userId);
+
+        zip.finish();
+        zip.flush();
+        log.info("포트폴리오 내보내기 완료: userId={}, {}ms", userId, System.currentTimeMillis() - started);
+    }
+
+    private void writeManifest(ZipOutputStream zip, Long userId) throws IOException {
+        zip.putNextEntry(new ZipEntry("manifest.json"));
+        try (JsonGenerator gen = generator(zip)) {
+            gen.writeStartObject();
+            gen.writeNumberField("version", FORMAT_VERSION);
+            gen.writeNumberField("userId", userId);
+            gen.writeStringField("exportedAt", LocalDateTime.now().toString());
+            gen.writeEndObject();
+        }
+        zip.closeEntry();
+    }
+
+    // 트랜잭션 안에서 만든 JSON 문서 + 함께 복사할 저장소 객체 (없으면 null)
+    private record RenderedProfile(byte[] json, String imagePath, String imageKey) {
+    }
+
+    private void writeProfile(ZipOutputStream zip, Long userId) throws IOException {
+        RenderedProfile profile = inReadOnlyTx(() -> renderProfile(userId));
+        writeEntry(zip, "profile.json", profile.json());
+        if (profile.imageKey() != null) {
+            copyObject(zip, profile.imagePath(), profile.imageKey());
+        }
+    }
+
+    private RenderedProfile renderProfile(Long userId) throws IOException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("유저가 없습니다"));
+        Main main = mainRepository.findByUserId(userId);
+        SkillCategory skillCategory = skillCategoryRepository.findByUserId(userId);
+        File profileImage = user.getProfileImage();
+        String profileImagePath = profileImage == null ? null
+                : "profile/" + fileName(profileImage.getOriginalName(), profileImage.getUrl());
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonGenerator gen = generator(json)) {
+            gen.writeStartObject();
+            gen.writeStringField("nickname", user.getNickname());
+            if (main != null) {
+                gen.writeObjectFieldStart("main");
+                gen.writeStringField("greeting", main.getGreeting());
+                gen.writeStringField("smallGreeting", main.getSmallGreeting());
+                gen.writeStringField("introduce", main.getIntroduce());
+                gen.writeStringField("name", main.getName());
+                gen.writeStringField("job", main.getJob());
+                gen.writeObjectField("workHistory", main.getWorkHistory());
+                gen.writeEndObject();
+            }
+            if (skillCategory != null) {
+                gen.writeObjectFieldStart("skillCategory");
+                gen.writeObjectField("name", skillCategory.getName());
+                List<SkillCard> cards = skillCardRepository.findAllBySkillCategoryId(skillCategory.getId());
+                for (CardSlot slot : CardSlot.values()) {
+                    gen.writeArrayFieldStart(slot == CardSlot.FIRST ? "firstCards" : "secondCards");
+                    for (SkillCard card : cards) {
+                        if (card.getSlot() != slot) continue;
+                        writeCard(gen, card.getTitle(), card.getSubTitle(), card.getContent(), card.getCategoryName());
+                    }
+                    gen.writeEndArray();
+                }
+                gen.writeEndObject();
+            }
+            userLocationRepository.findByUserId(userId).ifPresent(location -> {
+                try {
+                    gen.writeObjectFieldStart("location");
+                    gen.writeObjectField("lat", location.getLat());
+                    gen.writeObjectField("lng", location.getLng());
+                    gen.writeStringField("address", location.getAddress());
+                    gen.writeStringField("email", location.getEmail());
+                    gen.writeStringField("phoneNumber", location.getPhoneNumber());
+                    gen.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            gen.writeStringField("profileImage", profileImagePath);
+            gen.writeEndObject();
+        }
+        return new RenderedProfile(json.toByteArray(), profileImagePath,
+                profileImage == null ? null : profileImage.getUrl());
+    }
+
+    private void writeCard(JsonGenerator gen, String title, String subTitle, String content, Object categoryName) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("title", title);
+        gen.writeStringField("subTitle", subTitle);
+        gen.writeStringField("content", content);
+        gen.writeObjectField("categoryName", categoryName);
+        gen.writeEndObject();
+    }
+
+    /**
+     * 카테고리 id 는 키셋 페이지로 읽고, 카테고리마다 category.json → 파일 배치 순서로 기록
+     */
+    private void writeCategories(ZipOutputStream zip, Long userId) throws IOException {
+        long cursor = CursorPaging.after(null);
+        List<Long> page;
+        do {
+            long current = cursor;
+            page = readOnlyTx.execute(status -> categoryRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(
+                            userId, current, PageRequest.ofSize(CATEGORY_PAGE_SIZE)).stream()
+                    .map(Category::getId)
+                    .toList());
+            for (Long categoryId : page) {
+                writeCategory(zip, categoryId);
+                cursor = categoryId;
+            }
+        } while (page.size() == CATEGORY_PAGE_SIZE);
+    }
+
+    private void writeCategory(ZipOutputStream zip, Long categoryId) throws IOException {
+        String dir = "categories/" + categoryId + "/";
+        byte[] json = inReadOnlyTx(() -> renderCategory(categoryId));
+        if (json == null) {
+            return; // 내보내는 도중 삭제된 카테고리
+        }
+        writeEntry(zip, dir + "category.json", json);
+        writeFiles(zip, categoryId, dir);
+    }
+
+    /**
+     * category.json 생성 → 태그 / 탭은 스트리밍 커서로 읽음
+     * → MySQL 스트리밍 결과셋이 열려 있는 동안 같은 커넥션에 다른 쿼리를 보낼 수 없으므로
+     *   커서는 항상 하나만 열고 다 읽은 뒤 닫음
+     */
+    private byte[] renderCategory(Long categoryId) throws IOException {
+        Category category = categoryRepository.findById(categoryId).orElse(null);
+        if (category == null) {
+            return null;
+        }
+        BasicTab basicTab = basicTabRepository.findByCategoryId(categoryId);
+        Introduce introduce = introduceRepository.findByCategoryId(categoryId);
+        File mainVideo = category.getMainVideo();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonGenerator gen = generator(json)) {
+            gen.writeStartObject();
+            gen.writeStringField("publicId", category.getPublicId());
+            gen.writeStringField("categoryTitle", category.getCategoryTitle());
+            if (mainVideo != null) {
+                gen.writeNumberField("mainVideoFileId", mainVideo.getId());
+            }
+            if (basicTab != null) {
+                gen.writeObjectFieldStart("basicTab");
+                gen.writeStringField("basicTab1", basicTab.getBasicTab1());
+                gen.writeStringField("basicTab2", basicTab.getBasicTab2());
+                gen.writeStringField("basicContent1", basicTab.getBasicContent1());
+                gen.writeStringField("basicContent2", basicTab.getBasicContent2());
+                gen.writeEndObject();
+            }
+            if (introduce != null) {
+                gen.writeObjectFieldStart("introduce");
+                gen.writeStringField("title", introduce.getTitle());
+                gen.writeStringField("content", introduce.getContent());
+                gen.writeEndObject();
+            }
+
+            gen.writeArrayFieldStart("tags");
+            try (Stream<Tag> tags = tagRepository.streamAllByCategoryIdOrderById(categoryId)) {
+                for (Tag tag : (Iterable<Tag>) tags::iterator) {
+                    gen.writeString(tag.getTagName());
+                    entityManager.detach(tag);
+                }
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("tabs");
+            try (Stream<Tab> tabs = tabRepository.streamWithPost(categoryId)) {
+                for (Tab tab : (Iterable<Tab>) tabs::iterator) {
+                    gen.writeStartObject();
+                    gen.writeStringField("tabName", tab.getTabName());
+                    if (tab.getPost() != null) {
+                        gen.writeObjectFieldStart("post");
+                        gen.writeStringField("content", tab.getPost().getContent());
+                        gen.writeStringField("imageUrl", tab.getPost().getImageUrl());
+                        gen.writeEndObject();
+                        entityManager.detach(tab.getPost());
+                    }
+                    gen.writeEndObject();
+                    entityManager.detach(tab);
+                }
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        return json.toByteArray();
+    }
+
+    /**
+     * 파일 메타데이터는 파일마다 옆에 따로 기록 → 목록 전체를 모아 둘 필요 없음
+     * → 배치(키 + 메타데이터)를 읽는 트랜잭션이 끝난 뒤에 객체를 복사
+     */
+    private void writeFiles(ZipOutputStream zip, Long categoryId, String dir) throws IOException {
+        long cursor = CursorPaging.after(null);
+        List<FileExportRow> batch;
+        do {
+            long current = cursor;
+            batch = readOnlyTx.execute(status -> fileRepository.findExportRowsByCategoryId(
+                    categoryId, current, PageRequest.ofSize(FILE_BATCH_SIZE)));
+            for (FileExportRow file : batch) {
+                String path = dir + "files/" + file.getId() + "/" + fileName(file.getOriginalName(), file.getUrl());
+
+                zip.putNextEntry(new ZipEntry(dir + "files/" + file.getId() + ".json"));
+                try (JsonGenerator gen = generator(zip)) {
+                    gen.writeStartObject();
+                    gen.writeStringField("title", file.getTitle());
+                    if (file.getOriginalName() != null) {
+                        gen.writeStringField("originalName", file.getOriginalName());
+                    }
+                    gen.writeStringField("type", file.getType());
+                    if (file.getSize() != null) {
+                        gen.writeNumberField("size", file.getSize());
+                    }
+                    gen.writeStringField("path", path);
+                    gen.writeEndObject();
+                }
+                zip.closeEntry();
+
+                copyObject(zip, path, file.getUrl());
+                cursor = file.getId();
+            }
+        } while (batch.size() == FILE_BATCH_SIZE);
+    }
+
+    private void writeEntry(ZipOutputStream zip, String path, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(path));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    @FunctionalInterface
+    private interface IoCallback<T> {
+        T run() throws IOException;
+    }
+
+    // 읽기 전용 트랜잭션 안에서 실행 (IOException 은 그대로 전달)
+    private <T> T inReadOnlyTx(IoCallback<T> callback) throws IOException {
+        try {
+            return readOnlyTx.execute(status -> {
+                try {
+                    return callback.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // S3 객체를 버퍼 하나로 zip 엔트리에 그대로 복사
+    private void copyObject(ZipOutputStream zip, String path, String key) throws IOException {
+        zip.putNextEntry(new ZipEntry(path));
+        try (InputStream in = s3Service.openObject(key)) {
+            in.transferTo(zip);
+        }
+        zip.closeEntry();
+    }
+
+    // 업로드 당시 파일명, 없으면 (이전 행) 저장소 키의 마지막 경로 → 압축 해제 시 경로를 벗어나지 않도록 구분자 치환
+    private String fileName(String originalName, String key) {
+        String name = originalName;
+        if (name == null || name.isBlank() || name.equals(".") || name.equals("..")) {
+            name = key.substring(key.lastIndexOf('/') + 1);
+        }
+        return name.replace('/', '_').replace('\\', '_');
+    }
+
+    // zip 엔트리에 쓰는 생성기 → 닫아도 zip 스트림은 닫히지 않음
+    private JsonGenerator generator(OutputStream out) throws IOException {
+        return objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
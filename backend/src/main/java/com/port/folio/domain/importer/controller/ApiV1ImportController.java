@@ -0,0 +1,68 @@
+package com.port.folio.domain.importer.controller;
+
+import com.port.folio.domain.importer.dto.ImportResult;
+import com.port.folio.domain.importer.dto.PortfolioDocument;
+import com.port.folio.domain.importer.service.PortfolioImportService;
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.global.rq.Rq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class ApiV1ImportController {
+    private final PortfolioImportService portfolioImportService;
+    private final Rq rq;
+
+    // 포트폴리오 문서(JSON) 일괄 가져오기, 본인만 가능
+    @PostMapping
+    public ResponseEntity<ImportResult> importPortfolio(@RequestBody PortfolioDocument document,
+                                                        @RequestParam Long userId) {
+        HttpStatus denied = checkOwner(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        return toResponse(portfolioImportService.importDocument(userId, document));
+    }
+
+    // 내보내기 ZIP 가져오기, 본인만 가능
+    @PostMapping(value = "/archive", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResult> importArchive(@RequestParam("file") MultipartFile file,
+                                                      @RequestParam Long userId) throws IOException {
+        HttpStatus denied = checkOwner(userId);
+        if (denied != null) {
+            return ResponseEntity.status(denied).build();
+        }
+        try (InputStream in = file.getInputStream()) {
+            return toResponse(portfolioImportService.importArchive(userId, in));
+        }
+    }
+
+    // 로그인하지 않았으면 401, 다른 유저의 포트폴리오면 403, 본인이면 null
+    private HttpStatus checkOwner(Long userId) {
+        User actor = rq.getActor();
+        if (actor == null) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        if (!actor.getId().equals(userId)) {
+            return HttpStatus.FORBIDDEN;
+        }
+        return null;
+    }
+
+    // 검증 오류가 있으면 아무것도 쓰지 않고 400 + 항목별 오류
+    private ResponseEntity<ImportResult> toResponse(ImportResult result) {
+        if (!result.getErrors().isEmpty()) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+}
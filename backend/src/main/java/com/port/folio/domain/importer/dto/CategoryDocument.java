@@ -0,0 +1,23 @@
+package com.port.folio.domain.importer.dto;
+
+import com.port.folio.domain.post.dto.CreateIntroduce;
+import com.port.folio.domain.tab.dto.BasicTabDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져올 카테고리 하나
+ * → 내보내기 ZIP 의 categories/{id}/category.json 과 같은 형식
+ */
+@Getter
+@NoArgsConstructor
+public class CategoryDocument {
+    private String categoryTitle;
+    private BasicTabDto basicTab;
+    private CreateIntroduce introduce;
+    private List<String> tags = new ArrayList<>();
+    private List<TabDocument> tabs = new ArrayList<>();
+}
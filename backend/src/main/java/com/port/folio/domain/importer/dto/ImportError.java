@@ -0,0 +1,14 @@
+package com.port.folio.domain.importer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 항목별 검증 오류 (path 예: "categories[0].tabs[2].tabName")
+ */
+@Getter
+@AllArgsConstructor
+public class ImportError {
+    private String path;
+    private String message;
+}
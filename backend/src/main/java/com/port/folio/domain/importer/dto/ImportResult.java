@@ -0,0 +1,22 @@
+package com.port.folio.domain.importer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ImportResult {
+    private List<Long> categoryIds;
+    private int tabCount;
+    private int postCount;
+    private int tagCount;
+    // 내보내기 ZIP 에 포함되어 있었지만 가져오지 않은 업로드 파일 수
+    private int skippedFiles;
+    private List<ImportError> errors;
+
+    public static ImportResult failed(List<ImportError> errors) {
+        return new ImportResult(List.of(), 0, 0, 0, 0, errors);
+    }
+}
@@ -0,0 +1,18 @@
+package com.port.folio.domain.importer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 가져오기 문서 (카테고리 목록)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioDocument {
+    private List<CategoryDocument> categories = new ArrayList<>();
+}
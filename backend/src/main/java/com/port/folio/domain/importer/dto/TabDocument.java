@@ -0,0 +1,12 @@
+package com.port.folio.domain.importer.dto;
+
+import com.port.folio.domain.post.dto.CreatePostDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TabDocument {
+    private String tabName;
+    private CreatePostDto post;
+}
@@ -0,0 +1,373 @@
+package com.port.folio.domain.importer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.port.folio.domain.importer.dto.CategoryDocument;
+import com.port.folio.domain.importer.dto.ImportError;
+import com.port.folio.domain.importer.dto.ImportResult;
+import com.port.folio.domain.importer.dto.PortfolioDocument;
+import com.port.folio.domain.importer.dto.TabDocument;
+import com.port.folio.domain.post.dto.CreateIntroduce;
+import com.port.folio.domain.post.dto.CreatePostDto;
+import com.port.folio.domain.tab.dto.BasicTabDto;
+import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.global.Jpa.CompressedTextConverter;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 포트폴리오 일괄 가져오기
+ * → 문서 전체를 먼저 검증하고 오류가 하나라도 있으면 아무것도 쓰지 않고 항목별 오류를 반환
+ * → 검증을 통과하면 한 트랜잭션 안에서 테이블별 JDBC 배치 INSERT
+ *   (IDENTITY 키는 Hibernate 배치가 꺼지므로 JdbcTemplate 으로 직접 배치하고 생성 키를 받아 하위 행에 연결)
+ */
+@Slf4j
+@Service
+public class PortfolioImportService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_LENGTH = 255;
+    private static final int MAX_DOCUMENT_BYTES = 8 * 1024 * 1024;
+
+    private static final Pattern CATEGORY_ENTRY = Pattern.compile("categories/(\\d{1,18})/category\\.json");
+    private static final Pattern FILE_ENTRY = Pattern.compile("categories/\\d{1,18}/files/\\d{1,18}/[^/]+");
+
+    private final int maxCategories;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PortfolioImportService(
+            @Value("${custom.import.maxCategories:200}") int maxCategories,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.maxCategories = maxCategories;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public ImportResult importDocument(Long userId, PortfolioDocument document) {
+        return importDocument(userId, document, 0);
+    }
+
+    /**
+     * 내보내기 ZIP 가져오기
+     * → categories/{id}/category.json 만 읽고, 업로드 파일은 건너뛴 개수만 보고
+     */
+    public ImportResult importArchive(Long userId, InputStream in) throws IOException {
+        TreeMap<Long, CategoryDocument> categories = new TreeMap<>();
+        int skippedFiles = 0;
+
+        try (ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Matcher matcher = CATEGORY_ENTRY.matcher(entry.getName());
+                if (matcher.matches()) {
+                    byte[] json = zip.readNBytes(MAX_DOCUMENT_BYTES + 1);
+                    if (json.length > MAX_DOCUMENT_BYTES) {
+                        return ImportResult.failed(List.of(new ImportError(entry.getName(), "문서가 너무 큽니다")));
+                    }
+                    categories.put(Long.parseLong(matcher.group(1)), objectMapper.readValue(json, CategoryDocument.class));
+                } else if (FILE_ENTRY.matcher(entry.getName()).matches()) {
+                    skippedFiles++;
+                }
+            }
+        }
+
+        if (categories.isEmpty()) {
+            return ImportResult.failed(List.of(new ImportError("file", "내보내기 ZIP 형식이 아닙니다")));
+        }
+        return importDocument(userId, new PortfolioDocument(new ArrayList<>(categories.values())), skippedFiles);
+    }
+
+    private ImportResult importDocument(Long userId, PortfolioDocument document, int skippedFiles) {
+        List<ImportError> errors = validate(userId, document);
+        if (!errors.isEmpty()) {
+            return ImportResult.failed(errors);
+        }
+
+        long started = System.currentTimeMillis();
+        ImportResult result = transactionTemplate.execute(status -> write(userId, document.getCategories(), skippedFiles));
+        log.info("포트폴리오 가져오기 완료: userId={}, 카테고리 {}개, {}ms",
+                userId, document.getCategories().size(), System.currentTimeMillis() - started);
+        return result;
+    }
+
+    // ===== 검증 =====
+
+    private List<ImportError> validate(Long userId, PortfolioDocument document) {
+        List<ImportError> errors = new ArrayList<>();
+
+        if (userId == null || !userRepository.existsById(userId)) {
+            errors.add(new ImportError("userId", "유저가 없습니다"));
+        }
+        if (document == null || document.getCategories() == null || document.getCategories().isEmpty()) {
+            errors.add(new ImportError("categories", "가져올 카테고리가 없습니다"));
+            return errors;
+        }
+        if (document.getCategories().size() > maxCategories) {
+            errors.add(new ImportError("categories", "한 번에 가져올 수 있는 카테고리는 " + maxCategories + "개까지입니다"));
+            return errors;
+        }
+
+        List<CategoryDocument> categories = document.getCategories();
+        for (int i = 0; i < categories.size(); i++) {
+            String path = "categories[" + i + "]";
+            CategoryDocument category = categories.get(i);
+            if (category == null) {
+                errors.add(new ImportError(path, "카테고리가 비어 있습니다"));
+                continue;
+            }
+
+            required(errors, path + ".categoryTitle", category.getCategoryTitle());
+
+            BasicTabDto basicTab = category.getBasicTab();
+            if (basicTab != null) {
+                maxLength(errors, path + ".basicTab.basicTab1", basicTab.getBasicTab1());
+                maxLength(errors, path + ".basicTab.basicTab2", basicTab.getBasicTab2());
+                maxLength(errors, path + ".basicTab.basicContent1", basicTab.getBasicContent1());
+                maxLength(errors, path + ".basicTab.basicContent2", basicTab.getBasicContent2());
+            }
+
+            CreateIntroduce introduce = category.getIntroduce();
+            if (introduce != null) {
+                maxLength(errors, path + ".introduce.title", introduce.getTitle());
+            }
+
+            List<String> tags = orEmpty(category.getTags());
+            Set<String> seen = new HashSet<>();
+            for (int t = 0; t < tags.size(); t++) {
+                String tagPath = path + ".tags[" + t + "]";
+                if (required(errors, tagPath, tags.get(t))
+                        && !seen.add(tags.get(t).trim().toLowerCase(Locale.ROOT))) {
+                    errors.add(new ImportError(tagPath, "중복된 태그입니다"));
+                }
+            }
+
+            List<TabDocument> tabs = orEmpty(category.getTabs());
+            for (int t = 0; t < tabs.size(); t++) {
+                String tabPath = path + ".tabs[" + t + "]";
+                TabDocument tab = tabs.get(t);
+                if (tab == null) {
+                    errors.add(new ImportError(tabPath, "탭이 비어 있습니다"));
+                    continue;
+                }
+                required(errors, tabPath + ".tabName", tab.getTabName());
+                if (tab.getPost() != null) {
+                    maxLength(errors, tabPath + ".post.imageUrl", tab.getPost().getImageUrl());
+                }
+            }
+        }
+        return errors;
+    }
+
+    private boolean required(List<ImportError> errors, String path, String value) {
+        if (value == null || value.isBlank()) {
+            errors.add(new ImportError(path, "값이 비어 있습니다"));
+            return false;
+        }
+        return maxLength(errors, path, value);
+    }
+
+    private boolean maxLength(List<ImportError> errors, String path, String value) {
+        if (value != null && value.length() > MAX_LENGTH) {
+            errors.add(new ImportError(path, MAX_LENGTH + "자를 넘을 수 없습니다"));
+            return false;
+        }
+        return true;
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    // ===== 쓰기 =====
+
+    private ImportResult write(Long userId, List<CategoryDocument> categories, int skippedFiles) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<String> publicIds = categories.stream().map(c -> UUID.randomUUID().toString()).toList();
+        List<Long> categoryIds = insertReturningIds(
+                "INSERT INTO category (public_id, category_title, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                categories.size(),
+                (ps, i) -> {
+                    ps.setString(1, publicIds.get(i));
+                    ps.setString(2, categories.get(i).getCategoryTitle().trim());
+                    ps.setLong(3, userId);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+
+        // 기본 탭은 CategoryService.createCategory 와 같은 기본값
+        insert("INSERT INTO basic_tab (basic_tab1, basic_tab2, basic_content1, basic_content2, user_id, category_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                categories.size(),
+                (ps, i) -> {
+                    BasicTabDto basicTab = categories.get(i).getBasicTab();
+                    ps.setString(1, basicTab != null ? basicTab.getBasicTab1() : "프로젝트 소개");
+                    ps.setString(2, basicTab != null ? basicTab.getBasicTab2() : "자료");
+                    ps.setString(3, basicTab != null ? basicTab.getBasicContent1() : "소개 없음");
+                    ps.setString(4, basicTab != null ? basicTab.getBasicContent2() : "자료 없음");
+                    ps.setLong(5, userId);
+                    ps.setLong(6, categoryIds.get(i));
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                });
+
+        List<Child<CreateIntroduce>> introduces = new ArrayList<>();
+        List<Child<String>> tags = new ArrayList<>();
+        List<Child<TabDocument>> tabs = new ArrayList<>();
+        for (int i = 0; i < categories.size(); i++) {
+            CategoryDocument category = categories.get(i);
+            Long categoryId = categoryIds.get(i);
+            if (category.getIntroduce() != null) {
+                introduces.add(new Child<>(categoryId, category.getIntroduce()));
+            }
+            orEmpty(category.getTags()).forEach(tag -> tags.add(new Child<>(categoryId, tag.trim())));
+            orEmpty(category.getTabs()).forEach(tab -> tabs.add(new Child<>(categoryId, tab)));
+        }
+
+        insert("INSERT INTO introduce (title, content_z, category_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                introduces.size(),
+                (ps, i) -> {
+                    Child<CreateIntroduce> row = introduces.get(i);
+                    ps.setString(1, row.item().getTitle());
+                    ps.setBytes(2, CompressedTextConverter.encode(row.item().getContent()));
+                    ps.setLong(3, row.categoryId());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+
+        insert("INSERT INTO tag (tag_name, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                tags.size(),
+                (ps, i) -> {
+                    ps.setString(1, tags.get(i).item());
+                    ps.setLong(2, tags.get(i).categoryId());
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+
+        List<Long> tabIds = insertReturningIds(
+                "INSERT INTO tab (tab_name, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                tabs.size(),
+                (ps, i) -> {
+                    ps.setString(1, tabs.get(i).item().getTabName().trim());
+                    ps.setLong(2, tabs.get(i).categoryId());
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+
+        List<Integer> postTabs = new ArrayList<>();
+        for (int i = 0; i < tabs.size(); i++) {
+            if (tabs.get(i).item().getPost() != null) {
+                postTabs.add(i);
+            }
+        }
+        insert("INSERT INTO post (content_z, image_url, views, category_id, tab_id, created_at, updated_at) VALUES (?, ?, 0, ?, ?, ?, ?)",
+                postTabs.size(),
+                (ps, i) -> {
+                    int tabIndex = postTabs.get(i);
+                    CreatePostDto post = tabs.get(tabIndex).item().getPost();
+                    ps.setBytes(1, CompressedTextConverter.encode(post.getContent()));
+                    ps.setString(2, post.getImageUrl());
+                    ps.setLong(3, tabs.get(tabIndex).categoryId());
+                    ps.setLong(4, tabIds.get(tabIndex));
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+
+        // 커밋 이후 캐시 / 스냅샷 / 검색 / 태그 색인 갱신
+        for (int i = 0; i < categoryIds.size(); i++) {
+            eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                    .type(ChangeType.CATEGORY)
+                    .userId(userId)
+                    .categoryId(categoryIds.get(i))
+                    .publicId(publicIds.get(i))
+                    .build());
+        }
+
+        return new ImportResult(categoryIds, tabs.size(), postTabs.size(), tags.size(), skippedFiles, List.of());
+    }
+
+    private void insert(String sql, int count, RowSetter setter) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, chunk(setter, from, Math.min(BATCH_SIZE, count - from)));
+        }
+    }
+
+    // 배치 INSERT 후 생성된 id 를 입력 순서대로 반환
+    private List<Long> insertReturningIds(String sql, int count, RowSetter setter) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, new String[]{"id"}),
+                    chunk(setter, from, Math.min(BATCH_SIZE, count - from)),
+                    keyHolder);
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        if (ids.size() != count) {
+            throw new IllegalStateException("생성된 키 개수가 일치하지 않습니다");
+        }
+        return ids;
+    }
+
+    private BatchPreparedStatementSetter chunk(RowSetter setter, int offset, int size) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                setter.set(ps, offset + i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int index) throws SQLException;
+    }
+
+    private record Child<T>(Long categoryId, T item) {
+    }
+}
@@ -2,6 +2,7 @@ package com.port.folio.domain.main.controller;
 
 import com.port.folio.domain.main.dto.CardDto;
 import com.port.folio.domain.main.dto.CardResponse;
+import com.port.folio.domain.main.dto.SkillCardsResponse;
 import com.port.folio.domain.main.entity.CategoryName;
 import com.port.folio.domain.main.service.MainService;
 import lombok.RequiredArgsConstructor;
@@ -49,4 +50,10 @@ public class ApiV1CardController {
         CardResponse firstCardDto = mainService.getSecond(skillId, categoryName);
         return ResponseEntity.ok(firstCardDto);
     }
+
+    // 스킬 카테고리의 카드 전체 (첫 번째 / 두 번째 카드를 한 번에)
+    @GetMapping("/all")
+    public ResponseEntity<SkillCardsResponse> getCards(@RequestParam Long skillId){
+        return ResponseEntity.ok(mainService.getCards(skillId));
+    }
 }
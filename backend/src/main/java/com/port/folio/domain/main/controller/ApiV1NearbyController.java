@@ -0,0 +1,33 @@
+package com.port.folio.domain.main.controller;
+
+import com.port.folio.domain.main.dto.NearbyResponse;
+import com.port.folio.domain.main.service.NearbyPortfolioService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/nearby")
+@RequiredArgsConstructor
+public class ApiV1NearbyController {
+    private final NearbyPortfolioService nearbyPortfolioService;
+
+    // 내 주변 (중심 좌표 + 반경 m, 가까운 순)
+    @GetMapping
+    public ResponseEntity<NearbyResponse> nearby(@RequestParam double lat,
+                                                 @RequestParam double lng,
+                                                 @RequestParam(defaultValue = "5000") double radius,
+                                                 @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(nearbyPortfolioService.nearby(lat, lng, radius, limit));
+    }
+
+    // 지도 영역 (south/west ~ north/east, 영역 중심에서 가까운 순)
+    @GetMapping("/viewport")
+    public ResponseEntity<NearbyResponse> viewport(@RequestParam double south,
+                                                   @RequestParam double west,
+                                                   @RequestParam double north,
+                                                   @RequestParam double east,
+                                                   @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(nearbyPortfolioService.viewport(south, west, north, east, limit));
+    }
+}
@@ -0,0 +1,19 @@
+package com.port.folio.domain.main.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주변 포트폴리오 한 건 (distanceMeters: 반경 검색은 중심, 영역 검색은 영역 중심까지 거리)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyItem {
+    private Long userId;
+    private Double lat;
+    private Double lng;
+    private String address;
+    private long distanceMeters;
+}
@@ -0,0 +1,15 @@
+package com.port.folio.domain.main.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyResponse {
+    private int count;
+    private List<NearbyItem> items;
+}
@@ -0,0 +1,18 @@
+package com.port.folio.domain.main.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스킬 카테고리의 카드 전체 (한 번의 조회로 첫 번째 / 두 번째 카드 모두)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillCardsResponse {
+    private List<CardResponse> firstCards;
+    private List<CardResponse> secondCards;
+}
@@ -0,0 +1,9 @@
+package com.port.folio.domain.main.entity;
+
+/**
+ * 스킬 카드 위치 (이전 first_card / second_card 테이블 구분)
+ */
+public enum CardSlot {
+    FIRST,
+    SECOND
+}
@@ -1,31 +0,0 @@
-package com.port.folio.domain.main.entity;
-
-
-import com.port.folio.global.Jpa.BaseEntity;
-import jakarta.persistence.*;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.experimental.SuperBuilder;
-
-@Entity
-@SuperBuilder
-@Getter
-@Setter
-@NoArgsConstructor
-public class FirstCard extends BaseEntity {
-
-    private String title;
-    private String subTitle;
-    @Lob
-    @Column(columnDefinition = "TEXT")
-    private String content;
-
-    @Enumerated(EnumType.STRING)
-    private CategoryName categoryName;
-
-    @ManyToOne
-    @JoinColumn(name = "skill_category_id")
-    private SkillCategory skillCategory;
-
-}
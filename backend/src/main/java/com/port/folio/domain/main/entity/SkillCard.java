@@ -0,0 +1,42 @@
+package com.port.folio.domain.main.entity;
+
+import com.port.folio.global.Jpa.BaseEntity;
+import com.port.folio.global.Jpa.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 스킬 카드 (FirstCard / SecondCard 통합, slot 으로 구분)
+ * → (skill_category_id, category_name, slot) 유니크 인덱스 하나로 단건 조회 / 스킬 카테고리 전체 조회 모두 처리
+ */
+@Entity
+@Table(name = "skill_card", uniqueConstraints = @UniqueConstraint(
+        name = "uk_skill_card_slot", columnNames = {"skill_category_id", "category_name", "slot"}))
+@SuperBuilder
+@Getter
+@Setter
+@NoArgsConstructor
+public class SkillCard extends BaseEntity {
+
+    private String title;
+    private String subTitle;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_z", length = CompressedTextConverter.COLUMN_LENGTH)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category_name", length = 20)
+    private CategoryName categoryName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CardSlot slot;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "skill_category_id")
+    private SkillCategory skillCategory;
+}
@@ -21,10 +21,7 @@ public class SkillCategory extends BaseEntity {
     private CategoryName name;
 
     @OneToMany(mappedBy = "skillCategory", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<FirstCard> firstCards;
-
-    @OneToMany(mappedBy = "skillCategory", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<FirstCard> secondCards;
+    private List<SkillCard> cards;
 
     @OneToOne
     private User user;
@@ -0,0 +1,235 @@
+package com.port.folio.domain.main.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.DoublePredicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 위도/경도 고정 격자 공간 인덱스 (셀 CELL_DEGREES 도 단위, 메모리 전용)
+ * → 반경 / 영역 검색 시 범위에 걸친 셀만 훑고, 셀 안의 점만 실제 거리 계산
+ * → 범위의 셀 수가 점이 들어 있는 셀 수보다 많으면 (지도를 크게 축소한 경우) 점이 있는 셀만 순회
+ * → limit 개만 힙에 유지하므로 결과가 많아도 정렬 비용은 O(n log limit)
+ * → 읽기는 동시에, 쓰기는 한 번에 하나 (ReadWriteLock)
+ */
+public class GeoGrid<T> {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    static final double CELL_DEGREES = 0.1;
+    private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final Map<Long, Point<T>> points = new HashMap<>();
+    private final Map<Integer, List<Point<T>>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit<T>(long id, double lat, double lng, T value, double distanceMeters) {
+    }
+
+    private record Point<T>(long id, double lat, double lng, int cell, T value) {
+    }
+
+    /**
+     * 추가 또는 위치 이동 (같은 id 는 한 점만 유지)
+     */
+    public void put(long id, double lat, double lng, T value) {
+        if (!isValid(lat, lng)) {
+            throw new IllegalArgumentException("잘못된 좌표입니다: " + lat + ", " + lng);
+        }
+        Point<T> point = new Point<>(id, lat, lng, cellOf(lat, lng), value);
+        lock.writeLock().lock();
+        try {
+            Point<T> previous = points.put(id, point);
+            if (previous != null) {
+                detach(previous);
+            }
+            cells.computeIfAbsent(point.cell(), c -> new ArrayList<>(4)).add(point);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Point<T> previous = points.remove(id);
+            if (previous != null) {
+                detach(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 중심에서 radiusMeters 안의 점 (가까운 순, 최대 limit 개)
+     */
+    public List<Hit<T>> nearest(double lat, double lng, double radiusMeters, int limit) {
+        if (!isValid(lat, lng)) {
+            throw new IllegalArgumentException("잘못된 좌표입니다: " + lat + ", " + lng);
+        }
+        double angular = radiusMeters / EARTH_RADIUS_METERS;
+        double dLat = Math.toDegrees(angular);
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+
+        // 극점을 포함하거나 경도 폭이 180도를 넘으면 경도 전체
+        double minLng = -180;
+        double maxLng = 180;
+        if (minLat > -90 && maxLat < 90 && angular < Math.PI / 2) {
+            double dLng = Math.toDegrees(Math.asin(Math.sin(angular) / Math.cos(Math.toRadians(lat))));
+            if (dLng < 180) {
+                minLng = lng - dLng;
+                maxLng = lng + dLng;
+            }
+        }
+
+        return query(minLat, maxLat, minLng, maxLng, limit,
+                p -> distanceMeters(lat, lng, p.lat(), p.lng()),
+                distance -> distance <= radiusMeters);
+    }
+
+    /**
+     * 지도 영역 안의 점 (영역 중심에서 가까운 순, 최대 limit 개)
+     * → west > east 이면 날짜변경선을 넘는 영역으로 처리
+     */
+    public List<Hit<T>> within(double south, double west, double north, double east, int limit) {
+        if (!isValid(south, west) || !isValid(north, east) || south > north) {
+            throw new IllegalArgumentException("잘못된 영역입니다");
+        }
+        double centerLat = (south + north) / 2;
+        double width = west <= east ? east - west : east + 360 - west;
+        double centerLng = normalizeLng(west + width / 2);
+        double maxLng = west <= east ? east : east + 360;
+
+        return query(south, north, west, maxLng, limit,
+                p -> lngWithin(p.lng(), west, east) && p.lat() >= south && p.lat() <= north
+                        ? distanceMeters(centerLat, centerLng, p.lat(), p.lng())
+                        : Double.NaN,
+                distance -> !Double.isNaN(distance));
+    }
+
+    private List<Hit<T>> query(double minLat, double maxLat, double minLng, double maxLng, int limit,
+                               ToDoubleFunction<Point<T>> distance, DoublePredicate accept) {
+        if (limit <= 0) return List.of();
+
+        int latLo = latCell(Math.max(-90, minLat));
+        int latHi = latCell(Math.min(90, maxLat));
+        long lngLo = (long) Math.floor((minLng + 180) / CELL_DEGREES);
+        long lngHi = (long) Math.floor((maxLng + 180) / CELL_DEGREES);
+        boolean fullLng = lngHi - lngLo + 1 >= LNG_CELLS;
+        if (fullLng) {
+            lngLo = 0;
+            lngHi = LNG_CELLS - 1;
+        }
+
+        // 먼 것부터 꺼내는 힙 (limit 개 유지)
+        PriorityQueue<Hit<T>> heap = new PriorityQueue<>(
+                Comparator.comparingDouble((Hit<T> h) -> h.distanceMeters()).reversed());
+
+        lock.readLock().lock();
+        try {
+            long rangeCells = (long) (latHi - latLo + 1) * (lngHi - lngLo + 1);
+            if (rangeCells > cells.size()) {
+                for (Map.Entry<Integer, List<Point<T>>> entry : cells.entrySet()) {
+                    int cell = entry.getKey();
+                    int latIndex = cell / LNG_CELLS;
+                    int lngIndex = cell % LNG_CELLS;
+                    if (latIndex < latLo || latIndex > latHi) continue;
+                    if (!fullLng && !lngCellWithin(lngIndex, lngLo, lngHi)) continue;
+                    collect(entry.getValue(), distance, accept, heap, limit);
+                }
+            } else {
+                for (int latIndex = latLo; latIndex <= latHi; latIndex++) {
+                    for (long i = lngLo; i <= lngHi; i++) {
+                        List<Point<T>> bucket = cells.get(latIndex * LNG_CELLS + (int) Math.floorMod(i, LNG_CELLS));
+                        if (bucket != null) {
+                            collect(bucket, distance, accept, heap, limit);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit<T>> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return result;
+    }
+
+    private void collect(List<Point<T>> bucket, ToDoubleFunction<Point<T>> distance, DoublePredicate accept,
+                         PriorityQueue<Hit<T>> heap, int limit) {
+        for (Point<T> p : bucket) {
+            double d = distance.applyAsDouble(p);
+            if (!accept.test(d)) continue;
+            if (heap.size() < limit) {
+                heap.add(new Hit<>(p.id(), p.lat(), p.lng(), p.value(), d));
+            } else if (d < heap.peek().distanceMeters()) {
+                heap.poll();
+                heap.add(new Hit<>(p.id(), p.lat(), p.lng(), p.value(), d));
+            }
+        }
+    }
+
+    private void detach(Point<T> point) {
+        List<Point<T>> bucket = cells.get(point.cell());
+        if (bucket == null) return;
+        bucket.removeIf(p -> p.id() == point.id());
+        if (bucket.isEmpty()) {
+            cells.remove(point.cell());
+        }
+    }
+
+    /**
+     * 두 좌표 사이 거리 (haversine, 미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static boolean isValid(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    private static int cellOf(double lat, double lng) {
+        return latCell(lat) * LNG_CELLS + Math.floorMod((long) Math.floor((lng + 180) / CELL_DEGREES), LNG_CELLS);
+    }
+
+    private static int latCell(double lat) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((lat + 90) / CELL_DEGREES));
+    }
+
+    private static boolean lngCellWithin(int lngIndex, long lngLo, long lngHi) {
+        long offset = Math.floorMod(lngIndex - lngLo, LNG_CELLS);
+        return offset <= lngHi - lngLo;
+    }
+
+    private static boolean lngWithin(double lng, double west, double east) {
+        return west <= east ? lng >= west && lng <= east : lng >= west || lng <= east;
+    }
+
+    private static double normalizeLng(double lng) {
+        return lng > 180 ? lng - 360 : lng;
+    }
+}
@@ -2,8 +2,15 @@ package com.port.folio.domain.main.repository;
 
 import com.port.folio.domain.main.entity.Main;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MainRepository extends JpaRepository<Main, Long> {
     Main findByUserId(Long userId);
     void deleteByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Main m WHERE m.user.id = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,25 @@
+package com.port.folio.domain.main.repository;
+
+import com.port.folio.domain.main.entity.CardSlot;
+import com.port.folio.domain.main.entity.CategoryName;
+import com.port.folio.domain.main.entity.SkillCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SkillCardRepository extends JpaRepository<SkillCard, Long> {
+
+    // 스킬 카테고리의 카드 전체 (유니크 인덱스 앞부분으로 한 번에 조회)
+    @Query("SELECT c FROM SkillCard c WHERE c.skillCategory.id = :skillCategoryId ORDER BY c.slot, c.id")
+    List<SkillCard> findAllBySkillCategoryId(@Param("skillCategoryId") Long skillCategoryId);
+
+    Optional<SkillCard> findBySkillCategory_IdAndCategoryNameAndSlot(Long skillCategoryId, CategoryName categoryName, CardSlot slot);
+
+    @Modifying
+    @Query("DELETE FROM SkillCard c WHERE c.skillCategory.id = :skillCategoryId")
+    int bulkDeleteBySkillCategoryId(@Param("skillCategoryId") Long skillCategoryId);
+}
@@ -1,9 +1,27 @@
 package com.port.folio.domain.main.repository;
 
 import com.port.folio.domain.main.entity.SkillCategory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 public interface SkillCategoryRepository extends JpaRepository<SkillCategory,Long> {
     SkillCategory findByUserId(Long userId);
     void deleteByUserId(Long userId);
+
+    @Query("SELECT s.user.id FROM SkillCategory s WHERE s.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // 스킬 카테고리가 있는 유저 id (커서 이후, 오름차순)
+    @Query("SELECT s.user.id FROM SkillCategory s WHERE s.user.id > :cursor ORDER BY s.user.id")
+    List<Long> findUserIdsAfter(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM SkillCategory s WHERE s.user.id = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
 }
@@ -2,8 +2,12 @@ package com.port.folio.domain.main.repository;
 
 import com.port.folio.domain.main.entity.UserLocation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,20 @@ public interface UserLocationRepository extends JpaRepository<UserLocation, Long
     Optional<UserLocation> findByUserId(Long userId);
     boolean existsByUserId(Long userId);
     void deleteByUserId(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserLocation l WHERE l.userId = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
+
+    // 공간 인덱스 초기 적재용 (엔티티 대신 좌표만)
+    @Query("SELECT l.userId AS userId, l.lat AS lat, l.lng AS lng, l.address AS address FROM UserLocation l " +
+            "WHERE l.userId IS NOT NULL AND l.lat IS NOT NULL AND l.lng IS NOT NULL")
+    List<LocationPointRow> findAllPoints();
+
+    interface LocationPointRow {
+        Long getUserId();
+        Double getLat();
+        Double getLng();
+        String getAddress();
+    }
 }
\ No newline at end of file
@@ -2,22 +2,27 @@ package com.port.folio.domain.main.service;
 
 import com.port.folio.domain.main.dto.*;
 import com.port.folio.domain.main.entity.*;
-import com.port.folio.domain.main.repository.FirstCardRepository;
 import com.port.folio.domain.main.repository.MainRepository;
-import com.port.folio.domain.main.repository.SecondCardRepository;
+import com.port.folio.domain.main.repository.SkillCardRepository;
 import com.port.folio.domain.main.repository.SkillCategoryRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MainService {
     private final MainRepository mainRepository;
     private final SkillCategoryRepository skillCategoryRepository;
-    private final FirstCardRepository firstCardRepository;
-    private final SecondCardRepository secondCardRepository;
+    private final SkillCardRepository skillCardRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MainResponse getMain(Long userId){
         Main main = mainRepository.findByUserId(userId);
@@ -43,6 +48,7 @@ public class MainService {
         main.setWorkHistory(req.getWorkHistory());
 
         mainRepository.save(main);
+        publishChanged(ChangeType.MAIN, userId, null);
         return "수정 완료";
     }
 
@@ -52,6 +58,7 @@ public class MainService {
         skillCategory.setName(req.getName());
 
         skillCategoryRepository.save(skillCategory);
+        publishChanged(ChangeType.SKILL, userId, skillCategory.getId());
     }
 
     public SkillCategoryResponse getSkillCategory(Long userId){
@@ -62,73 +69,98 @@ public class MainService {
         );
     }
 
+    // 이전 /api/card 호환: 첫 번째 카드 = FIRST, /second = SECOND slot
     public void createFirst(CardDto req, Long skillId){
-        SkillCategory skillCategory = skillCategoryRepository.findById(skillId)
-                .orElseThrow(()-> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
-
-        FirstCard firstCard = FirstCard.builder()
-                .title(req.getTitle())
-                .subTitle(req.getSubTitle())
-                .content(req.getContent())
-                .categoryName(skillCategory.getName())
-                .skillCategory(skillCategory)
-                .build();
-
-        firstCardRepository.save(firstCard);
+        saveCard(CardSlot.FIRST, req, skillId);
     }
 
     public void updateFirst(CardDto req, Long skillId, CategoryName categoryName){
-        FirstCard firstCard = firstCardRepository.findBySkillCategory_IdAndCategoryName(skillId, categoryName)
-                .orElseThrow(()-> new IllegalArgumentException("카테고리 없음"));
-        firstCard.setTitle(req.getTitle());
-        firstCard.setSubTitle(req.getSubTitle());
-        firstCard.setContent(req.getContent());
-        firstCardRepository.save(firstCard);
+        updateCard(CardSlot.FIRST, req, skillId, categoryName);
     }
 
     public CardResponse getFirst(CategoryName categoryName, Long skillId) {
-        return firstCardRepository.findBySkillCategory_IdAndCategoryName(skillId, categoryName)
-                .map(fc -> new CardResponse(
-                        fc.getTitle(),
-                        fc.getSubTitle(),
-                        fc.getContent(),
-                        fc.getCategoryName()
-                ))
-                .orElse(null); // 못 찾으면 null
+        return getCard(CardSlot.FIRST, skillId, categoryName);
     }
 
     public void createSecond(CardDto req, Long skillId){
+        saveCard(CardSlot.SECOND, req, skillId);
+    }
+
+    public void updateSecond(CardDto req, Long skillId, CategoryName categoryName){
+        updateCard(CardSlot.SECOND, req, skillId, categoryName);
+    }
+
+    public CardResponse getSecond(Long skillId, CategoryName categoryName){
+        return getCard(CardSlot.SECOND, skillId, categoryName);
+    }
+
+    /**
+     * 카드 생성 (현재 스킬 카테고리 이름 기준)
+     * → (스킬 카테고리, 카테고리 이름, slot) 당 한 장이므로 이미 있으면 내용만 갱신
+     */
+    public void saveCard(CardSlot slot, CardDto req, Long skillId){
         SkillCategory skillCategory = skillCategoryRepository.findById(skillId)
                 .orElseThrow(()-> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
 
-        SecondCard secondCard = SecondCard.builder()
-                .title(req.getTitle())
-                .subTitle(req.getSubTitle())
-                .content(req.getContent())
-                .categoryName(skillCategory.getName())
-                .skillCategory(skillCategory)
-                .build();
-
-        secondCardRepository.save(secondCard);
+        SkillCard card = findCard(slot, skillId, skillCategory.getName())
+                .orElseGet(() -> SkillCard.builder()
+                        .slot(slot)
+                        .categoryName(skillCategory.getName())
+                        .skillCategory(skillCategory)
+                        .build());
+        card.setTitle(req.getTitle());
+        card.setSubTitle(req.getSubTitle());
+        card.setContent(req.getContent());
+
+        skillCardRepository.save(card);
+        publishChanged(ChangeType.CARD, null, skillId);
     }
 
-    public void updateSecond(CardDto req, Long skillId, CategoryName categoryName){
-        SecondCard secondCard = secondCardRepository.findBySkillCategory_IdAndCategoryName(skillId, categoryName)
+    public void updateCard(CardSlot slot, CardDto req, Long skillId, CategoryName categoryName){
+        SkillCard card = findCard(slot, skillId, categoryName)
                 .orElseThrow(()-> new IllegalArgumentException("카테고리 없음"));
-        secondCard.setTitle(req.getTitle());
-        secondCard.setSubTitle(req.getSubTitle());
-        secondCard.setContent(req.getContent());
-        secondCardRepository.save(secondCard);
+        card.setTitle(req.getTitle());
+        card.setSubTitle(req.getSubTitle());
+        card.setContent(req.getContent());
+        skillCardRepository.save(card);
+        publishChanged(ChangeType.CARD, null, skillId);
     }
 
-    public CardResponse getSecond(Long skillId, CategoryName categoryName){
-        return secondCardRepository.findBySkillCategory_IdAndCategoryName(skillId, categoryName)
-                .map(fc -> new CardResponse(
-                        fc.getTitle(),
-                        fc.getSubTitle(),
-                        fc.getContent(),
-                        fc.getCategoryName()
-                ))
+    public CardResponse getCard(CardSlot slot, Long skillId, CategoryName categoryName){
+        return findCard(slot, skillId, categoryName)
+                .map(MainService::toCardResponse)
                 .orElse(null); // 못 찾으면 null
     }
+
+    /**
+     * 스킬 카테고리의 카드 전체 (쿼리 한 번)
+     */
+    public SkillCardsResponse getCards(Long skillId){
+        List<SkillCard> cards = skillCardRepository.findAllBySkillCategoryId(skillId);
+        return new SkillCardsResponse(
+                cards.stream().filter(c -> c.getSlot() == CardSlot.FIRST).map(MainService::toCardResponse).toList(),
+                cards.stream().filter(c -> c.getSlot() == CardSlot.SECOND).map(MainService::toCardResponse).toList()
+        );
+    }
+
+    private Optional<SkillCard> findCard(CardSlot slot, Long skillId, CategoryName categoryName){
+        return skillCardRepository.findBySkillCategory_IdAndCategoryNameAndSlot(skillId, categoryName, slot);
+    }
+
+    private static CardResponse toCardResponse(SkillCard card){
+        return new CardResponse(
+                card.getTitle(),
+                card.getSubTitle(),
+                card.getContent(),
+                card.getCategoryName()
+        );
+    }
+
+    private void publishChanged(ChangeType type, Long userId, Long skillId) {
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(type)
+                .userId(userId)
+                .skillId(skillId)
+                .build());
+    }
 }
@@ -0,0 +1,92 @@
+package com.port.folio.domain.main.service;
+
+import com.port.folio.domain.main.dto.NearbyItem;
+import com.port.folio.domain.main.dto.NearbyResponse;
+import com.port.folio.domain.main.geo.GeoGrid;
+import com.port.folio.domain.main.repository.UserLocationRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 주변 포트폴리오 검색 (내 주변 반경 / 지도 영역)
+ * → 기동 시 user_location 전체 좌표를 메모리 격자 인덱스(GeoGrid)에 적재
+ * → 위치 변경(LOCATION) / 탈퇴(MAIN) 이벤트 커밋 이후 해당 유저 한 명만 다시 읽어 반영
+ * → 검색은 인덱스만 사용 (DB 조회 / SQL 삼각함수 계산 없음)
+ */
+@Slf4j
+@Service
+public class NearbyPortfolioService {
+
+    public static final int MAX_LIMIT = 200;
+    public static final double MAX_RADIUS_METERS = 500_000;
+
+    private final UserLocationRepository userLocationRepository;
+    private final GeoGrid<String> index = new GeoGrid<>();
+
+    public NearbyPortfolioService(UserLocationRepository userLocationRepository) {
+        this.userLocationRepository = userLocationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        int skipped = 0;
+        for (UserLocationRepository.LocationPointRow row : userLocationRepository.findAllPoints()) {
+            if (GeoGrid.isValid(row.getLat(), row.getLng())) {
+                index.put(row.getUserId(), row.getLat(), row.getLng(), row.getAddress());
+            } else {
+                skipped++;
+            }
+        }
+        log.info("위치 인덱스 적재 완료: {}건 (잘못된 좌표 {}건 제외), {}ms",
+                index.size(), skipped, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.getUserId() == null) return;
+        if (event.getType() != ChangeType.LOCATION && event.getType() != ChangeType.MAIN) return;
+        refresh(event.getUserId());
+    }
+
+    /**
+     * 유저 한 명의 위치를 DB 기준으로 다시 반영 (행이 없거나 좌표가 잘못되면 인덱스에서 제거)
+     */
+    public void refresh(Long userId) {
+        userLocationRepository.findByUserId(userId)
+                .filter(location -> location.getLat() != null && location.getLng() != null)
+                .filter(location -> GeoGrid.isValid(location.getLat(), location.getLng()))
+                .ifPresentOrElse(
+                        location -> index.put(userId, location.getLat(), location.getLng(), location.getAddress()),
+                        () -> index.remove(userId));
+    }
+
+    public NearbyResponse nearby(double lat, double lng, double radiusMeters, int limit) {
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new IllegalArgumentException("반경은 0 초과 " + (long) MAX_RADIUS_METERS + "m 이하여야 합니다");
+        }
+        return toResponse(index.nearest(lat, lng, radiusMeters, clampLimit(limit)));
+    }
+
+    public NearbyResponse viewport(double south, double west, double north, double east, int limit) {
+        return toResponse(index.within(south, west, north, east, clampLimit(limit)));
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private static NearbyResponse toResponse(List<GeoGrid.Hit<String>> hits) {
+        List<NearbyItem> items = hits.stream()
+                .map(hit -> new NearbyItem(hit.id(), hit.lat(), hit.lng(), hit.value(), Math.round(hit.distanceMeters())))
+                .toList();
+        return new NearbyResponse(items.size(), items);
+    }
+}
@@ -4,6 +4,9 @@ import com.port.folio.domain.main.dto.LocationResponse;
 import com.port.folio.domain.main.dto.LocationUpdateRequest;
 import com.port.folio.domain.main.entity.UserLocation;
 import com.port.folio.domain.main.repository.UserLocationRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +17,12 @@ import java.time.LocalDateTime;
 public class UserLocationService {
 
     private final UserLocationRepository userLocationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserLocationService(UserLocationRepository userLocationRepository) {
+    public UserLocationService(UserLocationRepository userLocationRepository,
+                               ApplicationEventPublisher eventPublisher) {
         this.userLocationRepository = userLocationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public LocationResponse updateLocation(Long userId, LocationUpdateRequest request) {
@@ -36,6 +42,10 @@ public class UserLocationService {
         }
 
         UserLocation saved = userLocationRepository.save(location);
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.LOCATION)
+                .userId(userId)
+                .build());
 
         return new LocationResponse(
                 saved.getLat(),
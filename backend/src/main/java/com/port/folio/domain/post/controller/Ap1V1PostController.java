@@ -4,8 +4,11 @@ import com.port.folio.domain.category.entity.Category;
 import com.port.folio.domain.post.dto.*;
 import com.port.folio.domain.post.entity.Post;
 import com.port.folio.domain.post.service.PostService;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.List;
 @RequestMapping("/api/posts")
 public class Ap1V1PostController {
     private final PostService postService;
+    private final CursorPaging cursorPaging;
 
     @PostMapping
     public ResponseEntity<String> createPost(@RequestBody CreatePostDto dto, @RequestParam Long categoryId, @RequestParam Long tabId){
@@ -23,9 +27,10 @@ public class Ap1V1PostController {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<PostListDto>> readPostList(@RequestParam Long categoryId){
-        List<PostListDto> postList = postService.getPosts(categoryId);
-        return ResponseEntity.ok(postList);
+    public ResponseEntity<List<PostListDto>> readPostList(@RequestParam Long categoryId,
+                                                          @RequestParam(required = false) Long cursor,
+                                                          @RequestParam(required = false) Integer size){
+        return cursorPaging.respond(cursor, size, (c, n) -> postService.getPosts(categoryId, c, n));
     }
 
     @GetMapping
@@ -40,6 +45,16 @@ public class Ap1V1PostController {
         return ResponseEntity.ok(message);
     }
 
+    // 본문 부분 수정 (기준 버전이 낡았으면 409 + 현재 본문)
+    @PatchMapping
+    public ResponseEntity<ContentPatchResponse> patchPost(@RequestBody ContentPatchRequest req, @RequestParam Long tabId) {
+        try {
+            return patchResult(postService.patchPost(req, tabId));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ContentPatchResponse.conflict(-1, null));
+        }
+    }
+
     @PostMapping("/introduce")
     public ResponseEntity<String> createIntroduce(@RequestBody CreateIntroduce req, @RequestParam Long categoryId) {
         postService.createIntroduce(req, categoryId);
@@ -59,6 +74,21 @@ public class Ap1V1PostController {
         return ResponseEntity.ok("수정 완료");
     }
 
+    @PatchMapping("/introduce")
+    public ResponseEntity<ContentPatchResponse> patchIntro(@RequestBody ContentPatchRequest req, @RequestParam Long categoryId) {
+        try {
+            return patchResult(postService.patchIntro(req, categoryId));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ContentPatchResponse.conflict(-1, null));
+        }
+    }
+
+    private ResponseEntity<ContentPatchResponse> patchResult(ContentPatchResponse result) {
+        return result.isApplied()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+    }
+
 
 
 }
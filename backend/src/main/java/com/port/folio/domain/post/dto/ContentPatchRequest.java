@@ -0,0 +1,22 @@
+package com.port.folio.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 본문 부분 수정 요청 (PATCH)
+ * → edits 의 offset 은 모두 baseVersion 본문 기준, 앞에서부터 겹치지 않게 정렬
+ * → imageUrl(게시글) / title(소개) 은 값이 있을 때만 변경
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContentPatchRequest {
+    private Long baseVersion;
+    private List<TextEdit> edits;
+    private String imageUrl;
+    private String title;
+}
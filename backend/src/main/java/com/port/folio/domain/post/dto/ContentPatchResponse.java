@@ -0,0 +1,26 @@
+package com.port.folio.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 본문 부분 수정 결과
+ * → applied=false: 기준 버전이 낡음, content 는 현재 본문 (알 수 있을 때만, 클라이언트가 다시 맞춰서 재전송)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContentPatchResponse {
+    private boolean applied;
+    private long version;
+    private String content;
+
+    public static ContentPatchResponse applied(long version) {
+        return new ContentPatchResponse(true, version, null);
+    }
+
+    public static ContentPatchResponse conflict(long version, String content) {
+        return new ContentPatchResponse(false, version, content);
+    }
+}
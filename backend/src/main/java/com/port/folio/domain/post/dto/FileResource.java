@@ -8,9 +8,10 @@ import java.time.LocalDateTime;
 @Getter @Setter
 public class FileResource {
     private String id;
-    private String name;      // 표시용 이름 (title과 동일)
+    private String name;      // 표시용 이름 (업로드 당시 파일명, 없으면 title)
     private String title;     // 파일 제목
     private String url;       // presigned URL
+    private String thumbnailUrl; // 이미지 썸네일 presigned URL (없으면 null)
     private LocalDateTime uploadDate;
     private Long size;
 
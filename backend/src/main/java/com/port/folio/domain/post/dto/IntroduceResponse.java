@@ -8,4 +8,6 @@ import lombok.Getter;
 public class IntroduceResponse {
     private String title;
     private String content;
+    // 부분 수정(PATCH) 기준 버전
+    private Long version;
 }
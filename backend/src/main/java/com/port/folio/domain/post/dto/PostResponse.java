@@ -13,6 +13,8 @@ public class PostResponse {
 
     private String content;
     private String imageUrl;
+    // 부분 수정(PATCH) 기준 버전
+    private Long version;
 
 
 }
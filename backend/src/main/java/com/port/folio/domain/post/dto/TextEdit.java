@@ -0,0 +1,18 @@
+package com.port.folio.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 본문 부분 수정 한 건
+ * → 기준 버전 본문의 offset 위치(UTF-16 문자 단위)부터 deleteCount 글자를 지우고 insert 를 넣음
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TextEdit {
+    private int offset;
+    private int deleteCount;
+    private String insert;
+}
@@ -9,7 +9,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Entity
+@Table(indexes = @Index(name = "idx_file_category_id_id", columnList = "category_id, id"))
 @SuperBuilder
 @Getter
 @Setter
@@ -20,6 +24,13 @@ public class File extends BaseEntity {
 
     private String url;
 
+    // 업로드 당시 파일명 (키는 내용 해시라 원래 이름이 남지 않음, 이전 행은 null)
+    private String originalName;
+
+    // 이미지 파생본 키 (백그라운드 변환이 끝나기 전에는 null)
+    private String thumbnailUrl;
+    private String mediumUrl;
+
     private String type;
 
     private Long size;
@@ -30,4 +41,15 @@ public class File extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    /**
+     * 이 파일이 차지하는 저장소 키 전체 (원본 + 파생본)
+     */
+    public List<String> storageKeys() {
+        List<String> keys = new ArrayList<>(3);
+        if (url != null) keys.add(url);
+        if (thumbnailUrl != null) keys.add(thumbnailUrl);
+        if (mediumUrl != null) keys.add(mediumUrl);
+        return keys;
+    }
 }
@@ -2,14 +2,19 @@ package com.port.folio.domain.post.entity;
 
 import com.port.folio.domain.category.entity.Category;
 import com.port.folio.global.Jpa.BaseEntity;
+import com.port.folio.global.Jpa.CompressedTextConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Lob;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @SuperBuilder
@@ -20,10 +25,31 @@ public class Introduce extends BaseEntity {
 
     private String title;
 
-    @Lob
-    @Column(columnDefinition = "TEXT")
+    // 압축 저장, 이전 TEXT 컬럼(legacyContent)은 CompressedTextBackfill 이 옮길 때까지 읽기 fallback
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_z", length = CompressedTextConverter.COLUMN_LENGTH)
     private String content;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Lob
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String legacyContent;
+
+    // 낙관적 락 (기존 행은 0 부터)
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     @OneToOne
     private Category category;
+
+    public String getContent() {
+        return content != null ? content : legacyContent;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.legacyContent = null;
+    }
 }
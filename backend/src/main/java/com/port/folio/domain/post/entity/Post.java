@@ -3,21 +3,38 @@ package com.port.folio.domain.post.entity;
 import com.port.folio.domain.category.entity.Category;
 import com.port.folio.domain.tab.entity.Tab;
 import com.port.folio.global.Jpa.BaseEntity;
+import com.port.folio.global.Jpa.CompressedTextConverter;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_post_category_id_id", columnList = "category_id, id"))
 @SuperBuilder
 @Getter@Setter
 @NoArgsConstructor
 public class Post extends BaseEntity {
 
-    @Lob
-    @Column(columnDefinition = "TEXT")
+    // 압축 저장, 이전 TEXT 컬럼(legacyContent)은 CompressedTextBackfill 이 옮길 때까지 읽기 fallback
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content_z", length = CompressedTextConverter.COLUMN_LENGTH)
     private String content;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Lob
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String legacyContent;
+
+    // 낙관적 락 (기존 행은 0 부터)
+    @Version
+    @ColumnDefault("0")
+    private long version;
+
     private String imageUrl;
     private int views = 0;
 
@@ -28,4 +45,13 @@ public class Post extends BaseEntity {
     @OneToOne
     @JoinColumn(name = "tab_id") // ✅ FK 컬럼
     private Tab tab;
+
+    public String getContent() {
+        return content != null ? content : legacyContent;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.legacyContent = null;
+    }
 }
@@ -0,0 +1,32 @@
+package com.port.folio.domain.post.entity;
+
+import com.port.folio.global.Jpa.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 내용 주소(content-addressed) 저장소 객체
+ * → 키 = "objects/{sha256 앞 2자리}/{sha256}.{확장자}", 같은 내용은 객체 하나를 공유
+ * → refCount = 이 키를 url 로 가진 File 행 수, 0 이 되면 객체 삭제
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stored_object_key", columnNames = "object_key"))
+@SuperBuilder
+@Getter
+@Setter
+@NoArgsConstructor
+public class StoredObject extends BaseEntity {
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    private Long size;
+
+    private int refCount;
+}
@@ -1,17 +1,89 @@
 package com.port.folio.domain.post.repository;
 
 import com.port.folio.domain.post.entity.File;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface FileRepository extends JpaRepository<File, Long> {
     List<File> findAllByCategoryId(Long categoryId);
 
+    // 삭제 후 S3 정리용 키 목록
+    @Query("SELECT f.id AS id, f.url AS url, f.thumbnailUrl AS thumbnailUrl, f.mediumUrl AS mediumUrl " +
+            "FROM File f WHERE f.category.id = :categoryId")
+    List<FileKeyRow> findKeyRowsByCategoryId(@Param("categoryId") Long categoryId);
+
+    // 유저 소유(프로필 이미지 등) 파일 키 조회 - 탈퇴 처리용
+    @Query("SELECT f.id AS id, f.url AS url, f.thumbnailUrl AS thumbnailUrl, f.mediumUrl AS mediumUrl " +
+            "FROM File f WHERE f.user.id = :userId ORDER BY f.id")
+    List<FileKeyRow> findKeyRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 같은 내용(같은 키)의 파일 중 파생본이 이미 만들어진 것
+    Optional<File> findFirstByUrlAndThumbnailUrlIsNotNull(String url);
+
+    // 이미지 파생본 등록 (파일이 이미 삭제되었으면 0)
+    @Modifying
+    @Query("UPDATE File f SET f.thumbnailUrl = :thumbnailUrl, f.mediumUrl = :mediumUrl WHERE f.id = :id")
+    int updateVariants(@Param("id") Long id,
+                       @Param("thumbnailUrl") String thumbnailUrl,
+                       @Param("mediumUrl") String mediumUrl);
+
+    @Modifying
+    @Query("DELETE FROM File f WHERE f.id IN :ids")
+    int bulkDeleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM File f WHERE f.category.id = :categoryId")
+    int bulkDeleteByCategoryId(@Param("categoryId") Long categoryId);
+
+    // 내보내기용 키 + 메타데이터 (커서 이후, 작은 배치)
+    @Query("SELECT f.id AS id, f.title AS title, f.originalName AS originalName, f.type AS type, " +
+            "f.size AS size, f.url AS url " +
+            "FROM File f WHERE f.category.id = :categoryId AND f.id > :cursor ORDER BY f.id")
+    List<FileExportRow> findExportRowsByCategoryId(@Param("categoryId") Long categoryId,
+                                                   @Param("cursor") Long cursor,
+                                                   Pageable pageable);
+
     @Query("SELECT f FROM File f " +
             "WHERE f.category.id = :categoryId " +
             "AND f.type NOT IN ('VIDEO', 'IMAGE')")
     List<File> findAllByCategoryIdExcludeVideoAndImage(@Param("categoryId") Long categoryId);
+
+    @Query("SELECT f FROM File f " +
+            "WHERE f.category.id = :categoryId " +
+            "AND f.type NOT IN ('VIDEO', 'IMAGE') " +
+            "AND f.id > :cursor " +
+            "ORDER BY f.id")
+    List<File> findPageByCategoryIdExcludeVideoAndImage(@Param("categoryId") Long categoryId,
+                                                        @Param("cursor") Long cursor,
+                                                        Pageable pageable);
+
+    interface FileExportRow {
+        Long getId();
+        String getTitle();
+        String getOriginalName();
+        String getType();
+        Long getSize();
+        String getUrl();
+    }
+
+    interface FileKeyRow {
+        Long getId();
+        String getUrl();
+        String getThumbnailUrl();
+        String getMediumUrl();
+
+        default List<String> keys() {
+            return Stream.of(getUrl(), getThumbnailUrl(), getMediumUrl())
+                    .filter(key -> key != null)
+                    .toList();
+        }
+    }
 }
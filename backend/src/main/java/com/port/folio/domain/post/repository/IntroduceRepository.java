@@ -2,7 +2,14 @@ package com.port.folio.domain.post.repository;
 
 import com.port.folio.domain.post.entity.Introduce;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface IntroduceRepository extends JpaRepository<Introduce, Long> {
     Introduce findByCategoryId(Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM Introduce i WHERE i.category.id = :categoryId")
+    int bulkDeleteByCategoryId(@Param("categoryId") Long categoryId);
 }
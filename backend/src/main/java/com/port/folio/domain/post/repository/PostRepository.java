@@ -1,11 +1,25 @@
 package com.port.folio.domain.post.repository;
 
 import com.port.folio.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByCategoryId(long categoryId);
     Post findByTabId(Long tabId);
+    List<Post> findByCategoryIdAndIdGreaterThanOrderByIdAsc(Long categoryId, Long id, Pageable pageable);
+
+    // 탭 게시글의 소유자 (게시글이 없으면 empty)
+    @Query("SELECT p.category.userId FROM Post p WHERE p.tab.id = :tabId")
+    Optional<Long> findOwnerIdByTabId(@Param("tabId") Long tabId);
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.category.id = :categoryId")
+    int bulkDeleteByCategoryId(@Param("categoryId") Long categoryId);
 }
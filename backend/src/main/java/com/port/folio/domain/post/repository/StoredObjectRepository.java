@@ -0,0 +1,37 @@
+package com.port.folio.domain.post.repository;
+
+import com.port.folio.domain.post.entity.StoredObject;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, Long> {
+
+    boolean existsByObjectKey(String objectKey);
+
+    // 잠금 읽기 → 같은 키를 INSERT 중인 다른 트랜잭션이 끝날 때까지 대기, 없는 키면 그 사이 INSERT 를 막음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StoredObject o WHERE o.objectKey = :objectKey")
+    Optional<StoredObject> findForUpdate(@Param("objectKey") String objectKey);
+
+    // 행 잠금을 잡으므로 같은 키의 해제(삭제)와 직렬화됨
+    @Modifying
+    @Query("UPDATE StoredObject o SET o.refCount = o.refCount + 1 WHERE o.objectKey = :objectKey")
+    int incrementRefCount(@Param("objectKey") String objectKey);
+
+    @Modifying
+    @Query("UPDATE StoredObject o SET o.refCount = o.refCount - 1 WHERE o.objectKey = :objectKey AND o.refCount > 0")
+    int decrementRefCount(@Param("objectKey") String objectKey);
+
+    @Query("SELECT o.refCount FROM StoredObject o WHERE o.objectKey = :objectKey")
+    Optional<Integer> findRefCount(@Param("objectKey") String objectKey);
+
+    @Modifying
+    @Query("DELETE FROM StoredObject o WHERE o.objectKey = :objectKey")
+    int deleteByObjectKey(@Param("objectKey") String objectKey);
+}
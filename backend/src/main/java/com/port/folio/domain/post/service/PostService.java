@@ -10,21 +10,28 @@ import com.port.folio.domain.post.repository.PostRepository;
 import com.port.folio.domain.tab.dto.TabRes;
 import com.port.folio.domain.tab.entity.Tab;
 import com.port.folio.domain.tab.repository.TabRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.paging.CursorPage;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 @Transactional
 public class PostService {
+    private static final int MAX_EDITS = 10_000;
+
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
     private final TabRepository tabRepository;
     private final IntroduceRepository introduceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Post createPost(CreatePostDto dto, Long categoryId, Long tabId) {
         Category category = categoryRepository.findById(categoryId)
@@ -38,42 +45,72 @@ public class PostService {
                 .tab(tab)
                 .build();
 
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        publishChanged(ChangeType.POST, categoryId, tabId);
+        return saved;
 
     }
 
-    public List<PostListDto> getPosts(Long categoryId) {
-        List<Post> posts = postRepository.findByCategoryId(categoryId);
-        return posts.stream()
-                .map(post -> new PostListDto(
-                        post.getViews()
-                ))
-                .collect(Collectors.toList());
+    public CursorPage<PostListDto> getPosts(Long categoryId, Long cursor, int size) {
+        List<Post> posts = postRepository.findByCategoryIdAndIdGreaterThanOrderByIdAsc(
+                categoryId, CursorPaging.after(cursor), CursorPaging.fetchOneMore(size));
+        return CursorPage.of(posts, size, Post::getId, post -> new PostListDto(
+                post.getViews()
+        ));
     }
 
     public PostResponse getPost(Long tabId) {
         Post post = postRepository.findByTabId(tabId);
 
         if (post == null) {
-            return new PostResponse(null, null); // 빈 응답
+            return new PostResponse(null, null, null); // 빈 응답
         }
 
         return new PostResponse(
                 post.getContent(),
-                post.getImageUrl()
+                post.getImageUrl(),
+                post.getVersion()
         );
     }
 
     public String updatePost(CreatePostDto dto, Long tabId) {
         Post post = postRepository.findByTabId(tabId);
+        if (post == null) {
+            throw new IllegalArgumentException("게시글이 없습니다");
+        }
 
         post.setContent(dto.getContent());
         post.setImageUrl(dto.getImageUrl());
 
         postRepository.save(post);
+        publishChanged(ChangeType.POST, post.getCategory().getId(), tabId);
         return "업데이트 완료";
     }
 
+    /**
+     * 게시글 본문 부분 수정 (자동 저장용)
+     * → 바뀐 구간만 받아 서버에서 적용, baseVersion 이 현재 버전과 다르면 적용하지 않고 현재 본문 반환
+     * → 확인 이후 동시에 저장된 경우는 @Version 검사로 flush 시점에 실패 (ObjectOptimisticLockingFailureException)
+     */
+    public ContentPatchResponse patchPost(ContentPatchRequest req, Long tabId) {
+        Post post = postRepository.findByTabId(tabId);
+        if (post == null) {
+            throw new IllegalArgumentException("게시글이 없습니다");
+        }
+        if (req.getBaseVersion() == null || post.getVersion() != req.getBaseVersion()) {
+            return ContentPatchResponse.conflict(post.getVersion(), post.getContent());
+        }
+
+        post.setContent(applyEdits(post.getContent(), req.getEdits()));
+        if (req.getImageUrl() != null) {
+            post.setImageUrl(req.getImageUrl());
+        }
+
+        postRepository.saveAndFlush(post);
+        publishChanged(ChangeType.POST, post.getCategory().getId(), tabId);
+        return ContentPatchResponse.applied(post.getVersion());
+    }
+
     public void createIntroduce(CreateIntroduce req, Long categoryId){
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(()-> new IllegalArgumentException("카테고리가 없습니다.test"));
@@ -85,14 +122,15 @@ public class PostService {
                 .build();
 
         introduceRepository.save(introduce);
+        publishChanged(ChangeType.INTRODUCE, categoryId, null);
     }
 
     public IntroduceResponse getIntro(Long categoryId) {
         Introduce introduce = introduceRepository.findByCategoryId(categoryId);
         if (introduce == null) {
-            return new IntroduceResponse(null, null); // or throw new IllegalArgumentException("...")
+            return new IntroduceResponse(null, null, null); // or throw new IllegalArgumentException("...")
         }
-        return new IntroduceResponse(introduce.getTitle(), introduce.getContent());
+        return new IntroduceResponse(introduce.getTitle(), introduce.getContent(), introduce.getVersion());
     }
 
 
@@ -103,5 +141,67 @@ public class PostService {
         introduce.setContent(req.getContent());
 
         introduceRepository.save(introduce);
+        publishChanged(ChangeType.INTRODUCE, categoryId, null);
+    }
+
+    /**
+     * 소개 본문 부분 수정 (patchPost 와 동일한 규칙)
+     */
+    public ContentPatchResponse patchIntro(ContentPatchRequest req, Long categoryId) {
+        Introduce introduce = introduceRepository.findByCategoryId(categoryId);
+        if (introduce == null) {
+            throw new IllegalArgumentException("소개글이 없습니다");
+        }
+        if (req.getBaseVersion() == null || introduce.getVersion() != req.getBaseVersion()) {
+            return ContentPatchResponse.conflict(introduce.getVersion(), introduce.getContent());
+        }
+
+        introduce.setContent(applyEdits(introduce.getContent(), req.getEdits()));
+        if (req.getTitle() != null) {
+            introduce.setTitle(req.getTitle());
+        }
+
+        introduceRepository.saveAndFlush(introduce);
+        publishChanged(ChangeType.INTRODUCE, categoryId, null);
+        return ContentPatchResponse.applied(introduce.getVersion());
+    }
+
+    /**
+     * 기준 본문에 수정 목록 적용 (offset 은 모두 기준 본문 위치, 오름차순 / 겹치지 않음)
+     * → 범위 검사는 덧셈 없이 (offset + deleteCount 가 int 범위를 넘어도 통과하지 않도록)
+     */
+    public static String applyEdits(String base, List<TextEdit> edits) {
+        String text = base != null ? base : "";
+        if (edits == null || edits.isEmpty()) return text;
+        if (edits.size() > MAX_EDITS) {
+            throw new IllegalArgumentException("수정 구간이 너무 많습니다: " + edits.size());
+        }
+
+        long extra = edits.stream().mapToLong(edit -> edit != null && edit.getInsert() != null ? edit.getInsert().length() : 0).sum();
+        StringBuilder sb = new StringBuilder((int) Math.min(text.length() + extra, Integer.MAX_VALUE - 8));
+        int cursor = 0;
+        for (TextEdit edit : edits) {
+            if (edit == null) {
+                throw new IllegalArgumentException("빈 수정 구간입니다");
+            }
+            int offset = edit.getOffset();
+            int deleteCount = edit.getDeleteCount();
+            if (offset < cursor || offset > text.length() || deleteCount < 0 || deleteCount > text.length() - offset) {
+                throw new IllegalArgumentException("잘못된 수정 구간입니다: offset=" + offset + ", deleteCount=" + deleteCount);
+            }
+            sb.append(text, cursor, offset);
+            if (edit.getInsert() != null) sb.append(edit.getInsert());
+            cursor = offset + deleteCount;
+        }
+        sb.append(text, cursor, text.length());
+        return sb.toString();
+    }
+
+    private void publishChanged(ChangeType type, Long categoryId, Long tabId) {
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(type)
+                .categoryId(categoryId)
+                .tabId(tabId)
+                .build());
     }
 }
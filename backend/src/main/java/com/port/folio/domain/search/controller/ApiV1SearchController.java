@@ -0,0 +1,30 @@
+package com.port.folio.domain.search.controller;
+
+import com.port.folio.domain.search.dto.SearchResult;
+import com.port.folio.domain.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class ApiV1SearchController {
+    private final SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<List<SearchResult>> search(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchService.search(q, limit));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    public ResponseEntity<String> rebuild() {
+        searchService.rebuildAll();
+        return ResponseEntity.accepted().body("재색인 시작");
+    }
+}
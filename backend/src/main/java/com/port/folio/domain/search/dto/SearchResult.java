@@ -0,0 +1,16 @@
+package com.port.folio.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+    private String type;       // POST, INTRODUCE, CATEGORY, TAG, FIRST_CARD, SECOND_CARD
+    private Long userId;
+    private Long categoryId;   // 카드 검색 결과는 null
+    private String publicId;   // 카드 검색 결과는 null
+    private String title;
+    private String snippet;
+    private float score;
+}
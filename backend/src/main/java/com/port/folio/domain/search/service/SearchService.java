@@ -0,0 +1,380 @@
+package com.port.folio.domain.search.service;
+
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.main.entity.SkillCategory;
+import com.port.folio.domain.main.repository.SkillCardRepository;
+import com.port.folio.domain.main.repository.SkillCategoryRepository;
+import com.port.folio.domain.post.entity.Introduce;
+import com.port.folio.domain.post.repository.IntroduceRepository;
+import com.port.folio.domain.post.repository.PostRepository;
+import com.port.folio.domain.search.dto.SearchResult;
+import com.port.folio.domain.tag.repository.TagRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 포트폴리오 전문 검색 (Lucene 임베디드 인덱스)
+ * → CJK bigram 분석기로 한글을 2-gram 단위로 색인 (형태소 사전 없이 부분 일치 가능)
+ * → 문서는 "그룹" 단위로 교체: category:{id} (카테고리 제목, 소개, 게시글, 태그) / cards:{userId} (스킬 카드)
+ * → 변경 이벤트는 커밋 이후 단일 워커 스레드에서 그룹별로 재색인
+ * → 인덱스는 로컬 디스크에 저장 (inMemory: true 면 메모리, 테스트처럼 한 JVM 에 컨텍스트가 여럿일 때 쓰기 잠금 충돌 방지)
+ * → 전체 색인이 끝나면 커밋 데이터에 완료 표시 → 표시가 없으면 (처음 / 중간에 끊긴 경우) 기동 시 백그라운드로 다시 전체 색인
+ *   → 대상: 모든 카테고리 + 스킬 카테고리가 있는 모든 유저의 카드 (카테고리가 없는 유저 포함)
+ */
+@Slf4j
+@Service
+public class SearchService {
+
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int MAX_LIMIT = 50;
+    private static final int REBUILD_PAGE_SIZE = 100;
+    private static final String REBUILD_COMPLETE = "rebuildComplete";
+
+    private final Path indexPath;
+    private final boolean inMemory;
+    private final TransactionTemplate readOnlyTx;
+    private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final IntroduceRepository introduceRepository;
+    private final TagRepository tagRepository;
+    private final SkillCategoryRepository skillCategoryRepository;
+    private final SkillCardRepository skillCardRepository;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    private final Set<Long> pendingCategories = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingCardOwners = ConcurrentHashMap.newKeySet();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "search-indexer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SearchService(
+            @Value("${custom.search.indexPath:${custom.genFile.dirPath}/search-index}") String indexPath,
+            @Value("${custom.search.inMemory:false}") boolean inMemory,
+            PlatformTransactionManager transactionManager,
+            CategoryRepository categoryRepository,
+            PostRepository postRepository,
+            IntroduceRepository introduceRepository,
+            TagRepository tagRepository,
+            SkillCategoryRepository skillCategoryRepository,
+            SkillCardRepository skillCardRepository
+    ) {
+        this.indexPath = Path.of(indexPath);
+        this.inMemory = inMemory;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.categoryRepository = categoryRepository;
+        this.postRepository = postRepository;
+        this.introduceRepository = introduceRepository;
+        this.tagRepository = tagRepository;
+        this.skillCategoryRepository = skillCategoryRepository;
+        this.skillCardRepository = skillCardRepository;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = inMemory ? new ByteBuffersDirectory() : FSDirectory.open(indexPath);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        if (!isRebuildComplete()) {
+            rebuildAll();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        worker.shutdown();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * 검색 (제목 일치에 가중치)
+     */
+    public List<SearchResult> search(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query titleQuery = builder.createBooleanQuery("title", keyword, BooleanClause.Occur.MUST);
+        Query contentQuery = builder.createBooleanQuery("content", keyword, BooleanClause.Occur.MUST);
+        if (titleQuery == null && contentQuery == null) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (titleQuery != null) query.add(new BoostQuery(titleQuery, 2f), BooleanClause.Occur.SHOULD);
+        if (contentQuery != null) query.add(contentQuery, BooleanClause.Occur.SHOULD);
+
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query.build(), size);
+
+            List<SearchResult> results = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document doc = searcher.storedFields().document(scoreDoc.doc);
+                results.add(new SearchResult(
+                        doc.get("type"),
+                        longValue(doc, "userId"),
+                        longValue(doc, "categoryId"),
+                        doc.get("publicId"),
+                        doc.get("title"),
+                        doc.get("snippet"),
+                        scoreDoc.score
+                ));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new IllegalStateException("검색 중 오류가 발생했습니다", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("searcher 반환 실패", e);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.getCategoryId() != null && event.getType() != ChangeType.FILE) {
+            if (pendingCategories.add(event.getCategoryId())) {
+                worker.execute(this::drain);
+            }
+        }
+        if (event.getType() == ChangeType.CARD || event.getType() == ChangeType.SKILL) {
+            Long skillId = event.getSkillId();
+            worker.execute(() -> {
+                Long userId = readOnlyTx.execute(status -> skillCategoryRepository.findById(skillId)
+                        .filter(sc -> sc.getUser() != null)
+                        .map(sc -> sc.getUser().getId())
+                        .orElse(null));
+                if (userId != null && pendingCardOwners.add(userId)) {
+                    drain();
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 재색인 (백그라운드) → 끝까지 성공하면 완료 표시를 커밋
+     */
+    public void rebuildAll() {
+        worker.execute(() -> {
+            long started = System.currentTimeMillis();
+            try {
+                int page = 0;
+                Page<Category> categories;
+                do {
+                    int current = page;
+                    categories = readOnlyTx.execute(status -> categoryRepository.findAll(
+                            PageRequest.of(current, REBUILD_PAGE_SIZE, Sort.by("id"))));
+                    for (Category category : categories) {
+                        pendingCategories.add(category.getId());
+                    }
+                    drainOrThrow();
+                    page++;
+                } while (categories.hasNext());
+
+                // 카드는 카테고리 유무와 상관없이 스킬 카테고리 기준
+                long cursor = 0L;
+                List<Long> owners;
+                do {
+                    long current = cursor;
+                    owners = readOnlyTx.execute(status -> skillCategoryRepository.findUserIdsAfter(
+                            current, PageRequest.ofSize(REBUILD_PAGE_SIZE)));
+                    if (owners.isEmpty()) break;
+                    pendingCardOwners.addAll(owners);
+                    drainOrThrow();
+                    cursor = owners.get(owners.size() - 1);
+                } while (owners.size() == REBUILD_PAGE_SIZE);
+
+                writer.setLiveCommitData(Map.of(REBUILD_COMPLETE, "true").entrySet());
+                writer.commit();
+                log.info("검색 인덱스 재생성 완료: {}ms", System.currentTimeMillis() - started);
+            } catch (Exception e) {
+                // 완료 표시가 없으므로 다음 기동 시 다시 전체 색인
+                log.error("검색 인덱스 재생성 실패", e);
+            }
+        });
+    }
+
+    private boolean isRebuildComplete() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (REBUILD_COMPLETE.equals(entry.getKey())) {
+                return "true".equals(entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    private void drainOrThrow() {
+        if (!drain()) {
+            throw new IllegalStateException("검색 인덱스 갱신 실패");
+        }
+    }
+
+    private boolean drain() {
+        try {
+            for (Long categoryId : pendingCategories) {
+                pendingCategories.remove(categoryId);
+                replaceGroup("category:" + categoryId, readOnlyTx.execute(status -> categoryDocuments(categoryId)));
+            }
+            for (Long userId : pendingCardOwners) {
+                pendingCardOwners.remove(userId);
+                replaceGroup("cards:" + userId, readOnlyTx.execute(status -> cardDocuments(userId)));
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            return true;
+        } catch (Exception e) {
+            log.error("검색 인덱스 갱신 실패", e);
+            return false;
+        }
+    }
+
+    private void replaceGroup(String group, List<Document> docs) throws IOException {
+        Term term = new Term("group", group);
+        if (docs == null || docs.isEmpty()) {
+            writer.deleteDocuments(term);
+        } else {
+            writer.updateDocuments(term, docs);
+        }
+    }
+
+    private List<Document> categoryDocuments(Long categoryId) {
+        Category category = categoryRepository.findById(categoryId).orElse(null);
+        if (category == null) {
+            return List.of(); // 삭제된 카테고리 → 그룹 문서만 제거됨
+        }
+
+        String group = "category:" + categoryId;
+        Long userId = category.getUserId();
+        String publicId = category.getPublicId();
+        List<Document> docs = new ArrayList<>();
+
+        docs.add(document(group, "CATEGORY", userId, categoryId, publicId, category.getCategoryTitle(), null));
+
+        Introduce introduce = introduceRepository.findByCategoryId(categoryId);
+        if (introduce != null) {
+            docs.add(document(group, "INTRODUCE", userId, categoryId, publicId, introduce.getTitle(), introduce.getContent()));
+        }
+        postRepository.findByCategoryId(categoryId).forEach(post ->
+                docs.add(document(group, "POST", userId, categoryId, publicId, category.getCategoryTitle(), post.getContent())));
+        tagRepository.findAllByCategoryId(categoryId).forEach(tag ->
+                docs.add(document(group, "TAG", userId, categoryId, publicId, tag.getTagName(), null)));
+
+        return docs;
+    }
+
+    private List<Document> cardDocuments(Long userId) {
+        SkillCategory skillCategory = skillCategoryRepository.findByUserId(userId);
+        if (skillCategory == null) {
+            return List.of();
+        }
+
+        String group = "cards:" + userId;
+        List<Document> docs = new ArrayList<>();
+        skillCardRepository.findAllBySkillCategoryId(skillCategory.getId()).forEach(card ->
+                docs.add(document(group, card.getSlot() + "_CARD", userId, null, null, card.getTitle(),
+                        join(card.getSubTitle(), card.getContent()))));
+        return docs;
+    }
+
+    private Document document(String group, String type, Long userId, Long categoryId, String publicId,
+                              String title, String content) {
+        Document doc = new Document();
+        doc.add(new StringField("group", group, Field.Store.NO));
+        doc.add(new StringField("type", type, Field.Store.YES));
+        if (userId != null) doc.add(new StoredField("userId", userId));
+        if (categoryId != null) doc.add(new StoredField("categoryId", categoryId));
+        if (publicId != null) doc.add(new StoredField("publicId", publicId));
+        if (title != null) doc.add(new TextField("title", title, Field.Store.YES));
+
+        String text = stripMarkup(content);
+        if (!text.isEmpty()) {
+            doc.add(new TextField("content", text, Field.Store.NO));
+            doc.add(new StoredField("snippet", text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) : text));
+        }
+        return doc;
+    }
+
+    // 에디터 본문의 HTML 태그 제거
+    private String stripMarkup(String content) {
+        if (content == null) return "";
+        return content.replaceAll("<[^>]*>", " ").replaceAll("\\s+", " ").trim();
+    }
+
+    private String join(String a, String b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a + " " + b;
+    }
+
+    private Long longValue(Document doc, String name) {
+        IndexableField field = doc.getField(name);
+        return field == null ? null : field.numericValue().longValue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.port.folio.domain.snapshot.controller;
+
+import com.port.folio.domain.snapshot.service.PortfolioSnapshotService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+@RestController
+@RequestMapping("/api/snapshot")
+@RequiredArgsConstructor
+public class ApiV1SnapshotController {
+    private final PortfolioSnapshotService portfolioSnapshotService;
+
+    // 공개 포트폴리오 스냅샷 (JPA 를 거치지 않고 파일을 그대로 전송)
+    @GetMapping("/portfolio/{publicId}")
+    public void getPortfolio(@PathVariable String publicId, HttpServletResponse response) throws IOException {
+        if (!publicId.matches("[0-9a-fA-F-]{36}")) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        sendFile(portfolioSnapshotService.portfolioPath(publicId), response);
+    }
+
+    @GetMapping("/profile/{userId}")
+    public void getProfile(@PathVariable Long userId, HttpServletResponse response) throws IOException {
+        sendFile(portfolioSnapshotService.profilePath(userId), response);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    public ResponseEntity<String> rebuildAll() {
+        portfolioSnapshotService.rebuildAll();
+        return ResponseEntity.accepted().body("재생성 시작");
+    }
+
+    // 채널을 먼저 열어두면 그 사이 rename 이 일어나도 열린 파일은 그대로 유지됨
+    private void sendFile(Path path, HttpServletResponse response) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = file.size();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.setContentLengthLong(size);
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(position, size - position, out);
+            }
+        } catch (NoSuchFileException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+        }
+    }
+}
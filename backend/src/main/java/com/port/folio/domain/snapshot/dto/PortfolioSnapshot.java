@@ -0,0 +1,28 @@
+package com.port.folio.domain.snapshot.dto;
+
+import com.port.folio.domain.post.dto.IntroduceResponse;
+import com.port.folio.domain.tab.dto.BasicTabDto;
+import com.port.folio.domain.tab.dto.TabRes;
+import com.port.folio.domain.tag.dto.TagResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공개 포트폴리오(카테고리) 정적 스냅샷
+ */
+@Getter
+@AllArgsConstructor
+public class PortfolioSnapshot {
+    private Long categoryId;
+    private String publicId;
+    private String categoryTitle;
+    private Long userId;
+    private BasicTabDto basicTab;
+    private IntroduceResponse introduce;
+    private List<TabRes> tabs;
+    private List<TagResponse> tags;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,28 @@
+package com.port.folio.domain.snapshot.dto;
+
+import com.port.folio.domain.category.dto.CategoryResponse;
+import com.port.folio.domain.main.dto.CardResponse;
+import com.port.folio.domain.main.dto.LocationResponse;
+import com.port.folio.domain.main.dto.MainResponse;
+import com.port.folio.domain.main.dto.SkillCategoryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 유저 메인 프로필 정적 스냅샷
+ */
+@Getter
+@AllArgsConstructor
+public class ProfileSnapshot {
+    private Long userId;
+    private MainResponse main;
+    private SkillCategoryResponse skillCategory;
+    private List<CardResponse> firstCards;
+    private List<CardResponse> secondCards;
+    private LocationResponse location;
+    private List<CategoryResponse> categories;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,303 @@
+package com.port.folio.domain.snapshot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.category.service.CategoryService;
+import com.port.folio.domain.main.dto.LocationResponse;
+import com.port.folio.domain.main.dto.SkillCardsResponse;
+import com.port.folio.domain.main.entity.Main;
+import com.port.folio.domain.main.entity.SkillCategory;
+import com.port.folio.domain.main.repository.MainRepository;
+import com.port.folio.domain.main.repository.SkillCategoryRepository;
+import com.port.folio.domain.main.repository.UserLocationRepository;
+import com.port.folio.domain.main.service.MainService;
+import com.port.folio.domain.post.service.PostService;
+import com.port.folio.domain.snapshot.dto.PortfolioSnapshot;
+import com.port.folio.domain.snapshot.dto.ProfileSnapshot;
+import com.port.folio.domain.tab.entity.BasicTab;
+import com.port.folio.domain.tab.repository.BasicTabRepository;
+import com.port.folio.domain.tab.service.TabService;
+import com.port.folio.domain.tag.service.TagService;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.paging.CursorPage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 공개 포트폴리오 / 유저 프로필 정적 JSON 스냅샷 생성
+ * → custom.genFile.dirPath 아래에 portfolio/{publicId}.json, profile/{userId}.json 으로 저장
+ * → 임시 파일에 쓴 뒤 atomic rename 하므로 읽는 쪽은 절대 쓰다 만 파일을 보지 않음
+ * → 변경 이벤트는 커밋 이후 단일 워커 스레드에서 처리 (같은 대상의 연속 변경은 한 번으로 합쳐짐)
+ */
+@Slf4j
+@Service
+public class PortfolioSnapshotService {
+
+    private static final int REBUILD_PAGE_SIZE = 100;
+    private static final int READ_PAGE_SIZE = 200;
+
+    private final Path portfolioDir;
+    private final Path profileDir;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    private final CategoryRepository categoryRepository;
+    private final BasicTabRepository basicTabRepository;
+    private final MainRepository mainRepository;
+    private final SkillCategoryRepository skillCategoryRepository;
+    private final UserLocationRepository userLocationRepository;
+    private final CategoryService categoryService;
+    private final TabService tabService;
+    private final TagService tagService;
+    private final PostService postService;
+    private final MainService mainService;
+
+    // 중복 요청 제거용 대기열 (categoryId / userId)
+    private final Set<Long> pendingCategories = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingProfiles = ConcurrentHashMap.newKeySet();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "snapshot-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public PortfolioSnapshotService(
+            @Value("${custom.genFile.dirPath}") String dirPath,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            CategoryRepository categoryRepository,
+            BasicTabRepository basicTabRepository,
+            MainRepository mainRepository,
+            SkillCategoryRepository skillCategoryRepository,
+            UserLocationRepository userLocationRepository,
+            CategoryService categoryService,
+            TabService tabService,
+            TagService tagService,
+            PostService postService,
+            MainService mainService
+    ) {
+        this.portfolioDir = Path.of(dirPath, "portfolio");
+        this.profileDir = Path.of(dirPath, "profile");
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.categoryRepository = categoryRepository;
+        this.basicTabRepository = basicTabRepository;
+        this.mainRepository = mainRepository;
+        this.skillCategoryRepository = skillCategoryRepository;
+        this.userLocationRepository = userLocationRepository;
+        this.categoryService = categoryService;
+        this.tabService = tabService;
+        this.tagService = tagService;
+        this.postService = postService;
+        this.mainService = mainService;
+    }
+
+    public Path portfolioPath(String publicId) {
+        return portfolioDir.resolve(publicId + ".json");
+    }
+
+    public Path profilePath(Long userId) {
+        return profileDir.resolve(userId + ".json");
+    }
+
+    /**
+     * 스냅샷 디렉토리가 비어 있는지 (콜드 스타트 판단용)
+     */
+    public boolean isEmpty() {
+        if (!Files.isDirectory(portfolioDir)) return true;
+        try (Stream<Path> files = Files.list(portfolioDir)) {
+            return files.findAny().isEmpty();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.getCategoryId() != null) {
+            if (event.getType() == ChangeType.CATEGORY && event.getPublicId() != null) {
+                // 삭제된 카테고리는 DB 에서 publicId 를 찾을 수 없으므로 이벤트 값으로 처리
+                String publicId = event.getPublicId();
+                Long categoryId = event.getCategoryId();
+                worker.execute(() -> rebuildPortfolioOrDelete(categoryId, publicId));
+            } else {
+                schedulePortfolio(event.getCategoryId());
+            }
+        }
+        if (event.getUserId() != null) {
+            scheduleProfile(event.getUserId());
+        } else if (event.getSkillId() != null) {
+            Long skillId = event.getSkillId();
+            worker.execute(() -> readOnlyTx.executeWithoutResult(status ->
+                    skillCategoryRepository.findById(skillId)
+                            .filter(sc -> sc.getUser() != null)
+                            .ifPresent(sc -> scheduleProfile(sc.getUser().getId()))));
+        }
+    }
+
+    /**
+     * 전체 재생성 (콜드 스타트 / 관리자 명령)
+     * → 카테고리를 페이지 단위로 읽어 한 번에 전부 메모리에 올리지 않음
+     */
+    public void rebuildAll() {
+        worker.execute(() -> {
+            long started = System.currentTimeMillis();
+            int page = 0;
+            int count = 0;
+            Page<Category> categories;
+            do {
+                int current = page;
+                categories = readOnlyTx.execute(status -> categoryRepository.findAll(
+                        PageRequest.of(current, REBUILD_PAGE_SIZE, Sort.by("id"))));
+                for (Category category : categories) {
+                    pendingCategories.add(category.getId());
+                    pendingProfiles.add(category.getUserId());
+                }
+                drain();
+                count += categories.getNumberOfElements();
+                page++;
+            } while (categories.hasNext());
+
+            // 카테고리가 없는 유저도 프로필 스냅샷은 필요
+            readOnlyTx.executeWithoutResult(status -> mainRepository.findAll().stream()
+                    .filter(main -> main.getUser() != null)
+                    .forEach(main -> pendingProfiles.add(main.getUser().getId())));
+            drain();
+
+            log.info("스냅샷 전체 재생성 완료: 카테고리 {}개, {}ms", count, System.currentTimeMillis() - started);
+        });
+    }
+
+    private void schedulePortfolio(Long categoryId) {
+        if (pendingCategories.add(categoryId)) {
+            worker.execute(this::drain);
+        }
+    }
+
+    private void scheduleProfile(Long userId) {
+        if (pendingProfiles.add(userId)) {
+            worker.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        for (Long categoryId : pendingCategories) {
+            pendingCategories.remove(categoryId);
+            rebuildPortfolioOrDelete(categoryId, null);
+        }
+        for (Long userId : pendingProfiles) {
+            pendingProfiles.remove(userId);
+            rebuildProfile(userId);
+        }
+    }
+
+    private void rebuildPortfolioOrDelete(Long categoryId, String knownPublicId) {
+        try {
+            PortfolioSnapshot snapshot = readOnlyTx.execute(status -> loadPortfolio(categoryId));
+            if (snapshot == null) {
+                if (knownPublicId != null) {
+                    Files.deleteIfExists(portfolioPath(knownPublicId));
+                }
+                return;
+            }
+            writeAtomically(portfolioPath(snapshot.getPublicId()), snapshot);
+        } catch (Exception e) {
+            log.error("포트폴리오 스냅샷 생성 실패: categoryId={}", categoryId, e);
+        }
+    }
+
+    private void rebuildProfile(Long userId) {
+        try {
+            ProfileSnapshot snapshot = readOnlyTx.execute(status -> loadProfile(userId));
+            if (snapshot == null) {
+                Files.deleteIfExists(profilePath(userId));
+                return;
+            }
+            writeAtomically(profilePath(userId), snapshot);
+        } catch (Exception e) {
+            log.error("프로필 스냅샷 생성 실패: userId={}", userId, e);
+        }
+    }
+
+    private PortfolioSnapshot loadPortfolio(Long categoryId) {
+        Category category = categoryRepository.findById(categoryId).orElse(null);
+        if (category == null) return null;
+
+        BasicTab basicTab = basicTabRepository.findByCategoryId(categoryId);
+
+        return new PortfolioSnapshot(
+                category.getId(),
+                category.getPublicId(),
+                category.getCategoryTitle(),
+                category.getUserId(),
+                basicTab != null ? tabService.getBasicTabs(categoryId) : null,
+                postService.getIntro(categoryId),
+                CursorPage.readAll(cursor -> tabService.getTabs(categoryId, cursor, READ_PAGE_SIZE)),
+                CursorPage.readAll(cursor -> tagService.getTags(categoryId, cursor, READ_PAGE_SIZE)),
+                LocalDateTime.now()
+        );
+    }
+
+    private ProfileSnapshot loadProfile(Long userId) {
+        Main main = mainRepository.findByUserId(userId);
+        if (main == null) return null;
+
+        SkillCategory skillCategory = skillCategoryRepository.findByUserId(userId);
+        SkillCardsResponse cards = skillCategory == null ? new SkillCardsResponse(List.of(), List.of())
+                : mainService.getCards(skillCategory.getId());
+        LocationResponse location = userLocationRepository.findByUserId(userId)
+                .map(l -> new LocationResponse(l.getLat(), l.getLng(), l.getAddress(), l.getEmail(), l.getPhoneNumber()))
+                .orElse(null);
+
+        return new ProfileSnapshot(
+                userId,
+                mainService.getMain(userId),
+                skillCategory != null ? mainService.getSkillCategory(userId) : null,
+                cards.getFirstCards(),
+                cards.getSecondCards(),
+                location,
+                CursorPage.readAll(cursor -> categoryService.getCategories(userId, cursor, READ_PAGE_SIZE)),
+                LocalDateTime.now()
+        );
+    }
+
+    // 같은 디렉토리의 임시 파일에 쓴 뒤 rename → 같은 파일시스템이므로 원자적
+    private void writeAtomically(Path target, Object snapshot) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".snapshot-", ".tmp");
+        try {
+            Files.write(tmp, objectMapper.writeValueAsBytes(snapshot));
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
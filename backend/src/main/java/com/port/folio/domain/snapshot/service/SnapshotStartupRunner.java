@@ -0,0 +1,26 @@
+package com.port.folio.domain.snapshot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콜드 스타트 시 스냅샷 전체 생성
+ * → 스냅샷 디렉토리가 비어 있거나 --snapshot.rebuild 인자로 실행한 경우
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotStartupRunner implements ApplicationRunner {
+    private final PortfolioSnapshotService portfolioSnapshotService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("snapshot.rebuild") || portfolioSnapshotService.isEmpty()) {
+            log.info("스냅샷 전체 재생성 예약");
+            portfolioSnapshotService.rebuildAll();
+        }
+    }
+}
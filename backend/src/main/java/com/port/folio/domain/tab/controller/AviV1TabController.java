@@ -6,6 +6,7 @@ import com.port.folio.domain.tab.dto.CreateTabReq;
 import com.port.folio.domain.tab.dto.TabRes;
 import com.port.folio.domain.tab.entity.Tab;
 import com.port.folio.domain.tab.service.TabService;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +18,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AviV1TabController {
         private final TabService tabService;
+        private final CursorPaging cursorPaging;
     @PostMapping
     public ResponseEntity<String> createTab(@RequestBody CreateTabReq req, @RequestParam Long categoryId){
         tabService.createTab(req, categoryId);
@@ -25,10 +27,10 @@ public class AviV1TabController {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<List<TabRes>> tabsList(@RequestParam Long categoryId){
-        List<TabRes> tabRes = tabService.getTabs(categoryId);
-
-        return ResponseEntity.ok(tabRes);
+    public ResponseEntity<List<TabRes>> tabsList(@RequestParam Long categoryId,
+                                                 @RequestParam(required = false) Long cursor,
+                                                 @RequestParam(required = false) Integer size){
+        return cursorPaging.respond(cursor, size, (c, n) -> tabService.getTabs(categoryId, c, n));
     }
 
     @GetMapping("/basic")
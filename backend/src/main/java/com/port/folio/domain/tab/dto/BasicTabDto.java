@@ -2,9 +2,11 @@ package com.port.folio.domain.tab.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class BasicTabDto {
 
     private String basicTab1;
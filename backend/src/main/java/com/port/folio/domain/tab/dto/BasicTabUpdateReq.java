@@ -1,8 +1,12 @@
 package com.port.folio.domain.tab.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@AllArgsConstructor
+@NoArgsConstructor
 public class BasicTabUpdateReq {
     private String basicContent1;
 }
@@ -15,6 +15,7 @@ import java.util.List;
 @SuperBuilder
 @NoArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_tab_category_id_id", columnList = "category_id, id"))
 public class Tab extends BaseEntity {
 
     private String tabName;
@@ -2,7 +2,20 @@ package com.port.folio.domain.tab.repository;
 
 import com.port.folio.domain.tab.entity.BasicTab;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface BasicTabRepository extends JpaRepository<BasicTab, Long> {
     BasicTab findByCategoryId(Long categoryId);
+
+    // 카테고리 기본 탭의 소유자 (기본 탭이 없으면 empty)
+    @Query("SELECT b.category.userId FROM BasicTab b WHERE b.category.id = :categoryId")
+    Optional<Long> findOwnerIdByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM BasicTab b WHERE b.category.id = :categoryId")
+    int bulkDeleteByCategoryId(@Param("categoryId") Long categoryId);
 }
@@ -1,10 +1,35 @@
 package com.port.folio.domain.tab.repository;
 
 import com.port.folio.domain.tab.entity.Tab;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TabRepository extends JpaRepository<Tab, Long> {
     List<Tab> findAllByCategoryId(Long categoryId);
+
+    @Query("SELECT t.id FROM Tab t WHERE t.category.id = :categoryId ORDER BY t.id")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    // 커서 페이지 조회 + 게시글 fetch join (탭마다 post 를 따로 조회하지 않음)
+    @Query("SELECT t FROM Tab t LEFT JOIN FETCH t.post " +
+            "WHERE t.category.id = :categoryId AND t.id > :cursor " +
+            "ORDER BY t.id")
+    List<Tab> findPageWithPost(@Param("categoryId") Long categoryId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT t FROM Tab t LEFT JOIN FETCH t.post WHERE t.category.id = :categoryId ORDER BY t.id")
+    Stream<Tab> streamWithPost(@Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM Tab t WHERE t.category.id = :categoryId")
+    int bulkDeleteByCategoryId(@Param("categoryId") Long categoryId);
 }
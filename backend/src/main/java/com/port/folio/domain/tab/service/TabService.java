@@ -13,12 +13,16 @@ import com.port.folio.domain.tab.entity.BasicTab;
 import com.port.folio.domain.tab.entity.Tab;
 import com.port.folio.domain.tab.repository.BasicTabRepository;
 import com.port.folio.domain.tab.repository.TabRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.paging.CursorPage;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +32,7 @@ public class TabService {
     private final CategoryRepository categoryRepository;
     private final PostRepository postRepository;
     private final BasicTabRepository basicTabRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void createTab(CreateTabReq req, Long categoryId) {
 
@@ -41,21 +46,18 @@ public class TabService {
                 .build();
 
         tabRepository.save(tab);
-
-
+        publishChanged(categoryId, tab.getId());
     }
 
-    public List<TabRes> getTabs(Long categoryId){
-        List<Tab> tabs = tabRepository.findAllByCategoryId(categoryId);
-        return tabs.stream()
-                .map(tab -> new TabRes(
-                        tab.getId(),
-                        tab.getTabName(),
-                        tab.getCategory().getId(),
-                        tab.getPost() != null ? tab.getPost().getContent() : null
-                ))
-                .collect(Collectors.toList());
-
+    public CursorPage<TabRes> getTabs(Long categoryId, Long cursor, int size){
+        List<Tab> tabs = tabRepository.findPageWithPost(
+                categoryId, CursorPaging.after(cursor), CursorPaging.fetchOneMore(size));
+        return CursorPage.of(tabs, size, Tab::getId, tab -> new TabRes(
+                tab.getId(),
+                tab.getTabName(),
+                categoryId,
+                tab.getPost() != null ? tab.getPost().getContent() : null
+        ));
     }
 
     public BasicTabDto getBasicTabs(Long categoryId){
@@ -71,10 +73,14 @@ public class TabService {
 
     public String updateBasicContent(BasicTabUpdateReq req, Long categoryId){
         BasicTab basicTab = basicTabRepository.findByCategoryId(categoryId);
+        if (basicTab == null) {
+            throw new IllegalArgumentException("기본 탭이 없습니다");
+        }
 
         basicTab.setBasicContent1(req.getBasicContent1());
 
         basicTabRepository.save(basicTab);
+        publishChanged(categoryId, null);
         return "수정 완료";
     }
 
@@ -82,5 +88,14 @@ public class TabService {
         Tab tab = tabRepository.findById(tabId)
                         .orElseThrow(()->new IllegalArgumentException("탭을 찾을 수 없습니다."));
         tabRepository.delete(tab);
+        publishChanged(tab.getCategory().getId(), tabId);
+    }
+
+    private void publishChanged(Long categoryId, Long tabId) {
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.TAB)
+                .categoryId(categoryId)
+                .tabId(tabId)
+                .build());
     }
 }
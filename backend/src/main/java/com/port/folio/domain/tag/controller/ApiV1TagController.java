@@ -2,8 +2,12 @@ package com.port.folio.domain.tag.controller;
 
 import com.port.folio.domain.tag.dto.TagRequest;
 import com.port.folio.domain.tag.dto.TagResponse;
+import com.port.folio.domain.tag.dto.TagSearchResponse;
+import com.port.folio.domain.tag.dto.TagSetRequest;
 import com.port.folio.domain.tag.repository.TagRepository;
+import com.port.folio.domain.tag.service.TagIndexService;
 import com.port.folio.domain.tag.service.TagService;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ApiV1TagController {
     private final TagService tagService;
+    private final TagIndexService tagIndexService;
+    private final CursorPaging cursorPaging;
 
     @PostMapping
     public ResponseEntity<TagResponse> createTag(@RequestBody TagRequest req, @RequestParam Long categoryId){
@@ -27,9 +33,10 @@ public class ApiV1TagController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TagResponse>> getTags(@RequestParam Long categoryId){
-        List<TagResponse> tagResponse = tagService.getTags(categoryId);
-        return ResponseEntity.ok(tagResponse);
+    public ResponseEntity<List<TagResponse>> getTags(@RequestParam Long categoryId,
+                                                     @RequestParam(required = false) Long cursor,
+                                                     @RequestParam(required = false) Integer size){
+        return cursorPaging.respond(cursor, size, (c, n) -> tagService.getTags(categoryId, c, n));
     }
 
     @PutMapping
@@ -38,9 +45,30 @@ public class ApiV1TagController {
         return ResponseEntity.ok("수정 완료");
     }
 
+    // 카테고리 태그 목록 통째로 교체 (결과 태그 목록 반환)
+    @PutMapping("/set")
+    public ResponseEntity<List<TagResponse>> replaceTags(@RequestBody TagSetRequest req, @RequestParam Long categoryId){
+        return ResponseEntity.ok(tagService.replaceTags(req, categoryId));
+    }
+
     @DeleteMapping
     public ResponseEntity<String> deleteTag(@RequestParam Long tagId){
         tagService.deleteTag(tagId);
         return ResponseEntity.ok("삭제 완료");
     }
+
+    // 태그로 포트폴리오 찾기 (mode=AND: 모든 태그, OR: 하나 이상)
+    @GetMapping("/categories")
+    public ResponseEntity<TagSearchResponse> findCategories(@RequestParam List<String> tags,
+                                                            @RequestParam(defaultValue = "AND") String mode,
+                                                            @RequestParam(defaultValue = "100") int limit){
+        TagSearchResponse response = tagIndexService.findCategories(tags, "AND".equalsIgnoreCase(mode), limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<String>> autocomplete(@RequestParam String prefix,
+                                                     @RequestParam(defaultValue = "10") int limit){
+        return ResponseEntity.ok(tagIndexService.autocomplete(prefix, limit));
+    }
 }
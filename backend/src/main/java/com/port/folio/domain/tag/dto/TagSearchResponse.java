@@ -0,0 +1,13 @@
+package com.port.folio.domain.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TagSearchResponse {
+    private int total;
+    private List<Long> categoryIds;
+}
@@ -0,0 +1,13 @@
+package com.port.folio.domain.tag.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 카테고리의 최종 태그 목록 (이 목록으로 통째로 교체)
+ */
+@Getter
+public class TagSetRequest {
+    private List<String> tags;
+}
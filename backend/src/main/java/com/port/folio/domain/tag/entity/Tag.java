@@ -2,13 +2,12 @@ package com.port.folio.domain.tag.entity;
 
 import com.port.folio.domain.category.entity.Category;
 import com.port.folio.global.Jpa.BaseEntity;
-import jakarta.persistence.Entity;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.ManyToOne;
+import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 @Entity
+@Table(indexes = @Index(name = "idx_tag_category_id_id", columnList = "category_id, id"))
 @Getter@Setter
 @NoArgsConstructor
 @SuperBuilder
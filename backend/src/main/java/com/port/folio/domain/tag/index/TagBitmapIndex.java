@@ -0,0 +1,166 @@
+package com.port.folio.domain.tag.index;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 역색인: 정규화된 태그 이름 → 카테고리 id 압축 비트맵(Roaring)
+ * → AND / OR 조합과 접두어 자동완성을 메모리에서 바로 처리
+ * → 카테고리 단위로 태그 목록을 통째로 교체하므로 같은 이름의 중복 태그도 정확히 반영됨
+ */
+public class TagBitmapIndex {
+
+    private final Map<String, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, String[]> namesByCategory = new HashMap<>();
+    private final TagTrie trie = new TagTrie();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 태그 정규화: 유니코드 NFKC, 앞의 '#' 제거, 공백 정리, 소문자
+     */
+    public static String normalize(String tagName) {
+        if (tagName == null) return "";
+        String normalized = Normalizer.normalize(tagName, Normalizer.Form.NFKC).trim();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1).trim();
+        }
+        return normalized.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 카테고리의 태그 목록 교체 (빈 목록이면 카테고리 제거)
+     */
+    public void replaceCategory(long categoryId, Collection<String> tagNames) {
+        int id = Math.toIntExact(categoryId);
+        Set<String> next = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            String name = normalize(tagName);
+            if (!name.isEmpty()) next.add(name);
+        }
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = namesByCategory.getOrDefault(id, new String[0]);
+            for (String name : previous) {
+                if (next.contains(name)) continue;
+                RoaringBitmap bitmap = postings.get(name);
+                if (bitmap == null) continue;
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    postings.remove(name);
+                    trie.remove(name);
+                }
+            }
+            for (String name : next) {
+                RoaringBitmap bitmap = postings.get(name);
+                if (bitmap == null) {
+                    bitmap = new RoaringBitmap();
+                    postings.put(name, bitmap);
+                    trie.add(name);
+                }
+                bitmap.add(id);
+            }
+
+            if (next.isEmpty()) {
+                namesByCategory.remove(id);
+            } else {
+                namesByCategory.put(id, next.toArray(new String[0]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 태그를 가진 카테고리 (AND)
+     */
+    public RoaringBitmap categoriesWithAll(Collection<String> tagNames) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (String tagName : tagNames) {
+                RoaringBitmap bitmap = postings.get(normalize(tagName));
+                if (bitmap == null) return new RoaringBitmap();
+                result = result == null ? bitmap.clone() : RoaringBitmap.and(result, bitmap);
+            }
+            return result == null ? new RoaringBitmap() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 하나라도 태그를 가진 카테고리 (OR)
+     */
+    public RoaringBitmap categoriesWithAny(Collection<String> tagNames) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = new RoaringBitmap();
+            for (String tagName : tagNames) {
+                RoaringBitmap bitmap = postings.get(normalize(tagName));
+                if (bitmap != null) result.or(bitmap);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어 자동완성 (사용 카테고리 수가 많은 순, 같으면 사전순)
+     * → 접두어에 맞는 모든 태그를 보면서 크기 limit 인 최소 힙으로 상위만 유지
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Comparator<String> ranking = Comparator
+                    .comparingInt((String name) -> postings.get(name).getCardinality()).reversed()
+                    .thenComparing(Comparator.naturalOrder());
+            // 힙의 머리 = 지금까지 상위 중 가장 낮은 순위
+            PriorityQueue<String> top = new PriorityQueue<>(limit + 1, ranking.reversed());
+            trie.forEachStartingWith(normalized, name -> {
+                top.offer(name);
+                if (top.size() > limit) top.poll();
+            });
+
+            List<String> result = new ArrayList<>(top);
+            result.sort(ranking);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int tagCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void runOptimize() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.port.folio.domain.tag.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 태그 이름 자동완성용 트라이
+ * → 자식 노드를 char[] 정렬 배열 + 이진 탐색으로 보관 (박싱/맵 없이 메모리 절약)
+ * → 스레드 안전하지 않음, 동기화는 TagBitmapIndex 에서 처리
+ */
+public class TagTrie {
+
+    private static final class Node {
+        char[] keys = new char[0];
+        Node[] children = new Node[0];
+        String word;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+
+            int at = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = c;
+            newChildren[at] = new Node();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) return;
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        boolean isEmpty() {
+            return word == null && keys.length == 0;
+        }
+    }
+
+    private final Node root = new Node();
+
+    public void add(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+        }
+        node.word = word;
+    }
+
+    public void remove(String word) {
+        Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            Node next = path[i].child(word.charAt(i));
+            if (next == null) return;
+            path[i + 1] = next;
+        }
+        path[word.length()].word = null;
+
+        // 비어 있는 노드는 아래에서부터 정리
+        for (int i = word.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(word.charAt(i - 1));
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 모든 단어를 사전순으로 전달
+     */
+    public void forEachStartingWith(String prefix, Consumer<String> action) {
+        Node node = find(prefix);
+        if (node == null) return;
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.word != null) action.accept(current.word);
+            for (int i = current.children.length - 1; i >= 0; i--) {
+                stack.push(current.children[i]);
+            }
+        }
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * prefix 로 시작하는 단어를 사전순으로 최대 max 개 반환
+     */
+    public List<String> startsWith(String prefix, int max) {
+        List<String> result = new ArrayList<>();
+        Node node = find(prefix);
+        if (node == null || max <= 0) return result;
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty() && result.size() < max) {
+            Node current = stack.pop();
+            if (current.word != null) result.add(current.word);
+            for (int i = current.children.length - 1; i >= 0; i--) {
+                stack.push(current.children[i]);
+            }
+        }
+        return result;
+    }
+}
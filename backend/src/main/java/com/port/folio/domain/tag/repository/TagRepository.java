@@ -1,10 +1,49 @@
 package com.port.folio.domain.tag.repository;
 
 import com.port.folio.domain.tag.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
     List<Tag> findAllByCategoryId(Long categoryId);
+    List<Tag> findByCategoryIdAndIdGreaterThanOrderByIdAsc(Long categoryId, Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<Tag> streamAllByCategoryIdOrderById(Long categoryId);
+
+    // 태그 역색인 초기 구성용 (엔티티/카테고리를 로딩하지 않음)
+    @Query("SELECT t.category.id AS categoryId, t.tagName AS tagName FROM Tag t")
+    List<TagIndexRow> findAllIndexRows();
+
+    // 태그 일괄 교체 diff 용 (id, 이름만)
+    @Query("SELECT t.id AS id, t.tagName AS tagName FROM Tag t WHERE t.category.id = :categoryId ORDER BY t.id")
+    List<TagNameRow> findNameRowsByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.category.id = :categoryId")
+    int bulkDeleteByCategoryId(@Param("categoryId") Long categoryId);
+
+    interface TagNameRow {
+        Long getId();
+        String getTagName();
+    }
+
+    interface TagIndexRow {
+        Long getCategoryId();
+        String getTagName();
+    }
 }
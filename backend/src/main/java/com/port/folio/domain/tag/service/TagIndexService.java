@@ -0,0 +1,84 @@
+package com.port.folio.domain.tag.service;
+
+import com.port.folio.domain.tag.dto.TagSearchResponse;
+import com.port.folio.domain.tag.entity.Tag;
+import com.port.folio.domain.tag.index.TagBitmapIndex;
+import com.port.folio.domain.tag.repository.TagRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 포트폴리오 대상 태그 역색인 관리
+ * → 기동 시 전체 태그로 구성, 이후 TagService 의 생성/수정/삭제 커밋마다 해당 카테고리만 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagIndexService {
+    private static final int MAX_LIMIT = 500;
+
+    private final TagRepository tagRepository;
+    private final TagBitmapIndex index = new TagBitmapIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long started = System.currentTimeMillis();
+
+        Map<Long, List<String>> tagsByCategory = new HashMap<>();
+        for (TagRepository.TagIndexRow row : tagRepository.findAllIndexRows()) {
+            if (row.getCategoryId() == null) continue;
+            tagsByCategory.computeIfAbsent(row.getCategoryId(), k -> new ArrayList<>()).add(row.getTagName());
+        }
+        tagsByCategory.forEach(index::replaceCategory);
+        index.runOptimize();
+
+        log.info("태그 역색인 구성 완료: 태그 {}개, {}ms", index.tagCount(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (event.getCategoryId() == null) return;
+        if (event.getType() != ChangeType.TAG && event.getType() != ChangeType.CATEGORY) return;
+
+        List<String> tagNames = tagRepository.findAllByCategoryId(event.getCategoryId()).stream()
+                .map(Tag::getTagName)
+                .toList();
+        index.replaceCategory(event.getCategoryId(), tagNames);
+    }
+
+    /**
+     * 태그 조합으로 카테고리 조회 (matchAll = true 이면 AND, 아니면 OR)
+     */
+    public TagSearchResponse findCategories(List<String> tagNames, boolean matchAll, int limit) {
+        RoaringBitmap bitmap = matchAll ? index.categoriesWithAll(tagNames) : index.categoriesWithAny(tagNames);
+
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<Long> categoryIds = new ArrayList<>(Math.min(size, bitmap.getCardinality()));
+        IntIterator it = bitmap.getIntIterator();
+        while (it.hasNext() && categoryIds.size() < size) {
+            categoryIds.add((long) it.next());
+        }
+        return new TagSearchResponse(bitmap.getCardinality(), categoryIds);
+    }
+
+    public List<String> autocomplete(String prefix, int limit) {
+        return index.autocomplete(prefix, Math.max(1, Math.min(limit, 50)));
+    }
+}
@@ -4,14 +4,25 @@ import com.port.folio.domain.category.entity.Category;
 import com.port.folio.domain.category.repository.CategoryRepository;
 import com.port.folio.domain.tag.dto.TagRequest;
 import com.port.folio.domain.tag.dto.TagResponse;
+import com.port.folio.domain.tag.dto.TagSetRequest;
 import com.port.folio.domain.tag.entity.Tag;
 import com.port.folio.domain.tag.repository.TagRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.paging.CursorPage;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -19,6 +30,8 @@ import java.util.stream.Collectors;
 public class TagService {
     private final TagRepository tagRepository;
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
 
     public TagResponse createTag(TagRequest req, Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
@@ -30,16 +43,18 @@ public class TagService {
                 .build();
 
         tagRepository.save(tag);
+        publishChanged(categoryId);
 
         return new TagResponse(tag.getId(), req.getTagName());
     }
 
-    public List<TagResponse> getTags(Long categoryId){
-        List<Tag> tags = tagRepository.findAllByCategoryId(categoryId);
-        return tags.stream().map(tag -> new TagResponse(
+    public CursorPage<TagResponse> getTags(Long categoryId, Long cursor, int size){
+        List<Tag> tags = tagRepository.findByCategoryIdAndIdGreaterThanOrderByIdAsc(
+                categoryId, CursorPaging.after(cursor), CursorPaging.fetchOneMore(size));
+        return CursorPage.of(tags, size, Tag::getId, tag -> new TagResponse(
                 tag.getId(),
                 tag.getTagName()
-        )).collect(Collectors.toList());
+        ));
     }
 
     public void updateTag(TagRequest req, Long tagId){
@@ -47,12 +62,75 @@ public class TagService {
                 .orElseThrow(()-> new IllegalArgumentException("태크가 없습니다."));
         tag.setTagName(req.getTagName());
         tagRepository.save(tag);
+        publishChanged(tag.getCategory().getId());
     }
 
     public void  deleteTag(Long tagId){
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(()-> new IllegalArgumentException("태크가 없습니다."));
         tagRepository.delete(tag);
+        publishChanged(tag.getCategory().getId());
+    }
+
+    /**
+     * 카테고리 태그를 요청 목록으로 통째로 교체
+     * → 현재 태그를 한 번에 읽어 diff 후 삭제는 IN 한 번, 추가는 JDBC 배치 한 번
+     * → 같은 이름의 태그는 id 를 유지
+     */
+    public List<TagResponse> replaceTags(TagSetRequest req, Long categoryId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다.");
+        }
+
+        Set<String> desired = new LinkedHashSet<>();
+        for (String tagName : req.getTags() == null ? List.<String>of() : req.getTags()) {
+            if (tagName == null || tagName.isBlank()) {
+                throw new IllegalArgumentException("태그 이름이 비어 있습니다.");
+            }
+            if (tagName.trim().length() > 255) {
+                throw new IllegalArgumentException("태그 이름은 255자를 넘을 수 없습니다.");
+            }
+            desired.add(tagName.trim());
+        }
+
+        Set<String> kept = new LinkedHashSet<>();
+        List<Long> toDelete = new ArrayList<>();
+        for (TagRepository.TagNameRow row : tagRepository.findNameRowsByCategoryId(categoryId)) {
+            // 요청에 없거나 이미 남긴 이름과 중복인 태그는 삭제
+            if (!desired.contains(row.getTagName()) || !kept.add(row.getTagName())) {
+                toDelete.add(row.getId());
+            }
+        }
+        List<String> toInsert = desired.stream().filter(name -> !kept.contains(name)).toList();
+
+        if (!toDelete.isEmpty()) {
+            tagRepository.deleteAllByIdIn(toDelete);
+        }
+        if (!toInsert.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO tag (tag_name, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                    toInsert, toInsert.size(),
+                    (ps, tagName) -> {
+                        ps.setString(1, tagName);
+                        ps.setLong(2, categoryId);
+                        ps.setTimestamp(3, now);
+                        ps.setTimestamp(4, now);
+                    });
+        }
+        if (!toDelete.isEmpty() || !toInsert.isEmpty()) {
+            publishChanged(categoryId);
+        }
+
+        return tagRepository.findNameRowsByCategoryId(categoryId).stream()
+                .map(row -> new TagResponse(row.getId(), row.getTagName()))
+                .toList();
+    }
 
+    private void publishChanged(Long categoryId) {
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.TAG)
+                .categoryId(categoryId)
+                .build());
     }
 }
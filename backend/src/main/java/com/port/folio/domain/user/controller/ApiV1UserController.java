@@ -1,6 +1,7 @@
 package com.port.folio.domain.user.controller;
 
 
+import com.port.folio.domain.user.dto.AccountTeardownStatus;
 import com.port.folio.domain.user.dto.LoginRequestDto;
 import com.port.folio.domain.user.dto.SignupRequestDto;
 import com.port.folio.domain.user.dto.TokenResponseDto;
@@ -143,8 +144,13 @@ public class ApiV1UserController {
     }
 
     @DeleteMapping
-    public ResponseEntity<String> deleteUser(@RequestParam Long userId){
-        userService.deleteUser(userId);
-        return ResponseEntity.ok("탈퇴 완료");
+    public ResponseEntity<AccountTeardownStatus> deleteUser(@RequestParam Long userId){
+        // 삭제는 백그라운드에서 진행 → 진행 상황은 /delete-status 로 조회
+        return ResponseEntity.accepted().body(userService.deleteUser(userId));
+    }
+
+    @GetMapping("/delete-status")
+    public ResponseEntity<AccountTeardownStatus> deleteStatus(@RequestParam Long userId){
+        return ResponseEntity.ok(userService.getDeleteStatus(userId));
     }
 }
\ No newline at end of file
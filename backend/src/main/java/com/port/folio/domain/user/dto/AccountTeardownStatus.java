@@ -0,0 +1,34 @@
+package com.port.folio.domain.user.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴(계정 삭제) 작업 진행 상황
+ * → 워커 스레드가 갱신하고 요청 스레드가 읽으므로 필드는 volatile
+ */
+@Getter
+@Setter
+public class AccountTeardownStatus {
+
+    public enum State { PENDING, RUNNING, DONE, FAILED }
+
+    private final Long userId;
+    private volatile State state = State.PENDING;
+    // CATEGORIES → PROFILE → FILES → USER
+    private volatile String phase;
+    private volatile long categoriesTotal;
+    private volatile long categoriesDeleted;
+    // 카테고리에 속하지 않은 유저 소유 파일 (프로필 이미지 등)
+    private volatile long filesDeleted;
+    private volatile String error;
+    private volatile LocalDateTime requestedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public AccountTeardownStatus(Long userId, LocalDateTime requestedAt) {
+        this.userId = userId;
+        this.requestedAt = requestedAt;
+    }
+}
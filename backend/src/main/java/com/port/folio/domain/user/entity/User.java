@@ -10,6 +10,7 @@ import lombok.experimental.SuperBuilder;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -52,6 +53,10 @@ public class User extends BaseEntity {
 
     private String bio;
 
+    // 탈퇴 요청 시각 (null 이 아니면 삭제 작업 대기/진행 중)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + this.role.name()));
     }
@@ -2,9 +2,11 @@ package com.port.folio.domain.user.repository;
 
 import com.port.folio.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -28,5 +30,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
 """)
     Optional<User> findByIdWithRelations(@Param("id") Long id);
 
+    // 탈퇴하지 않은 유저인지 (탈퇴 처리 중이거나 삭제가 끝난 유저는 false)
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+
+    // 탈퇴 처리 중(삭제 작업이 끝나지 않은) 유저
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL")
+    List<Long> findTombstonedIds();
+
+    @Modifying
+    @Query("UPDATE User u SET u.profileImage = null WHERE u.id = :id")
+    int clearProfileImage(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+
 
 }
@@ -0,0 +1,232 @@
+package com.port.folio.domain.user.service;
+
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.category.service.CategoryService;
+import com.port.folio.domain.main.entity.SkillCategory;
+import com.port.folio.domain.main.repository.MainRepository;
+import com.port.folio.domain.main.repository.SkillCardRepository;
+import com.port.folio.domain.main.repository.SkillCategoryRepository;
+import com.port.folio.domain.main.repository.UserLocationRepository;
+import com.port.folio.domain.post.repository.FileRepository;
+import com.port.folio.domain.user.dto.AccountTeardownStatus;
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.event.StorageKeysReleasedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 탈퇴(계정 삭제) 백그라운드 작업
+ * → 요청 시에는 유저를 tombstone(deleted_at) 처리만 하고 즉시 반환
+ * → 단일 워커 스레드가 짧은 트랜잭션 단위로 하위 데이터를 나눠 삭제 (카테고리 하나 / 파일 CHUNK_SIZE 개씩)
+ * → S3 객체는 각 트랜잭션 커밋 이후 일괄 삭제
+ * → 중간에 서버가 내려가도 tombstone 이 남아 있으므로 기동 시 이어서 처리
+ */
+@Slf4j
+@Service
+public class AccountTeardownService {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_TRACKED = 1000;
+
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final MainRepository mainRepository;
+    private final SkillCategoryRepository skillCategoryRepository;
+    private final SkillCardRepository skillCardRepository;
+    private final UserLocationRepository userLocationRepository;
+    private final FileRepository fileRepository;
+
+    // 최근 작업 진행 상황 (오래된 것부터 제거)
+    private final Map<Long, AccountTeardownStatus> progress = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, AccountTeardownStatus> eldest) {
+                    return size() > MAX_TRACKED;
+                }
+            });
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "account-teardown");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AccountTeardownService(
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            UserRepository userRepository,
+            CategoryRepository categoryRepository,
+            CategoryService categoryService,
+            MainRepository mainRepository,
+            SkillCategoryRepository skillCategoryRepository,
+            SkillCardRepository skillCardRepository,
+            UserLocationRepository userLocationRepository,
+            FileRepository fileRepository
+    ) {
+        this.tx = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.mainRepository = mainRepository;
+        this.skillCategoryRepository = skillCategoryRepository;
+        this.skillCardRepository = skillCardRepository;
+        this.userLocationRepository = userLocationRepository;
+        this.fileRepository = fileRepository;
+    }
+
+    /**
+     * 탈퇴 요청: tombstone 처리 후 삭제 작업 예약
+     * → 이후 로그인 / 토큰 재발급 불가
+     */
+    public AccountTeardownStatus requestDeletion(Long userId) {
+        LocalDateTime requestedAt = tx.execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("유저가 없습니다"));
+            if (user.getDeletedAt() == null) {
+                user.setDeletedAt(LocalDateTime.now());
+            }
+            user.setRefreshToken(null);
+            return user.getDeletedAt();
+        });
+
+        return schedule(userId, requestedAt);
+    }
+
+    public AccountTeardownStatus getStatus(Long userId) {
+        AccountTeardownStatus status = progress.get(userId);
+        if (status == null) {
+            throw new IllegalArgumentException("탈퇴 요청 내역이 없습니다");
+        }
+        return status;
+    }
+
+    /**
+     * 기동 시 끝나지 않은 탈퇴 작업 재개
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        List<Long> userIds = userRepository.findTombstonedIds();
+        if (!userIds.isEmpty()) {
+            log.info("미완료 탈퇴 작업 재개: {}건", userIds.size());
+        }
+        userIds.forEach(userId -> schedule(userId, null));
+    }
+
+    private AccountTeardownStatus schedule(Long userId, LocalDateTime requestedAt) {
+        AccountTeardownStatus status = progress.computeIfAbsent(userId, id -> new AccountTeardownStatus(id, requestedAt));
+        if (queued.add(userId)) {
+            status.setState(AccountTeardownStatus.State.PENDING);
+            status.setError(null);
+            worker.execute(() -> {
+                try {
+                    teardown(status);
+                } finally {
+                    queued.remove(userId);
+                }
+            });
+        }
+        return status;
+    }
+
+    private void teardown(AccountTeardownStatus status) {
+        Long userId = status.getUserId();
+        long started = System.currentTimeMillis();
+        status.setState(AccountTeardownStatus.State.RUNNING);
+
+        try {
+            // 1. 카테고리: 하나씩 각자의 트랜잭션에서 일괄 DELETE (CategoryService.deleteCategory)
+            status.setPhase("CATEGORIES");
+            status.setCategoriesTotal(status.getCategoriesDeleted()
+                    + tx.execute(s -> categoryRepository.countByUserId(userId)));
+            List<Long> categoryIds;
+            do {
+                categoryIds = tx.execute(s -> categoryRepository.findIdsByUserId(userId, PageRequest.ofSize(CHUNK_SIZE)));
+                for (Long categoryId : categoryIds) {
+                    categoryService.deleteCategory(categoryId);
+                    status.setCategoriesDeleted(status.getCategoriesDeleted() + 1);
+                }
+            } while (!categoryIds.isEmpty());
+
+            // 2. 메인 프로필 / 스킬 카드 / 위치
+            status.setPhase("PROFILE");
+            tx.executeWithoutResult(s -> {
+                SkillCategory skillCategory = skillCategoryRepository.findByUserId(userId);
+                if (skillCategory != null) {
+                    skillCardRepository.bulkDeleteBySkillCategoryId(skillCategory.getId());
+                    skillCategoryRepository.bulkDeleteByUserId(userId);
+                    eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                            .type(ChangeType.SKILL)
+                            .skillId(skillCategory.getId())
+                            .build());
+                }
+                mainRepository.bulkDeleteByUserId(userId);
+                userLocationRepository.bulkDeleteByUserId(userId);
+            });
+
+            // 3. 카테고리에 속하지 않은 유저 소유 파일 (프로필 이미지 FK 먼저 해제)
+            status.setPhase("FILES");
+            tx.executeWithoutResult(s -> userRepository.clearProfileImage(userId));
+            int deleted;
+            do {
+                deleted = tx.execute(s -> {
+                    List<FileRepository.FileKeyRow> rows = fileRepository.findKeyRowsByUserId(userId, PageRequest.ofSize(CHUNK_SIZE));
+                    if (rows.isEmpty()) return 0;
+                    fileRepository.bulkDeleteByIdIn(rows.stream().map(FileRepository.FileKeyRow::getId).toList());
+                    eventPublisher.publishEvent(new StorageKeysReleasedEvent(
+                            rows.stream().flatMap(row -> row.keys().stream()).toList()));
+                    return rows.size();
+                });
+                status.setFilesDeleted(status.getFilesDeleted() + deleted);
+            } while (deleted > 0);
+
+            // 4. 유저 행 삭제
+            status.setPhase("USER");
+            tx.executeWithoutResult(s -> {
+                userRepository.bulkDeleteById(userId);
+                eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                        .type(ChangeType.MAIN)
+                        .userId(userId)
+                        .build());
+            });
+
+            status.setState(AccountTeardownStatus.State.DONE);
+            status.setFinishedAt(LocalDateTime.now());
+            log.info("탈퇴 처리 완료: userId={}, 카테고리 {}개, 파일 {}개, {}ms", userId,
+                    status.getCategoriesDeleted(), status.getFilesDeleted(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            // tombstone 은 남아 있으므로 재요청 / 재기동 시 이어서 처리
+            status.setState(AccountTeardownStatus.State.FAILED);
+            status.setError(e.getMessage());
+            log.error("탈퇴 처리 실패: userId={}, phase={}", userId, status.getPhase(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
@@ -42,6 +42,10 @@ public class AuthLoginService {
         User user = userOptional
                 .orElseThrow(() -> new IllegalArgumentException("아이디 또는 비밀번호가 올바르지 않습니다."));
 
+        if (user.getDeletedAt() != null) {
+            throw new IllegalArgumentException("탈퇴 처리된 계정입니다.");
+        }
+
 
         // 비밀번호 일치 여부 확인
         if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
@@ -77,6 +81,7 @@ public class AuthLoginService {
         // 2. refreshToken과 일치하는 유저 조회
         User user = userRepository.findByRefreshToken(refreshToken)
                 .filter(u -> u.getRefreshToken().equals(refreshToken))  // 보안상 재확인
+                .filter(u -> u.getDeletedAt() == null)
                 .orElseThrow(() -> new IllegalArgumentException("토큰이 유효하지 않습니다"));
 
         // 3. 새 토큰 발급
@@ -94,6 +99,7 @@ public class AuthLoginService {
     /**
      * AccessToken을 통해 사용자 정보 파싱
      * → Rq.getUserFromAccessToken()에서 사용
+     * → 탈퇴 처리 중이거나 이미 삭제된 유저의 토큰은 만료 전이라도 거부 (PK 조회 한 번)
      */
     public User getUserFromAccessToken(String accessToken) {
         log.info("accessToken 파싱 시도 중");
@@ -116,6 +122,11 @@ public class AuthLoginService {
 
         log.info("token payload userId: {}", userId);
 
+        if (!userRepository.existsByIdAndDeletedAtIsNull(userId)) {
+            log.warn("탈퇴했거나 없는 유저의 accessToken: userId={}", userId);
+            return null;
+        }
+
         return User.builder()
                 .id(userId)
                 .email(email)
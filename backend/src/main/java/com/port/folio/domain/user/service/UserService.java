@@ -5,11 +5,15 @@ import com.port.folio.domain.main.entity.*;
 import com.port.folio.domain.main.repository.MainRepository;
 import com.port.folio.domain.main.repository.SkillCategoryRepository;
 import com.port.folio.domain.main.repository.UserLocationRepository;
+import com.port.folio.domain.user.dto.AccountTeardownStatus;
 import com.port.folio.domain.user.dto.SignupRequestDto;
 import com.port.folio.domain.user.entity.User;
 import com.port.folio.domain.user.entity.UserRole;
 import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.PortfolioChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +28,8 @@ public class UserService {
     private final SkillCategoryRepository skillCategoryRepository;
     private final UserLocationRepository userLocationRepository;
     private final CategoryRepository categoryRepository;
+    private final AccountTeardownService accountTeardownService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원가입
@@ -78,6 +84,10 @@ public class UserService {
                 .build();
 
         userLocationRepository.save(userLocation);
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.LOCATION)
+                .userId(user.getId())
+                .build());
 
         return user;
     }
@@ -94,13 +104,14 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("관계에 해당하는 유저 없음"));
     }
 
-    public void deleteUser(Long userId){
-
-
-        skillCategoryRepository.deleteByUserId(userId);
-        mainRepository.deleteByUserId(userId);
-        categoryRepository.deleteByUserId(userId);
-        userLocationRepository.deleteByUserId(userId);
+    /**
+     * 탈퇴: 즉시 tombstone 처리 후 실제 삭제는 백그라운드 작업으로 진행
+     */
+    public AccountTeardownStatus deleteUser(Long userId){
+        return accountTeardownService.requestDeletion(userId);
+    }
 
+    public AccountTeardownStatus getDeleteStatus(Long userId){
+        return accountTeardownService.getStatus(userId);
     }
 }
\ No newline at end of file
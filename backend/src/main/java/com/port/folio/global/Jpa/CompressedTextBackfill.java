@@ -0,0 +1,114 @@
+package com.port.folio.global.Jpa;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 압축 도입 전 TEXT 본문(content) → 압축 컬럼(content_z) 온라인 이전
+ * → 기동 후 단일 워커 스레드가 id 순서로 BATCH_SIZE 행씩 짧은 트랜잭션으로 옮김 (테이블 잠금 없음)
+ * → 옮긴 행은 content 를 비우므로 다시 실행해도 남은 행만 처리
+ * → 이전 도중 엔티티 저장으로 옛 값이 다시 쓰여도 읽기는 fallback 으로 정상, 다음 실행에서 다시 옮김
+ * → 모든 테이블의 content 가 비면 이후 버전에서 컬럼 삭제 가능
+ */
+@Slf4j
+@Component
+public class CompressedTextBackfill {
+
+    static final List<String> TABLES = List.of("post", "introduce");
+    private static final int BATCH_SIZE = 500;
+
+    private final boolean enabled;
+    private final long pauseMillis;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "compressed-text-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public CompressedTextBackfill(
+            @Value("${custom.compression.backfill.enabled:true}") boolean enabled,
+            @Value("${custom.compression.backfill.pauseMillis:50}") long pauseMillis,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.enabled = enabled;
+        this.pauseMillis = pauseMillis;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        worker.execute(() -> {
+            for (String table : TABLES) {
+                try {
+                    long started = System.currentTimeMillis();
+                    int migrated = migrate(table);
+                    if (migrated > 0) {
+                        log.info("본문 압축 이전 완료: {} {}행, {}ms", table, migrated, System.currentTimeMillis() - started);
+                    }
+                } catch (Exception e) {
+                    log.error("본문 압축 이전 실패: {}", table, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 테이블 하나의 남은 행 전체 이전 → 옮긴 행 수
+     */
+    public int migrate(String table) throws InterruptedException {
+        if (!TABLES.contains(table)) {
+            throw new IllegalArgumentException("압축 대상 테이블이 아닙니다: " + table);
+        }
+
+        int migrated = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    "SELECT id, content FROM " + table + " WHERE id > ? AND content IS NOT NULL AND content_z IS NULL ORDER BY id LIMIT ?",
+                    (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                    lastId, BATCH_SIZE);
+            if (rows.isEmpty()) return migrated;
+
+            List<Object[]> updates = rows.stream()
+                    .map(row -> new Object[]{CompressedTextConverter.encode((String) row[1]), row[0]})
+                    .toList();
+            // content_z IS NULL 조건 → 그 사이 새 값이 저장된 행은 덮어쓰지 않음
+            int[][] counts = tx.execute(status -> jdbcTemplate.batchUpdate(
+                    "UPDATE " + table + " SET content_z = ?, content = NULL WHERE id = ? AND content_z IS NULL",
+                    updates, updates.size(), (ps, args) -> {
+                        ps.setBytes(1, (byte[]) args[0]);
+                        ps.setLong(2, (Long) args[1]);
+                    }));
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    migrated += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                }
+            }
+
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            if (pauseMillis > 0) Thread.sleep(pauseMillis);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
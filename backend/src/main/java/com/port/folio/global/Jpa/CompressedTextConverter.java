@@ -0,0 +1,101 @@
+package com.port.folio.global.Jpa;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문(TEXT) 투명 압축 → 바이너리 컬럼
+ * → THRESHOLD 바이트 미만이거나 압축해도 줄지 않으면 그대로 저장
+ * → 형식: [0x00][UTF-8] / [0x01][원본 길이 4바이트][zlib deflate (BEST_SPEED)]
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    // MySQL 에서 MEDIUMBLOB 으로 생성되는 길이
+    public static final int COLUMN_LENGTH = 16_777_215;
+
+    static final int THRESHOLD = 256;
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return decode(dbData);
+    }
+
+    public static byte[] encode(String text) {
+        if (text == null) return null;
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+        if (utf8.length >= THRESHOLD) {
+            byte[] out = new byte[5 + utf8.length];
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(utf8);
+                deflater.finish();
+                int written = deflater.deflate(out, 5, utf8.length);
+                // 출력 버퍼(원본 크기)를 다 채웠으면 압축 이득 없음
+                if (deflater.finished() && written < utf8.length) {
+                    out[0] = DEFLATE;
+                    out[1] = (byte) (utf8.length >>> 24);
+                    out[2] = (byte) (utf8.length >>> 16);
+                    out[3] = (byte) (utf8.length >>> 8);
+                    out[4] = (byte) utf8.length;
+                    return Arrays.copyOf(out, 5 + written);
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+
+        byte[] out = new byte[1 + utf8.length];
+        out[0] = RAW;
+        System.arraycopy(utf8, 0, out, 1, utf8.length);
+        return out;
+    }
+
+    public static String decode(byte[] data) {
+        if (data == null) return null;
+        if (data.length == 0) return "";
+
+        if (data[0] == RAW) {
+            return new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+        }
+        if (data[0] != DEFLATE) {
+            // 헤더 없는 값 = 압축 도입 전 TEXT 를 그대로 옮긴 값
+            return new String(data, StandardCharsets.UTF_8);
+        }
+
+        int length = ((data[1] & 0xFF) << 24) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 8) | (data[4] & 0xFF);
+        byte[] utf8 = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, 5, data.length - 5);
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(utf8, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalStateException("압축 본문 길이가 맞지 않습니다: " + read + "/" + length);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 본문을 해제할 수 없습니다", e);
+        } finally {
+            inflater.end();
+        }
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -3,6 +3,7 @@ package com.port.folio.global.aws;
 
 
 import com.port.folio.domain.post.dto.FileResource;
+import com.port.folio.global.paging.CursorPaging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,6 +18,7 @@ import java.util.List;
 public class S3Controller {
 
     private final S3Service s3Service;
+    private final CursorPaging cursorPaging;
 
     // ✅ 일반 자료 업로드
     @PostMapping("/upload")
@@ -41,13 +43,16 @@ public class S3Controller {
 
     // ✅ 조회
     @GetMapping("/category/{categoryId}")
-    public List<FileResource> getFilesByCategory(@PathVariable Long categoryId) {
-        return s3Service.getFilesByCategory(categoryId);
+    public ResponseEntity<List<FileResource>> getFilesByCategory(@PathVariable Long categoryId,
+                                                                 @RequestParam(required = false) Long cursor,
+                                                                 @RequestParam(required = false) Integer size) {
+        return cursorPaging.respond(cursor, size, (c, n) -> s3Service.getFilesByCategory(categoryId, c, n));
     }
 
     @GetMapping("/user/{userId}/profile-image")
-    public String getUserProfileImage(@PathVariable Long userId) {
-        return s3Service.getUserProfileImage(userId);
+    public String getUserProfileImage(@PathVariable Long userId,
+                                      @RequestParam(required = false) Integer size) {
+        return s3Service.getUserProfileImage(userId, size);
     }
 
     @GetMapping("/category/{categoryId}/main-video")
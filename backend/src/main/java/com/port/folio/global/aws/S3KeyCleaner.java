@@ -0,0 +1,75 @@
+package com.port.folio.global.aws;
+
+import com.port.folio.global.event.StorageKeysReleasedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 삭제된 파일의 S3 객체 정리
+ * → 커밋 이후 단일 워커 스레드에서 DeleteObjects 로 일괄 삭제 (요청 스레드와 DB 락을 붙잡지 않음)
+ * → 롤백된 삭제는 이벤트가 전달되지 않으므로 S3 객체도 남음
+ * → 내용 주소 키(objects/...)는 바로 지우지 않고 참조 수만 내림 (키마다 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+public class S3KeyCleaner {
+
+    private final boolean enabled;
+    private final S3Service s3Service;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "s3-key-cleaner");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public S3KeyCleaner(@Value("${custom.s3.cleanup.enabled:true}") boolean enabled, S3Service s3Service) {
+        this.enabled = enabled;
+        this.s3Service = s3Service;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeysReleased(StorageKeysReleasedEvent event) {
+        List<String> keys = event.getKeys().stream()
+                .filter(key -> key != null && !key.isBlank())
+                .toList();
+        if (!enabled || keys.isEmpty()) return;
+
+        worker.execute(() -> {
+            List<String> direct = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                if (!S3Service.isContentKey(key)) {
+                    direct.add(key);
+                    continue;
+                }
+                try {
+                    s3Service.releaseContentKey(key);
+                } catch (Exception e) {
+                    log.error("저장소 객체 참조 해제 실패: {}", key, e);
+                }
+            }
+            if (direct.isEmpty()) return;
+
+            try {
+                int failed = s3Service.deleteObjects(direct);
+                if (failed > 0) {
+                    log.warn("S3 객체 삭제 일부 실패: {}/{}개", failed, direct.size());
+                }
+            } catch (Exception e) {
+                log.error("S3 객체 삭제 실패: {}개", direct.size(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+    }
+}
@@ -5,77 +5,186 @@ import com.port.folio.domain.category.repository.CategoryRepository;
 import com.port.folio.domain.post.dto.FileResource;
 import com.port.folio.domain.post.entity.File;
 import com.port.folio.domain.post.repository.FileRepository;
+import com.port.folio.domain.post.repository.StoredObjectRepository;
 import com.port.folio.domain.user.entity.User;
 import com.port.folio.domain.user.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Value;
+import com.port.folio.global.event.ChangeType;
+import com.port.folio.global.event.ImageUploadedEvent;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import com.port.folio.global.event.StorageKeysReleasedEvent;
+import com.port.folio.global.image.ImageDerivativeService;
+import com.port.folio.global.paging.CursorPage;
+import com.port.folio.global.paging.CursorPaging;
+import com.port.folio.global.storage.StorageBackend;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
-
+import java.util.Locale;
+
+/**
+ * 파일 업로드 / 조회 / 삭제
+ * → 실제 저장은 StorageBackend (custom.storage.type: s3 / local) 가 담당
+ * → 업로드는 내용 해시(SHA-256) 키로 저장, 같은 내용이 이미 있으면 참조 수만 올리고 전송 생략
+ * → 키에는 원래 파일명이 남지 않으므로 File.originalName 에 따로 저장 (다운로드 / 내보내기 파일명)
+ */
+@Slf4j
 @Service
 @Transactional
 public class S3Service {
 
-    private final String bucket;
-    private final S3Client s3Client;
-    private final S3Presigner presigner;
+    private static final Duration URL_TTL = Duration.ofMinutes(10);
+    private static final String CONTENT_PREFIX = "objects/";
+
+    private final StorageBackend storage;
     private final FileRepository fileRepository;
+    private final StoredObjectRepository storedObjectRepository;
+    private final JdbcTemplate jdbcTemplate;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNew;
 
     public S3Service(
-            @Value("${cloud.aws.region}") String region,
-            @Value("${cloud.aws.s3.bucket}") String bucket,
+            StorageBackend storage,
             FileRepository fileRepository,
+            StoredObjectRepository storedObjectRepository,
+            JdbcTemplate jdbcTemplate,
             CategoryRepository categoryRepository,
-            UserRepository userRepository
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager
     ) {
-        this.bucket = bucket;
-        this.s3Client = S3Client.builder()
-                .region(Region.of(region))
-                .build();
-
-        this.presigner = S3Presigner.builder()
-                .region(Region.of(region))
-                .build();
-
+        this.storage = storage;
         this.fileRepository = fileRepository;
+        this.storedObjectRepository = storedObjectRepository;
+        this.jdbcTemplate = jdbcTemplate;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
 
     /**
      * 공통 파일 업로드 (카테고리/유저 구분 없이)
+     * → 키 = "objects/{해시 앞 2자리}/{해시}.{확장자}", 같은 내용이면 같은 키
+     * → 이미 저장된 내용이면 참조 수만 +1 (전송 없음), 처음이면 저장 후 참조 수 1 로 등록
+     * → 참조 수는 호출한 트랜잭션과 함께 커밋되고, 해제는 StorageKeysReleasedEvent → releaseContentKey
+     * → 처음 올라온 내용이면 stored_object 행을 먼저 INSERT 해 키를 선점한 뒤 저장
+     *   (같은 내용의 동시 업로드는 이 트랜잭션이 끝날 때까지 행 잠금에서 대기)
+     * → 호출한 트랜잭션이 롤백되면 방금 저장한 객체도 삭제 (registerRollbackCleanup)
      */
-    public String uploadFile(MultipartFile file, String prefix) throws IOException {
-        String key = prefix + "/" + UUID.randomUUID() + "-" + file.getOriginalFilename();
+    public String uploadFile(MultipartFile file) throws IOException {
+        String key = CONTENT_PREFIX + contentKey(file);
+
+        if (storedObjectRepository.incrementRefCount(key) > 0) {
+            return key;
+        }
 
-        s3Client.putObject(
-                PutObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(key)
-                        .contentType(file.getContentType())
-                        .build(),
-                RequestBody.fromBytes(file.getBytes())
-        );
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update("INSERT INTO stored_object (object_key, size, ref_count, created_at, updated_at) VALUES (?, ?, 1, ?, ?)",
+                    key, file.getSize(), now, now);
+        } catch (DuplicateKeyException e) {
+            // 같은 내용을 다른 업로드가 먼저 등록하고 커밋함 → 그 객체를 공유
+            storedObjectRepository.incrementRefCount(key);
+            return key;
+        }
 
+        // 메모리에 통째로 올리지 않고 스트림으로 전달
+        try (InputStream in = file.getInputStream()) {
+            storage.put(key, in, file.getSize(), file.getContentType());
+        } catch (IOException | RuntimeException e) {
+            // 객체 없는 행이 커밋되지 않도록 선점한 행을 되돌림 (IOException 은 롤백 대상이 아님)
+            jdbcTemplate.update("DELETE FROM stored_object WHERE object_key = ?", key);
+            throw e;
+        }
+        registerRollbackCleanup(key);
         return key;
     }
 
+    /**
+     * 호출한 트랜잭션이 롤백되면 선점한 행은 사라지고 객체만 남으므로 삭제
+     * → 잠금 읽기로 확인해서 그 사이 같은 내용을 다른 업로드가 등록했으면 그쪽 객체이므로 유지
+     */
+    private void registerRollbackCleanup(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+                try {
+                    requiresNew.executeWithoutResult(tx -> {
+                        if (storedObjectRepository.findForUpdate(key).isEmpty()) {
+                            storage.delete(List.of(key));
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    log.warn("롤백된 업로드 객체 삭제 실패: {}", key, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 내용 주소 키인지 (참조 수로 관리되는 객체 및 그 파생본)
+     */
+    public static boolean isContentKey(String key) {
+        return key.startsWith(CONTENT_PREFIX);
+    }
+
+    /**
+     * 내용 주소 객체 참조 해제 → 마지막 참조였으면 원본 + 파생본 삭제
+     * → 참조 수 UPDATE 가 행 잠금을 잡은 채로 삭제하므로 같은 내용의 동시 업로드는 삭제가 끝난 뒤 새로 저장
+     * → 파생본 키는 원본과 함께 지워지므로 무시 (원본이 이미 없으면 바로 삭제)
+     */
+    public void releaseContentKey(String key) {
+        String sourceKey = ImageDerivativeService.sourceKey(key);
+        if (sourceKey != null) {
+            if (!storedObjectRepository.existsByObjectKey(sourceKey)) {
+                storage.delete(List.of(key));
+            }
+            return;
+        }
+
+        if (storedObjectRepository.decrementRefCount(key) == 0) return;
+        if (storedObjectRepository.findRefCount(key).orElse(0) > 0) return;
+
+        storedObjectRepository.deleteByObjectKey(key);
+        storage.delete(List.of(key,
+                key + ImageDerivativeService.THUMBNAIL_SUFFIX,
+                key + ImageDerivativeService.MEDIUM_SUFFIX));
+    }
+
+    /**
+     * 바이트 배열 그대로 저장 (이미지 파생본 등 서버에서 만든 객체)
+     */
+    public void putObject(String key, byte[] bytes, String contentType) throws IOException {
+        storage.put(key, bytes, contentType);
+    }
+
     /**
      * 카테고리 자료 업로드 (DB 저장 포함)
      */
@@ -83,11 +192,12 @@ public class S3Service {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("카테고리가 없습니다"));
 
-        String key = uploadFile(file, "files/" + categoryId);
+        String key = uploadFile(file);
 
         File fileEntity = File.builder()
                 .title(title)
                 .url(key)
+                .originalName(originalName(file))
                 .category(category)
                 .size(file.getSize())
                 .type("FILE") // 또는 적절한 타입
@@ -95,23 +205,26 @@ public class S3Service {
 
         fileRepository.save(fileEntity);
 
+        if (isImage(file)) {
+            copyVariantsOrGenerate(fileEntity);
+        }
+
+        publishChanged(null, categoryId);
         return generatePresignedUrl(key);
     }
 
     /**
-     * presigned URL 생성
+     * 다운로드 URL 생성 (S3 presigned URL / 로컬 서명 URL)
      */
     public String generatePresignedUrl(String key) {
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build();
+        return storage.url(key, URL_TTL);
+    }
 
-        return presigner.presignGetObject(r -> r
-                        .getObjectRequest(getObjectRequest)
-                        .signatureDuration(Duration.ofMinutes(10)))
-                .url()
-                .toString();
+    /**
+     * 원래 파일명으로 내려받는 다운로드 URL (파일명이 없으면 일반 URL)
+     */
+    public String generateDownloadUrl(File file) {
+        return storage.url(file.getUrl(), URL_TTL, file.getOriginalName());
     }
 
     public List<String> generatePresignedUrls(List<String> keys) {
@@ -121,22 +234,24 @@ public class S3Service {
     }
 
     /**
-     * 카테고리별 자료 리스트 조회
+     * 카테고리별 자료 리스트 조회 (커서 페이지, presigned URL 은 현재 페이지만 생성)
      */
-    public List<FileResource> getFilesByCategory(Long categoryId) {
-        List<File> files = fileRepository.findAllByCategoryIdExcludeVideoAndImage(categoryId);
-        return files.stream()
-                .map(file -> {
-                    FileResource resource = new FileResource();
-                    resource.setId(file.getId().toString());
-                    resource.setName(file.getTitle()); // title을 name으로 사용 (또는 별도 originalName 필드가 있다면 그것 사용)
-                    resource.setTitle(file.getTitle()); // title 필드
-                    resource.setUrl(generatePresignedUrl(file.getUrl()));
-                    resource.setUploadDate(file.getCreatedAt()); // BaseEntity에서 상속받은 필드
-                    resource.setSize(file.getSize() != null ? file.getSize() : 0L);
-                    return resource;
-                })
-                .collect(Collectors.toList());
+    public CursorPage<FileResource> getFilesByCategory(Long categoryId, Long cursor, int size) {
+        List<File> files = fileRepository.findPageByCategoryIdExcludeVideoAndImage(
+                categoryId, CursorPaging.after(cursor), CursorPaging.fetchOneMore(size));
+        return CursorPage.of(files, size, File::getId, file -> {
+            FileResource resource = new FileResource();
+            resource.setId(file.getId().toString());
+            resource.setName(file.getOriginalName() != null ? file.getOriginalName() : file.getTitle());
+            resource.setTitle(file.getTitle()); // title 필드
+            resource.setUrl(generateDownloadUrl(file));
+            if (file.getThumbnailUrl() != null) {
+                resource.setThumbnailUrl(generatePresignedUrl(file.getThumbnailUrl()));
+            }
+            resource.setUploadDate(file.getCreatedAt()); // BaseEntity에서 상속받은 필드
+            resource.setSize(file.getSize() != null ? file.getSize() : 0L);
+            return resource;
+        });
     }
     /**
      * 유저 프로필 이미지 업로드 (1개만 유지)
@@ -147,14 +262,15 @@ public class S3Service {
 
         // 기존 이미지 있으면 삭제
         if (user.getProfileImage() != null) {
-            deleteFile(user.getProfileImage().getUrl());
+            eventPublisher.publishEvent(new StorageKeysReleasedEvent(user.getProfileImage().storageKeys()));
             fileRepository.delete(user.getProfileImage());
         }
 
-        String key = uploadFile(file, "profile-images");
+        String key = uploadFile(file);
 
         File profileImage = File.builder()
                 .url(key)
+                .originalName(originalName(file))
                 .user(user)
                 .type("IMAGE")
                 .build();
@@ -164,6 +280,9 @@ public class S3Service {
         user.setProfileImage(profileImage);
         userRepository.save(user);
 
+        copyVariantsOrGenerate(profileImage);
+
+        publishChanged(userId, null);
         return generatePresignedUrl(key);
     }
 
@@ -176,14 +295,15 @@ public class S3Service {
 
         // 기존 대표 동영상 있으면 삭제
         if (category.getMainVideo() != null) {
-            deleteFile(category.getMainVideo().getUrl());
+            eventPublisher.publishEvent(new StorageKeysReleasedEvent(category.getMainVideo().storageKeys()));
             fileRepository.delete(category.getMainVideo());
         }
 
-        String key = uploadFile(file, "main-videos");
+        String key = uploadFile(file);
 
         File video = File.builder()
                 .url(key)
+                .originalName(originalName(file))
                 .category(category)
                 .type("VIDEO")
                 .build();
@@ -193,18 +313,29 @@ public class S3Service {
         category.setMainVideo(video);
         categoryRepository.save(category);
 
+        publishChanged(null, categoryId);
         return generatePresignedUrl(key);
     }
 
     /**
      * 유저 프로필 이미지 조회
+     * → size(px) 를 만족하는 가장 작은 파생본, 파생본이 아직 없으면 원본
      */
-    public String getUserProfileImage(Long userId) {
+    public String getUserProfileImage(Long userId, Integer size) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저가 없습니다"));
 
-        if (user.getProfileImage() == null) return null;
-        return generatePresignedUrl(user.getProfileImage().getUrl());
+        File image = user.getProfileImage();
+        if (image == null) return null;
+
+        int wanted = size != null ? size : ImageDerivativeService.MEDIUM_SIZE;
+        if (wanted <= ImageDerivativeService.THUMBNAIL_SIZE && image.getThumbnailUrl() != null) {
+            return generatePresignedUrl(image.getThumbnailUrl());
+        }
+        if (wanted <= ImageDerivativeService.MEDIUM_SIZE && image.getMediumUrl() != null) {
+            return generatePresignedUrl(image.getMediumUrl());
+        }
+        return generatePresignedUrl(image.getUrl());
     }
 
     /**
@@ -219,19 +350,88 @@ public class S3Service {
     }
 
     /**
-     * S3 파일 삭제
+     * 저장소 객체 스트림 열기 (호출자가 닫아야 함)
+     */
+    public InputStream openObject(String key) throws IOException {
+        return storage.open(key);
+    }
+
+    /**
+     * 파일 삭제
      */
     public void deleteFile(String key) {
-        s3Client.deleteObject(DeleteObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build());
+        storage.delete(List.of(key));
+    }
+
+    /**
+     * 파일 일괄 삭제 → 실패한 키 개수 반환
+     */
+    public int deleteObjects(List<String> keys) {
+        return storage.delete(keys);
     }
 
     public void deleteFiles(Long fileId){
         File file = fileRepository.findById(fileId)
                 .orElseThrow(()-> new IllegalArgumentException("파일을 찾을 수 없습니다."));
-        deleteFile(file.getUrl());
         fileRepository.delete(file);
+        eventPublisher.publishEvent(new StorageKeysReleasedEvent(file.storageKeys()));
+        publishChanged(file.getUser() != null ? file.getUser().getId() : null,
+                file.getCategory() != null ? file.getCategory().getId() : null);
+    }
+
+    private void publishChanged(Long userId, Long categoryId) {
+        eventPublisher.publishEvent(PortfolioChangedEvent.builder()
+                .type(ChangeType.FILE)
+                .userId(userId)
+                .categoryId(categoryId)
+                .build());
+    }
+
+    // 같은 내용의 파일에 이미 파생본이 있으면 그대로 공유, 없으면 백그라운드 생성
+    private void copyVariantsOrGenerate(File file) {
+        fileRepository.findFirstByUrlAndThumbnailUrlIsNotNull(file.getUrl())
+                .ifPresentOrElse(
+                        existing -> {
+                            file.setThumbnailUrl(existing.getThumbnailUrl());
+                            file.setMediumUrl(existing.getMediumUrl());
+                        },
+                        () -> eventPublisher.publishEvent(new ImageUploadedEvent(file.getId(), file.getUrl())));
+    }
+
+    // 업로드 스트림을 한 번 읽으며 SHA-256 계산 (multipart 는 로컬 임시 파일이므로 원격 전송 전에 끝남)
+    private String contentKey(MultipartFile file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        return hash.substring(0, 2) + "/" + hash + extension(file.getOriginalFilename());
+    }
+
+    // 업로드 파일명에서 경로 부분을 뗀 이름 (255자까지, 없으면 null)
+    private String originalName(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        if (name == null) return null;
+        name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty()) return null;
+        return name.length() > 255 ? name.substring(0, 255) : name;
+    }
+
+    // 원본 파일명의 확장자 (영숫자 10자 이하만, 없으면 빈 문자열)
+    private String extension(String filename) {
+        if (filename == null) return "";
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0) return "";
+        String ext = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return !ext.isEmpty() && ext.length() <= 10 && ext.chars().allMatch(c -> c < 128 && Character.isLetterOrDigit(c)) ? "." + ext : "";
+    }
+
+    private boolean isImage(MultipartFile file) {
+        return file.getContentType() != null && file.getContentType().startsWith("image/");
     }
 }
@@ -0,0 +1,187 @@
+package com.port.folio.global.cache;
+
+import com.port.folio.global.event.PortfolioChangedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공개 GET 응답 본문 캐시
+ * → 직렬화 + gzip 압축이 끝난 JSON 바이트를 off-heap(direct) 버퍼에 보관
+ * → 키는 "경로 + 쿼리 + 범위별 버전" 이므로 버전이 올라가면 이전 엔트리는 다시 조회되지 않음
+ * → 전체 크기 기준으로 오래 안 쓰인 엔트리부터 제거 (CLOCK: 조회 시 표시만 하고, 제거할 때 표시된 엔트리는 한 번 건너뜀)
+ * → 조회는 잠금 없이 ConcurrentHashMap 에서 바로 읽음, 저장 / 제거 / 무효화만 잠금
+ * → 범위별 키 색인으로 무효화는 해당 범위의 엔트리만 제거 (전체 스캔 없음)
+ */
+@Slf4j
+@Component
+public class ResponseBodyCache {
+
+    @Getter
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+
+    private final Map<String, Slot> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    // 아래 필드는 this 잠금 안에서만 접근
+    // 저장 순서 → 제거 후보를 앞에서부터 확인
+    private final LinkedHashMap<String, Slot> order = new LinkedHashMap<>(256);
+    // 범위 → 그 범위로 저장된 키
+    private final Map<String, Set<String>> keysByScope = new HashMap<>();
+    private long usedBytes;
+
+    private static final class Slot {
+        private final Entry entry;
+        // 마지막 제거 검사 이후 조회된 적 있음
+        private volatile boolean referenced;
+
+        private Slot(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    public ResponseBodyCache(
+            @Value("${custom.cache.response.enabled:true}") boolean enabled,
+            @Value("${custom.cache.response.maxBytes:67108864}") long maxBytes,
+            @Value("${custom.cache.response.maxEntryBytes:2097152}") int maxEntryBytes
+    ) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * 범위 키 생성 (예: "categoryId:3")
+     */
+    public static String scope(String name, Long id) {
+        return name + ":" + id;
+    }
+
+    public long version(String scope) {
+        AtomicLong version = versions.get(scope);
+        return version == null ? 0L : version.get();
+    }
+
+    public Entry get(String key) {
+        Slot slot = entries.get(key);
+        if (slot == null) {
+            return null;
+        }
+        slot.referenced = true;
+        return slot.entry;
+    }
+
+    public synchronized void put(String key, List<String> scopes, String contentType,
+                                 Map<String, String> headers, byte[] gzipped) {
+        if (gzipped.length > maxEntryBytes || gzipped.length > maxBytes) {
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(gzipped.length);
+        buffer.put(gzipped).flip();
+
+        remove(key);
+        Slot slot = new Slot(new Entry(buffer.asReadOnlyBuffer(), contentType, headers, scopes));
+        entries.put(key, slot);
+        order.put(key, slot);
+        for (String scope : scopes) {
+            keysByScope.computeIfAbsent(scope, k -> new HashSet<>()).add(key);
+        }
+        usedBytes += gzipped.length;
+
+        evict();
+    }
+
+    private void evict() {
+        while (usedBytes > maxBytes && !order.isEmpty()) {
+            Iterator<Map.Entry<String, Slot>> it = order.entrySet().iterator();
+            Map.Entry<String, Slot> head = it.next();
+            Slot slot = head.getValue();
+            if (slot.referenced) {
+                // 최근 조회됨 → 표시를 지우고 맨 뒤로
+                slot.referenced = false;
+                it.remove();
+                order.put(head.getKey(), slot);
+            } else {
+                remove(head.getKey());
+            }
+        }
+    }
+
+    // this 잠금 안에서 호출
+    private void remove(String key) {
+        Slot slot = order.remove(key);
+        if (slot == null) {
+            return;
+        }
+        entries.remove(key);
+        usedBytes -= slot.entry.size();
+        for (String scope : slot.entry.scopes()) {
+            Set<String> keys = keysByScope.get(scope);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByScope.remove(scope);
+            }
+        }
+    }
+
+    /**
+     * 범위 버전을 올리고 해당 범위의 엔트리를 즉시 제거
+     */
+    public void invalidate(String scope) {
+        versions.computeIfAbsent(scope, k -> new AtomicLong()).incrementAndGet();
+
+        synchronized (this) {
+            Set<String> keys = keysByScope.remove(scope);
+            if (keys != null) {
+                keys.forEach(this::remove);
+            }
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 이후 변경 범위 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        for (String scope : scopesOf(event)) {
+            invalidate(scope);
+        }
+        log.debug("응답 캐시 무효화: {} {}", event.getType(), scopesOf(event));
+    }
+
+    private List<String> scopesOf(PortfolioChangedEvent event) {
+        List<String> scopes = new ArrayList<>();
+        if (event.getUserId() != null) scopes.add(scope("userId", event.getUserId()));
+        if (event.getCategoryId() != null) scopes.add(scope("categoryId", event.getCategoryId()));
+        if (event.getTabId() != null) scopes.add(scope("tabId", event.getTabId()));
+        if (event.getTabIds() != null) {
+            event.getTabIds().forEach(tabId -> scopes.add(scope("tabId", tabId)));
+        }
+        if (event.getSkillId() != null) scopes.add(scope("skillId", event.getSkillId()));
+        return scopes;
+    }
+
+    /**
+     * 캐시 엔트리: body 는 gzip 압축된 read-only direct 버퍼, headers 는 함께 재전송할 응답 헤더
+     */
+    public record Entry(ByteBuffer body, String contentType, Map<String, String> headers, List<String> scopes) {
+        public int size() {
+            return body.capacity();
+        }
+    }
+}
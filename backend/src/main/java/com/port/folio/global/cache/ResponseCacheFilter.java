@@ -0,0 +1,276 @@
+package com.port.folio.global.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.port.folio.global.paging.CursorPage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개 GET 응답 캐시 필터
+ * → 적중 시 컨트롤러/JPA/Jackson 을 거치지 않고 압축된 바이트를 그대로 소켓에 씀
+ * → 범위 파라미터(userId, categoryId, tabId, skillId)가 없는 요청은 무효화할 수 없으므로 캐시하지 않음
+ * → 동시 처리 한도 필터보다 먼저 실행 → 캐시 적중은 한도와 무관하게 바로 응답
+ * → 같은 키의 동시 미스는 하나만 실제로 처리하고 나머지는 그 결과를 기다려 공유 (single-flight)
+ *   → 처리한 요청의 응답(상태 코드 포함)을 그대로 공유, 처리 중 예외가 나면 기다리던 요청도 같은 예외로 실패
+ *   → 제한 시간(singleFlightTimeoutMillis) 안에 끝나지 않으면 기다리던 요청은 직접 처리 (캐시 저장 없이)
+ *   → 메트릭: folio.cache.singleflight.collapsed (공유로 처리된 요청 수), folio.cache.singleflight.timeout
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 5)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final List<String> CACHEABLE_PREFIXES = List.of(
+            "/api/category",
+            "/api/posts",
+            "/api/v1/tab",
+            "/api/v1/tag",
+            "/api/main",
+            "/api/skill",
+            "/api/card"
+    );
+
+    private static final List<String> SCOPE_PARAMS = List.of("userId", "categoryId", "tabId", "skillId");
+
+    // 캐시 적중 시 함께 돌려줘야 하는 응답 헤더
+    private static final List<String> REPLAYED_HEADERS = List.of(CursorPage.NEXT_CURSOR_HEADER);
+
+    // 기다리던 요청에 함께 넘겨주는 헤더 (503 거절 시 Retry-After 포함)
+    private static final List<String> SHARED_HEADERS = List.of(CursorPage.NEXT_CURSOR_HEADER, HttpHeaders.RETRY_AFTER);
+
+    private final ResponseBodyCache responseBodyCache;
+    private final long singleFlightTimeoutMillis;
+    private final Map<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter collapsed;
+    private final Counter timeouts;
+
+    /**
+     * 처리 중인 요청의 응답 (body: 원문, gzipped: 캐시 저장 대상이었으면 압축본, 아니면 null)
+     */
+    private record SharedResponse(int status, String contentType, Map<String, String> headers,
+                                  byte[] body, byte[] gzipped) {
+    }
+
+    public ResponseCacheFilter(
+            ResponseBodyCache responseBodyCache,
+            @Value("${custom.cache.response.singleFlightTimeoutMillis:3000}") long singleFlightTimeoutMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.responseBodyCache = responseBodyCache;
+        this.singleFlightTimeoutMillis = singleFlightTimeoutMillis;
+        this.collapsed = Counter.builder("folio.cache.singleflight.collapsed").register(meterRegistry);
+        this.timeouts = Counter.builder("folio.cache.singleflight.timeout").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!responseBodyCache.isEnabled() || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return CACHEABLE_PREFIXES.stream().noneMatch(uri::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        List<String> scopes = scopesOf(request);
+        if (scopes.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = cacheKey(request, scopes);
+        ResponseBodyCache.Entry hit = responseBodyCache.get(key);
+        if (hit != null) {
+            writeHit(hit, request, response);
+            return;
+        }
+
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            SharedResponse shared = await(leader);
+            if (shared != null) {
+                collapsed.increment();
+                writeShared(shared, request, response);
+            } else {
+                timeouts.increment();
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        try {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, wrapper);
+
+            byte[] body = wrapper.getContentAsByteArray();
+            byte[] gzipped = null;
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+                Map<String, String> headers = new HashMap<>();
+                for (String name : REPLAYED_HEADERS) {
+                    String value = wrapper.getHeader(name);
+                    if (value != null) headers.put(name, value);
+                }
+                gzipped = gzip(body);
+                responseBodyCache.put(key, scopes, wrapper.getContentType(), headers, gzipped);
+            }
+
+            // 이 요청의 클라이언트가 끊겨도 기다리던 요청에는 영향 없도록 먼저 넘겨줌
+            Map<String, String> sharedHeaders = new HashMap<>();
+            for (String name : SHARED_HEADERS) {
+                String value = wrapper.getHeader(name);
+                if (value != null) sharedHeaders.put(name, value);
+            }
+            flight.complete(new SharedResponse(wrapper.getStatus(), wrapper.getContentType(), sharedHeaders, body, gzipped));
+            wrapper.copyBodyToResponse();
+        } catch (IOException | ServletException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            // Error 등으로 결과를 넘겨주지 못한 경우 → 기다리던 요청은 직접 처리
+            flight.cancel(false);
+        }
+    }
+
+    // 처리 중인 요청 결과 대기 → 제한 시간 초과 / 결과 없이 끝났으면 null, 처리 중 예외는 그대로 전파
+    private SharedResponse await(CompletableFuture<SharedResponse> leader) throws ServletException, IOException {
+        try {
+            return leader.get(singleFlightTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("동일 요청 처리 대기 중 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw new IOException(io.getMessage(), io);
+            throw new ServletException("동일 요청 처리 중 오류가 발생했습니다", cause);
+        }
+    }
+
+    private void writeShared(SharedResponse shared, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(shared.status());
+        if (shared.contentType() != null) {
+            response.setContentType(shared.contentType());
+        }
+        shared.headers().forEach(response::setHeader);
+
+        byte[] body = shared.body();
+        if (shared.gzipped() != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptsGzip(request)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = shared.gzipped();
+            }
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private List<String> scopesOf(HttpServletRequest request) {
+        List<String> scopes = new ArrayList<>(2);
+        for (String param : SCOPE_PARAMS) {
+            String value = request.getParameter(param);
+            if (value != null && !value.isEmpty() && value.length() < 19 && value.chars().allMatch(Character::isDigit)) {
+                scopes.add(ResponseBodyCache.scope(param, Long.valueOf(value)));
+            }
+        }
+        return scopes;
+    }
+
+    // 쿼리 파라미터는 정렬해서 순서가 달라도 같은 키가 되도록 함
+    private String cacheKey(HttpServletRequest request, List<String> scopes) {
+        StringBuilder sb = new StringBuilder(request.getRequestURI()).append('?');
+        for (Map.Entry<String, String[]> param : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            sb.append(param.getKey()).append('=').append(String.join(",", param.getValue())).append('&');
+        }
+        sb.append('#');
+        for (String scope : scopes) {
+            sb.append(scope).append('@').append(responseBodyCache.version(scope)).append(';');
+        }
+        return sb.toString();
+    }
+
+    private void writeHit(ResponseBodyCache.Entry hit, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(hit.contentType());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        hit.headers().forEach(response::setHeader);
+
+        ByteBuffer body = hit.body().duplicate();
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(body.remaining());
+            WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+            return;
+        }
+
+        // gzip 을 못 받는 클라이언트는 드묾 → 압축 해제하며 스트리밍
+        byte[] compressed = new byte[body.remaining()];
+        body.get(compressed);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private boolean isJson(String contentType) {
+        return contentType != null && contentType.startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (OutputStream out = new GZIPOutputStream(bos)) {
+            out.write(raw);
+        }
+        return bos.toByteArray();
+    }
+}
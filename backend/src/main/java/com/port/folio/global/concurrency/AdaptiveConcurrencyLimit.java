@@ -0,0 +1,140 @@
+package com.port.folio.global.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 시간 기반 동시 처리 한도 (gradient 방식)
+ * → 구간(windowSize 개 요청) 평균 응답 시간과 부하 없을 때 응답 시간(no-load RTT)의 비율로 한도를 조정
+ *   → 응답이 느려지면 (구간 평균 > no-load * tolerance) 비율만큼 곱셈 감소 (최대 절반)
+ *   → 느려지지 않으면 sqrt(한도) 만큼 덧셈 증가
+ * → no-load RTT: 구간 평균의 최솟값
+ *   → 과부하가 계속되면 부하 없는 값을 다시 볼 수 없으므로 주기적으로 측정 (probe)
+ *   → probe: 한도를 1/4 로 잠깐 낮추고 → 그 전에 시작한 요청 수만큼의 응답은 버림 → 다음 구간 평균을 새 no-load 로 → 한도 복구
+ * → 한도를 절반도 쓰지 않고 거절도 없는 한가한 구간에서는 한도를 바꾸지 않음 (한도가 맞는지 알 수 없음)
+ * → 초과 요청은 대기시키지 않고 바로 거절 (tryAcquire = false)
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int PROBE_INTERVAL_WINDOWS = 250;
+
+    private enum Probe { NONE, DRAINING, MEASURING }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final AtomicInteger inflight = new AtomicInteger();
+    // 구간 동안 가장 많았던 동시 처리 수 (처리 시작 시점 기준)
+    private final AtomicInteger peakInflight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+
+    // 구간 집계 (synchronized)
+    private long windowRttSum;
+    private int windowCount;
+    private long rejectedAtWindowStart;
+    private double noLoadRtt;
+    private int windowsSinceProbe;
+    private Probe probe = Probe.NONE;
+    private double limitBeforeProbe;
+    private int drainRemaining;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int windowSize) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도는 1 <= min <= initial <= max 여야 합니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = Math.max(1, windowSize);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * 처리 시작 → 한도가 차 있으면 false (rejected 증가)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                peakInflight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리 종료 → 응답 시간 반영
+     */
+    public void release(long rttNanos) {
+        inflight.decrementAndGet();
+        onSample(rttNanos);
+    }
+
+    private synchronized void onSample(long rttNanos) {
+        if (probe == Probe.DRAINING) {
+            if (--drainRemaining <= 0) {
+                probe = Probe.MEASURING;
+                peakInflight.set(inflight.get());
+                rejectedAtWindowStart = rejected.get();
+            }
+            return;
+        }
+
+        windowRttSum += Math.max(1, rttNanos);
+        windowCount++;
+        if (windowCount < windowSize) return;
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInflight = peakInflight.getAndSet(inflight.get());
+        long rejectedNow = rejected.get();
+        boolean idle = rejectedNow == rejectedAtWindowStart && maxInflight < limit / 2;
+        rejectedAtWindowStart = rejectedNow;
+        windowRttSum = 0;
+        windowCount = 0;
+
+        if (probe == Probe.MEASURING) {
+            noLoadRtt = shortRtt;
+            limit = limitBeforeProbe;
+            probe = Probe.NONE;
+            windowsSinceProbe = 0;
+            return;
+        }
+
+        if (noLoadRtt == 0 || shortRtt < noLoadRtt) {
+            noLoadRtt = shortRtt;
+        }
+        if (idle) return;
+
+        if (++windowsSinceProbe >= PROBE_INTERVAL_WINDOWS) {
+            limitBeforeProbe = limit;
+            limit = Math.max(minLimit, limit / 4);
+            drainRemaining = inflight.get();
+            probe = drainRemaining > 0 ? Probe.DRAINING : Probe.MEASURING;
+            return;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * noLoadRtt / shortRtt));
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
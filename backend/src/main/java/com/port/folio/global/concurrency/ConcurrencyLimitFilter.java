@@ -0,0 +1,130 @@
+package com.port.folio.global.concurrency;
+
+import com.port.folio.global.security.auth.SecurityUser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * API 동시 처리 한도 필터
+ * → 요청 종류별로 따로 한도를 둠 (익명 조회가 몰려도 로그인한 주인의 편집 / 업로드는 처리되도록)
+ *   → read: 로그인하지 않은 GET / HEAD
+ *   → write: 로그인한 요청 전체 + 익명 쓰기 (로그인 / 회원가입)
+ *   → upload: multipart 요청
+ * → 한도는 응답 시간을 보고 자동 조정 (AdaptiveConcurrencyLimit), 넘치면 대기 없이 503 + Retry-After
+ * → 보안 필터(인증) 다음, 응답 캐시 필터 다음에 실행 → 캐시 적중 응답은 한도에 포함되지 않음
+ * → 실시간 알림(/api/live)처럼 오래 열려 있는 연결과 파일 전송(/api/storage, /api/export)은 제외
+ *   (소요 시간이 서버 처리 비용이 아니라 클라이언트 다운로드 속도라서 응답 시간 기준 한도를 왜곡함,
+ *    내보내기는 PortfolioExportService 의 고정 한도(429)를 따로 둠)
+ * → 메트릭: folio.concurrency.limit / inflight (gauge), folio.concurrency.rejected (counter), 태그 class
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final List<String> EXCLUDED_PREFIXES = List.of("/api/live/", "/api/storage/", "/api/export");
+
+    enum RequestClass { READ, WRITE, UPLOAD }
+
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+    private final Map<RequestClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(RequestClass.class);
+
+    public ConcurrencyLimitFilter(
+            @Value("${custom.concurrency.enabled:true}") boolean enabled,
+            @Value("${custom.concurrency.windowSize:20}") int windowSize,
+            @Value("${custom.concurrency.retryAfterSeconds:1}") int retryAfterSeconds,
+            @Value("${custom.concurrency.read.initial:100}") int readInitial,
+            @Value("${custom.concurrency.read.min:10}") int readMin,
+            @Value("${custom.concurrency.read.max:200}") int readMax,
+            @Value("${custom.concurrency.write.initial:50}") int writeInitial,
+            @Value("${custom.concurrency.write.min:5}") int writeMin,
+            @Value("${custom.concurrency.write.max:200}") int writeMax,
+            @Value("${custom.concurrency.upload.initial:10}") int uploadInitial,
+            @Value("${custom.concurrency.upload.min:2}") int uploadMin,
+            @Value("${custom.concurrency.upload.max:40}") int uploadMax,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+        limits.put(RequestClass.READ, new AdaptiveConcurrencyLimit(readInitial, readMin, readMax, windowSize));
+        limits.put(RequestClass.WRITE, new AdaptiveConcurrencyLimit(writeInitial, writeMin, writeMax, windowSize));
+        limits.put(RequestClass.UPLOAD, new AdaptiveConcurrencyLimit(uploadInitial, uploadMin, uploadMax, windowSize));
+
+        limits.forEach((requestClass, limit) -> {
+            String tag = requestClass.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("folio.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("folio.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            FunctionCounter.builder("folio.concurrency.rejected", limit, AdaptiveConcurrencyLimit::getRejected)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (!enabled || !uri.startsWith(API_PREFIX)) return true;
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (uri.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        AdaptiveConcurrencyLimit limit = limits.get(classify(request));
+        if (!limit.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - started);
+        }
+    }
+
+    private RequestClass classify(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) {
+            return RequestClass.UPLOAD;
+        }
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        return read && !isAuthenticated() ? RequestClass.READ : RequestClass.WRITE;
+    }
+
+    private boolean isAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof SecurityUser;
+    }
+}
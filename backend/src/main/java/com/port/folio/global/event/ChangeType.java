@@ -0,0 +1,14 @@
+package com.port.folio.global.event;
+
+public enum ChangeType {
+    CATEGORY,
+    TAB,
+    POST,
+    INTRODUCE,
+    TAG,
+    FILE,
+    MAIN,
+    SKILL,
+    CARD,
+    LOCATION
+}
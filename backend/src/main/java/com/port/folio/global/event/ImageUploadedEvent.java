@@ -0,0 +1,14 @@
+package com.port.folio.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이미지 원본 업로드 완료 → 커밋 이후 파생본(썸네일 / 중간 크기) 생성
+ */
+@Getter
+@AllArgsConstructor
+public class ImageUploadedEvent {
+    private final Long fileId;
+    private final String key;
+}
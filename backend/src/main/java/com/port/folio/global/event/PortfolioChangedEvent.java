@@ -0,0 +1,24 @@
+package com.port.folio.global.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 포트폴리오 데이터가 변경되었음을 알리는 이벤트
+ * → 각 서비스의 쓰기 메서드에서 발행, 커밋 이후 캐시 무효화 등에서 구독
+ * → 변경 범위를 알 수 있는 id만 채움 (없는 값은 null)
+ * → tabIds: 카테고리 삭제처럼 한 번에 사라지는 탭 목록 (탭 범위 캐시 무효화용)
+ */
+@Getter
+@Builder
+public class PortfolioChangedEvent {
+    private final ChangeType type;
+    private final Long userId;
+    private final Long categoryId;
+    private final String publicId;
+    private final Long tabId;
+    private final List<Long> tabIds;
+    private final Long skillId;
+}
@@ -0,0 +1,16 @@
+package com.port.folio.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DB 에서 파일 행이 삭제되어 더 이상 참조되지 않는 S3 키 목록
+ * → 커밋 이후 비동기로 S3 에서 제거
+ */
+@Getter
+@AllArgsConstructor
+public class StorageKeysReleasedEvent {
+    private final List<String> keys;
+}
@@ -0,0 +1,130 @@
+package com.port.folio.global.image;
+
+import com.port.folio.domain.post.repository.FileRepository;
+import com.port.folio.global.aws.S3Service;
+import com.port.folio.global.event.ImageUploadedEvent;
+import com.port.folio.global.event.StorageKeysReleasedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 파생본 생성 (썸네일 / 중간 크기 JPEG, EXIF 제거)
+ * → 요청 스레드와 분리된 고정 크기 풀 + 유한 대기열에서 처리, 대기열이 가득 차면 원본만 사용
+ * → 파생본은 원본 키 옆에 "{원본 키}.thumb.jpg", "{원본 키}.medium.jpg" 로 저장
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    public static final int THUMBNAIL_SIZE = 128;
+    public static final int MEDIUM_SIZE = 512;
+    public static final String THUMBNAIL_SUFFIX = ".thumb.jpg";
+    public static final String MEDIUM_SUFFIX = ".medium.jpg";
+
+    private final int maxSourceBytes;
+    private final S3Service s3Service;
+    private final FileRepository fileRepository;
+    private final TransactionTemplate tx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+
+    public ImageDerivativeService(
+            @Value("${custom.image.workers:2}") int workers,
+            @Value("${custom.image.queueSize:100}") int queueSize,
+            @Value("${custom.image.maxSourceBytes:31457280}") int maxSourceBytes,
+            S3Service s3Service,
+            FileRepository fileRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.maxSourceBytes = maxSourceBytes;
+        this.s3Service = s3Service;
+        this.fileRepository = fileRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "image-derivative-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    t.setPriority(Thread.NORM_PRIORITY - 1);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageUploaded(ImageUploadedEvent event) {
+        try {
+            executor.execute(() -> process(event.getFileId(), event.getKey()));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변환 대기열 초과로 건너뜀: fileId={}", event.getFileId());
+        }
+    }
+
+    private void process(Long fileId, String key) {
+        long started = System.currentTimeMillis();
+        try {
+            byte[] original;
+            try (InputStream in = s3Service.openObject(key)) {
+                original = in.readNBytes(maxSourceBytes + 1);
+            }
+            if (original.length > maxSourceBytes) {
+                log.warn("원본 이미지가 너무 커서 변환하지 않음: fileId={}", fileId);
+                return;
+            }
+
+            int orientation = ImageVariants.exifOrientation(original);
+            BufferedImage source = ImageVariants.decode(original, MEDIUM_SIZE);
+            byte[] medium = ImageVariants.toJpeg(ImageVariants.orient(ImageVariants.scale(source, MEDIUM_SIZE), orientation));
+            byte[] thumbnail = ImageVariants.toJpeg(ImageVariants.orient(ImageVariants.scale(source, THUMBNAIL_SIZE), orientation));
+
+            String mediumKey = key + MEDIUM_SUFFIX;
+            String thumbnailKey = key + THUMBNAIL_SUFFIX;
+            s3Service.putObject(mediumKey, medium, "image/jpeg");
+            s3Service.putObject(thumbnailKey, thumbnail, "image/jpeg");
+
+            Integer updated = tx.execute(status -> fileRepository.updateVariants(fileId, thumbnailKey, mediumKey));
+            if (updated == null || updated == 0) {
+                // 변환 중에 원본이 삭제됨 → 파생본도 정리
+                eventPublisher.publishEvent(new StorageKeysReleasedEvent(List.of(thumbnailKey, mediumKey)));
+                return;
+            }
+            log.debug("이미지 파생본 생성: fileId={}, {} → {}B / {}B, {}ms", fileId, original.length,
+                    medium.length, thumbnail.length, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("이미지 파생본 생성 실패: fileId={}", fileId, e);
+        }
+    }
+
+    /**
+     * 파생본 키 → 원본 키 (파생본 키가 아니면 null)
+     */
+    public static String sourceKey(String key) {
+        if (key.endsWith(THUMBNAIL_SUFFIX)) return key.substring(0, key.length() - THUMBNAIL_SUFFIX.length());
+        if (key.endsWith(MEDIUM_SUFFIX)) return key.substring(0, key.length() - MEDIUM_SUFFIX.length());
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,213 @@
+package com.port.folio.global.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 이미지 파생본 생성 (JDK ImageIO / Java2D 만 사용)
+ * → JPEG 로 새로 인코딩하므로 EXIF(위치 정보 등) 메타데이터는 남지 않음
+ * → 대신 EXIF 회전 값은 픽셀에 직접 반영
+ */
+public final class ImageVariants {
+
+    private static final long MAX_PIXELS = 100_000_000L;
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 디코딩 (긴 변이 targetSize 의 2배 이상이면 읽을 때부터 서브샘플링해서 메모리 절약)
+     */
+    public static BufferedImage decode(byte[] data, int targetSize) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int factor = Math.max(1, Math.max(width, height) / (targetSize * 2));
+                param.setSourceSubsampling(factor, factor, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSide 가 되도록 축소 (확대하지 않음)
+     * → 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소
+     */
+    public static BufferedImage scale(BufferedImage source, int maxSide) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        boolean first = true;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (first) {
+                    // 투명 PNG 는 흰 배경 위에 합성 (JPEG 는 알파 채널 없음)
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+            first = false;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * EXIF Orientation(1~8) 값을 픽셀에 반영
+     */
+    public static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+
+        AffineTransform t = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { t.translate(w, 0); t.scale(-1, 1); }
+            case 3 -> { t.translate(w, h); t.rotate(Math.PI); }
+            case 4 -> { t.translate(0, h); t.scale(1, -1); }
+            case 5 -> { t.rotate(-Math.PI / 2); t.scale(-1, 1); }
+            case 6 -> { t.translate(h, 0); t.rotate(Math.PI / 2); }
+            case 7 -> { t.scale(-1, 1); t.translate(-h, 0); t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+            case 8 -> { t.translate(0, w); t.rotate(3 * Math.PI / 2); }
+            default -> { }
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.drawImage(image, t, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    public static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            // 메타데이터 없이 기록 → EXIF 제거
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * JPEG 의 EXIF(APP1) 에서 Orientation 태그만 읽음 (없거나 JPEG 가 아니면 1)
+     */
+    public static int exifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) return 1;
+            int marker = data[pos + 1] & 0xFF;
+            // SOS(이미지 데이터 시작) / EOI 이후에는 메타데이터 없음
+            if (marker == 0xDA || marker == 0xD9) return 1;
+
+            int length = u16(data, pos + 2, false);
+            int segment = pos + 4;
+            int end = Math.min(data.length, pos + 2 + length);
+            if (marker == 0xE1 && segment + 6 <= end
+                    && data[segment] == 'E' && data[segment + 1] == 'x' && data[segment + 2] == 'i'
+                    && data[segment + 3] == 'f' && data[segment + 4] == 0 && data[segment + 5] == 0) {
+                return tiffOrientation(data, segment + 6, end);
+            }
+            pos += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int tiffOrientation(byte[] data, int start, int end) {
+        if (start + 8 > end) return 1;
+        boolean little = data[start] == 'I' && data[start + 1] == 'I';
+
+        long ifdOffset = u32(data, start + 4, little);
+        if (ifdOffset < 8 || start + ifdOffset + 2 > end) return 1;
+        int ifd = (int) (start + ifdOffset);
+
+        int count = u16(data, ifd, little);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) return 1;
+            if (u16(data, entry, little) == 0x0112) {
+                return u16(data, entry + 8, little);
+            }
+        }
+        return 1;
+    }
+
+    private static int u16(byte[] data, int offset, boolean little) {
+        int a = data[offset] & 0xFF;
+        int b = data[offset + 1] & 0xFF;
+        return little ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static long u32(byte[] data, int offset, boolean little) {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            int shift = little ? i * 8 : (3 - i) * 8;
+            value |= (long) (data[offset + i] & 0xFF) << shift;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,57 @@
+package com.port.folio.global.live;
+
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.user.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 실시간 변경 알림 구독 (text/event-stream)
+ * → "change" 이벤트를 받으면 해당 범위의 REST API 를 다시 조회
+ * → 연결이 끊기면 (느린 구독자 정리 포함) 재연결 후 전체를 한 번 다시 조회
+ * → 응답 스트림은 LiveUpdateHub 가 비동기 + non-blocking 으로 직접 씀
+ */
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class ApiV1LiveController {
+    private final LiveUpdateHub liveUpdateHub;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+
+    // 포트폴리오(카테고리) 변경: 카테고리 / 탭 / 글 / 태그 / 자료
+    @GetMapping(value = "/portfolio/{publicId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void portfolio(@PathVariable String publicId, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        Optional<Category> category = categoryRepository.findByPublicId(publicId);
+        if (category.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        subscribe(LiveUpdateHub.categoryChannel(category.get().getId()), request, response);
+    }
+
+    // 프로필(유저) 변경: 메인 / 스킬 / 카드 / 위치 / 프로필 이미지
+    @GetMapping(value = "/profile/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void profile(@PathVariable Long userId, HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        subscribe(LiveUpdateHub.userChannel(userId), request, response);
+    }
+
+    private void subscribe(String channel, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!liveUpdateHub.subscribe(channel, request, response)) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+}
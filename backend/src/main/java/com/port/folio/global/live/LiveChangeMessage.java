@@ -0,0 +1,21 @@
+package com.port.folio.global.live;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.port.folio.global.event.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 실시간 변경 알림 본문 (SSE "change" 이벤트)
+ * → 변경된 범위의 id 만 전달, 클라이언트는 해당 REST API 를 다시 조회
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LiveChangeMessage {
+    private ChangeType type;
+    private Long userId;
+    private Long categoryId;
+    private Long tabId;
+    private Long skillId;
+}
@@ -0,0 +1,365 @@
+package com.port.folio.global.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.port.folio.domain.main.repository.SkillCategoryRepository;
+import com.port.folio.global.event.PortfolioChangedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 변경 알림 (SSE) 구독자 관리 / 전송
+ * → 채널: 포트폴리오(카테고리) 별 "category:{id}", 프로필(유저) 별 "user:{id}"
+ * → 변경 이벤트 커밋 이후 알림 프레임을 한 번만 직렬화해서 채널의 모든 구독자 버퍼에 넣음
+ * → 구독자마다 크기가 정해진 버퍼 + 전송 작업은 최대 1개 (전송 스레드 풀에서 버퍼를 비움)
+ * → 쓰기는 서블릿 non-blocking 출력 (WriteListener): 소켓이 쓰기 가능할 때만 쓰고, 아니면 바로 반환 후 컨테이너 콜백으로 재개
+ *   → 느린 클라이언트가 전송 스레드를 붙잡지 않음
+ * → 버퍼가 가득 찬 구독자 / 쓰기 가능 상태를 너무 오래 기다리는 구독자는 연결을 끊음 (클라이언트가 재연결 후 다시 조회)
+ * → 주기적인 heartbeat 로 끊어진 연결 정리
+ */
+@Slf4j
+@Component
+public class LiveUpdateHub {
+
+    private static final String CATEGORY_PREFIX = "category:";
+    private static final String USER_PREFIX = "user:";
+
+    private final int bufferSize;
+    private final int maxConnections;
+    private final long timeoutMillis;
+    private final long stallNanos;
+    private final ObjectMapper objectMapper;
+    private final SkillCategoryRepository skillCategoryRepository;
+
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final byte[] heartbeatFrame = frame(":ping\n\n");
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "live-update-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private static final class Subscriber {
+        private final String channel;
+        private final ArrayBlockingQueue<byte[]> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private AsyncContext async;
+        private ServletOutputStream out;
+        // 쓴 뒤 아직 flush 하지 않은 프레임이 있음 (전송 작업 안에서만 접근)
+        private boolean unflushed;
+        // 쓰기 가능 콜백을 기다리는 중이면 시작 시각(nanoTime), 아니면 0
+        private volatile long waitingSince;
+
+        private Subscriber(String channel, int bufferSize) {
+            this.channel = channel;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    public LiveUpdateHub(
+            @Value("${custom.live.bufferSize:32}") int bufferSize,
+            @Value("${custom.live.maxConnections:10000}") int maxConnections,
+            @Value("${custom.live.senders:4}") int senders,
+            @Value("${custom.live.timeoutMillis:1800000}") long timeoutMillis,
+            @Value("${custom.live.heartbeatSeconds:25}") long heartbeatSeconds,
+            @Value("${custom.live.stallMillis:10000}") long stallMillis,
+            ObjectMapper objectMapper,
+            SkillCategoryRepository skillCategoryRepository
+    ) {
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = timeoutMillis;
+        this.stallNanos = TimeUnit.MILLISECONDS.toNanos(stallMillis);
+        this.objectMapper = objectMapper;
+        this.skillCategoryRepository = skillCategoryRepository;
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senders, r -> {
+            Thread t = new Thread(r, "live-update-sender-" + threadSequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        heartbeat.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    public static String categoryChannel(Long categoryId) {
+        return CATEGORY_PREFIX + categoryId;
+    }
+
+    public static String userChannel(Long userId) {
+        return USER_PREFIX + userId;
+    }
+
+    /**
+     * 채널 구독 → 요청을 비동기로 전환하고 응답 스트림을 non-blocking 으로 씀
+     * → 연결 수가 최대치면 false (응답은 건드리지 않음)
+     */
+    public boolean subscribe(String channel, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return false;
+        }
+
+        Subscriber subscriber = new Subscriber(channel, bufferSize);
+        try {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            // nginx 프록시 버퍼링 끔
+            response.setHeader("X-Accel-Buffering", "no");
+
+            subscriber.async = request.startAsync(request, response);
+            subscriber.async.setTimeout(timeoutMillis);
+            subscriber.async.addListener(new SubscriberListener(subscriber));
+            subscriber.out = response.getOutputStream();
+        } catch (IOException | RuntimeException e) {
+            connections.decrementAndGet();
+            throw e;
+        }
+
+        channels.compute(channel, (key, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        // 연결 직후 한 번 보내서 프록시가 응답 헤더를 바로 내보내게 함
+        subscriber.buffer.offer(frame("event:ready\ndata:" + channel + "\n\n"));
+        // 등록 즉시 컨테이너가 쓰기 가능 여부를 확인하고 onWritePossible 호출
+        subscriber.waitingSince = System.nanoTime();
+        subscriber.out.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                subscriber.waitingSince = 0;
+                schedule(subscriber);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                close(subscriber);
+            }
+        });
+        return true;
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    public long evictedCount() {
+        return evicted.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        if (channels.isEmpty()) return;
+
+        byte[] frame = frameOf(event);
+        if (frame == null) return;
+
+        if (event.getCategoryId() != null) {
+            broadcast(categoryChannel(event.getCategoryId()), frame);
+        }
+        if (event.getUserId() != null) {
+            broadcast(userChannel(event.getUserId()), frame);
+        } else if (event.getSkillId() != null) {
+            // 카드 변경은 스킬 카테고리 id 만 있으므로 주인을 찾아서 전달 (커밋 스레드에서 DB 조회하지 않음)
+            Long skillId = event.getSkillId();
+            try {
+                sender.execute(() -> skillCategoryRepository.findUserIdById(skillId)
+                        .ifPresent(userId -> broadcast(userChannel(userId), frame)));
+            } catch (RejectedExecutionException ignored) {
+                // 종료 중
+            }
+        }
+    }
+
+    private byte[] frameOf(PortfolioChangedEvent event) {
+        LiveChangeMessage message = new LiveChangeMessage(event.getType(), event.getUserId(), event.getCategoryId(),
+                event.getTabId(), event.getSkillId());
+        try {
+            // 한 줄 JSON 이라 data 필드 하나로 충분
+            return frame("id:" + sequence.incrementAndGet() + "\nevent:change\ndata:"
+                    + objectMapper.writeValueAsString(message) + "\n\n");
+        } catch (JsonProcessingException e) {
+            log.warn("실시간 알림 직렬화 실패: {}", event.getType(), e);
+            return null;
+        }
+    }
+
+    private static byte[] frame(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void broadcast(String channel, byte[] frame) {
+        Set<Subscriber> subscribers = channels.get(channel);
+        if (subscribers == null) return;
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, frame);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, byte[] frame) {
+        if (subscriber.closed.get()) return;
+        if (!subscriber.buffer.offer(frame)) {
+            evict(subscriber, "버퍼 초과");
+            return;
+        }
+        // 쓰기 가능 콜백을 기다리는 중이면 콜백이 전송을 재개함
+        if (subscriber.waitingSince == 0) {
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.scheduled.compareAndSet(false, true)) return;
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.scheduled.set(false);
+        }
+    }
+
+    /**
+     * 버퍼를 비움 → 소켓이 쓰기 가능할 때만 쓰고, 아니면 바로 반환 (onWritePossible 에서 다시 예약)
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed.get() && writable(subscriber)) {
+                if (subscriber.unflushed) {
+                    subscriber.out.flush();
+                    subscriber.unflushed = false;
+                    continue;
+                }
+                byte[] frame = subscriber.buffer.poll();
+                if (frame == null) break;
+                subscriber.out.write(frame);
+                subscriber.unflushed = true;
+            }
+        } catch (Exception e) {
+            // 클라이언트가 연결을 끊음
+            close(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        // 작업을 끝내는 사이 들어온 프레임 (쓰기 가능 콜백을 기다리는 중이면 콜백이 재개)
+        if (!subscriber.closed.get() && subscriber.waitingSince == 0
+                && (subscriber.unflushed || !subscriber.buffer.isEmpty())) {
+            schedule(subscriber);
+        }
+    }
+
+    private boolean writable(Subscriber subscriber) {
+        // isReady() 가 false 를 돌려준 직후 콜백이 올 수 있으므로 대기 시각을 먼저 기록
+        subscriber.waitingSince = System.nanoTime();
+        if (!subscriber.out.isReady()) {
+            return false;
+        }
+        subscriber.waitingSince = 0;
+        return true;
+    }
+
+    private void heartbeat() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> subscribers : channels.values()) {
+            for (Subscriber subscriber : subscribers) {
+                long since = subscriber.waitingSince;
+                if (since != 0 && now - since > stallNanos) {
+                    evict(subscriber, "전송 지연");
+                } else {
+                    enqueue(subscriber, heartbeatFrame);
+                }
+            }
+        }
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        if (subscriber.closed.get()) return;
+        evicted.incrementAndGet();
+        log.debug("느린 실시간 구독자 연결 종료: {} ({})", subscriber.channel, reason);
+        close(subscriber);
+    }
+
+    private void close(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) return;
+        connections.decrementAndGet();
+        subscriber.buffer.clear();
+        channels.computeIfPresent(subscriber.channel, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        try {
+            subscriber.async.complete();
+        } catch (Exception ignored) {
+            // 이미 끝난 연결
+        }
+    }
+
+    private final class SubscriberListener implements AsyncListener {
+        private final Subscriber subscriber;
+
+        private SubscriberListener(Subscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close(subscriber);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close(subscriber);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close(subscriber);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (Set<Subscriber> subscribers : channels.values()) {
+            subscribers.forEach(this::close);
+        }
+        sender.shutdownNow();
+    }
+}
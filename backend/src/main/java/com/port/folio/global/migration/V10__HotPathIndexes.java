@@ -0,0 +1,114 @@
+package com.port.folio.global.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자주 조회하는 컬럼 인덱스 (테이블 / 컬럼 추가 마이그레이션 V2 ~ V9 이후)
+ * → 커서 페이지 조회용 (부모 id, id) 인덱스는 엔티티 @Index 와 같은 이름으로 생성
+ * → ddl-auto 로 만들어진 기존 DB 는 FK / 유니크 제약 때문에 이미 같은 앞 컬럼 인덱스가 있을 수 있음
+ *   → information_schema 에서 같은 컬럼으로 시작하는 인덱스가 있으면 건너뜀 (다시 실행해도 안전)
+ * → ALGORITHM=INPLACE, LOCK=NONE → 인덱스 생성 중에도 읽기 / 쓰기 가능 (불가능하면 잠그지 않고 실패)
+ * → 메타데이터 락을 오래 기다리며 뒤 요청을 막지 않도록 lock_wait_timeout 을 짧게
+ */
+@Slf4j
+public class V10__HotPathIndexes extends BaseJavaMigration {
+
+    static final List<HotIndex> INDEXES = List.of(
+            // 커서 페이지 (먼저 만들어서 아래 category_id 단일 인덱스는 건너뛰게 함)
+            HotIndex.named("idx_category_user_id_id", "category", "user_id", "id"),
+            HotIndex.named("idx_tab_category_id_id", "tab", "category_id", "id"),
+            HotIndex.named("idx_tag_category_id_id", "tag", "category_id", "id"),
+            HotIndex.named("idx_file_category_id_id", "file", "category_id", "id"),
+            HotIndex.named("idx_post_category_id_id", "post", "category_id", "id"),
+            HotIndex.of("post", "tab_id"),
+            HotIndex.of("post", "category_id"),
+            HotIndex.of("tab", "category_id"),
+            HotIndex.of("tag", "category_id"),
+            HotIndex.of("file", "category_id", "type"),
+            HotIndex.of("file", "url"),
+            HotIndex.of("users", "email"),
+            HotIndex.of("users", "login_id"),
+            HotIndex.of("users", "refresh_token"),
+            HotIndex.of("users", "deleted_at"),
+            HotIndex.of("main", "user_id"),
+            HotIndex.of("skill_category", "user_id"),
+            HotIndex.of("user_location", "user_id")
+    );
+
+    private static final int LOCK_WAIT_TIMEOUT_SECONDS = 10;
+
+    record HotIndex(String name, String table, String[] columns) {
+        static HotIndex of(String table, String... columns) {
+            return HotIndex.named("idx_" + table + "_" + String.join("_", columns), table, columns);
+        }
+
+        static HotIndex named(String name, String table, String... columns) {
+            return new HotIndex(name, table, columns);
+        }
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        // MySQL DDL 은 암묵적으로 커밋되므로 트랜잭션 밖에서 실행
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION lock_wait_timeout = " + LOCK_WAIT_TIMEOUT_SECONDS);
+        }
+
+        for (HotIndex index : INDEXES) {
+            if (isCovered(connection, index)) {
+                log.info("인덱스 생략 (이미 있음): {}({})", index.table(), String.join(", ", index.columns()));
+                continue;
+            }
+            long started = System.currentTimeMillis();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX " + index.name() + " ON " + index.table() +
+                        " (" + String.join(", ", index.columns()) + ") ALGORITHM=INPLACE LOCK=NONE");
+            }
+            log.info("인덱스 생성: {} {}ms", index.name(), System.currentTimeMillis() - started);
+        }
+    }
+
+    /**
+     * 같은 컬럼들로 시작하는 인덱스(유니크 / FK 인덱스 포함)가 이미 있는지
+     */
+    private static boolean isCovered(Connection connection, HotIndex index) throws SQLException {
+        List<List<String>> existing = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT index_name, column_name FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? ORDER BY index_name, seq_in_index")) {
+            ps.setString(1, index.table());
+            try (ResultSet rs = ps.executeQuery()) {
+                String current = null;
+                List<String> columns = null;
+                while (rs.next()) {
+                    if (!rs.getString(1).equals(current)) {
+                        current = rs.getString(1);
+                        columns = new ArrayList<>();
+                        existing.add(columns);
+                    }
+                    columns.add(rs.getString(2).toLowerCase());
+                }
+            }
+        }
+
+        List<String> wanted = List.of(index.columns());
+        return existing.stream().anyMatch(columns ->
+                columns.size() >= wanted.size() && columns.subList(0, wanted.size()).equals(wanted));
+    }
+}
@@ -0,0 +1,44 @@
+package com.port.folio.global.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * id 기반 커서(keyset) 페이지
+ * → nextCursor 가 null 이면 마지막 페이지
+ * → 다음 페이지는 id > nextCursor 조건으로 조회
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <E, T> CursorPage<T> of(List<E> fetched, int size, Function<E, Long> idOf, Function<E, T> mapper) {
+        boolean hasNext = fetched.size() > size;
+        List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+
+        List<T> items = new ArrayList<>(page.size());
+        for (E e : page) {
+            items.add(mapper.apply(e));
+        }
+        Long nextCursor = hasNext ? idOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * 모든 페이지를 이어서 조회 (스냅샷 / 색인 등 내부 전체 조회용)
+     */
+    public static <T> List<T> readAll(Function<Long, CursorPage<T>> fetch) {
+        List<T> all = new ArrayList<>();
+        Long cursor = null;
+        do {
+            CursorPage<T> page = fetch.apply(cursor);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+}
@@ -0,0 +1,66 @@
+package com.port.folio.global.paging;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 목록 API 커서 페이지 설정
+ * → custom.paging.defaultSize / maxSize 로 페이지 크기 조정
+ * → 요청마다 항상 한 페이지만 응답 (size 생략 시 defaultSize), 다음 페이지는 X-Next-Cursor 로 이어서 요청
+ */
+@Getter
+@Component
+public class CursorPaging {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public CursorPaging(
+            @Value("${custom.paging.defaultSize:50}") int defaultSize,
+            @Value("${custom.paging.maxSize:200}") int maxSize
+    ) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int size(Integer requested) {
+        if (requested == null || requested <= 0) return defaultSize;
+        return Math.min(requested, maxSize);
+    }
+
+    /**
+     * 한 페이지 + X-Next-Cursor (cursor 가 없으면 첫 페이지)
+     */
+    public <T> ResponseEntity<List<T>> respond(Long cursor, Integer size, BiFunction<Long, Integer, CursorPage<T>> fetch) {
+        return toResponse(fetch.apply(cursor, size(size)));
+    }
+
+    public static long after(Long cursor) {
+        return cursor == null ? 0L : cursor;
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 size + 1 개 조회
+     */
+    public static Pageable fetchOneMore(int size) {
+        return PageRequest.ofSize(size + 1);
+    }
+
+    /**
+     * 본문은 기존과 같은 배열, 다음 커서는 X-Next-Cursor 헤더로 전달
+     */
+    public static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            builder.header(CursorPage.NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return builder.body(page.items());
+    }
+}
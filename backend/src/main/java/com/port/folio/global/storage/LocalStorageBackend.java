@@ -0,0 +1,170 @@
+package com.port.folio.global.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 로컬 파일시스템 저장소 (단일 노드 설치용)
+ * → custom.genFile.dirPath/storage 아래에 키 경로 그대로 저장
+ * → 업로드 시 Content-Type 은 storage-meta 아래 같은 키 경로의 사이드카 파일에 저장
+ * → 다운로드 URL 은 /api/storage/{key}?expires=&signature= 형식의 HMAC 서명 URL
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.storage.type", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+
+    private final Path root;
+    private final Path metaRoot;
+    private final String baseUrl;
+    private final SecretKeySpec secret;
+
+    public LocalStorageBackend(
+            @Value("${custom.genFile.dirPath}") String dirPath,
+            @Value("${custom.site.backUrl}") String baseUrl,
+            @Value("${custom.storage.local.secret:}") String secret
+    ) throws IOException {
+        this.root = Path.of(dirPath, "storage").toAbsolutePath().normalize();
+        this.metaRoot = Path.of(dirPath, "storage-meta").toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+        Files.createDirectories(root);
+        Files.createDirectories(metaRoot);
+
+        byte[] key;
+        if (secret.isBlank()) {
+            // 설정이 없으면 기동마다 새 키 → 재시작 전에 발급된 URL 은 무효
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            log.warn("custom.storage.local.secret 미설정: 임시 서명 키 사용");
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.secret = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    /**
+     * 키 → 실제 경로 (저장소 루트 밖을 가리키는 키는 거부)
+     */
+    public Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 파일 키입니다");
+        }
+        return path;
+    }
+
+    private Path resolveMeta(String key) {
+        Path path = metaRoot.resolve(key).normalize();
+        if (!path.startsWith(metaRoot) || path.equals(metaRoot)) {
+            throw new IllegalArgumentException("잘못된 파일 키입니다");
+        }
+        return path;
+    }
+
+    /**
+     * 업로드 때 저장한 Content-Type (없거나 읽을 수 없으면 null)
+     */
+    public MediaType contentType(String key) {
+        try {
+            return MediaType.parseMediaType(Files.readString(resolveMeta(key), StandardCharsets.UTF_8).trim());
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 같은 디렉토리의 임시 파일에 쓴 뒤 rename → 읽는 쪽은 쓰다 만 파일을 보지 않음
+    @Override
+    public void put(String key, InputStream in, long length, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        Path meta = resolveMeta(key);
+        if (contentType == null || contentType.isBlank()) {
+            Files.deleteIfExists(meta);
+            return;
+        }
+        Files.createDirectories(meta.getParent());
+        Files.writeString(meta, contentType, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public int delete(List<String> keys) {
+        int failed = 0;
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+                Files.deleteIfExists(resolveMeta(key));
+            } catch (IOException | IllegalArgumentException e) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public String url(String key, Duration ttl, String downloadName) {
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String url = baseUrl + "/api/storage/" + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expires + "&signature=" + sign(key, expires, downloadName);
+        if (downloadName != null) {
+            url += "&name=" + UriUtils.encodeQueryParam(downloadName, StandardCharsets.UTF_8);
+        }
+        return url;
+    }
+
+    /**
+     * 서명 URL 검증 (만료 + HMAC, 상수 시간 비교, 다운로드 파일명도 서명에 포함)
+     */
+    public boolean verify(String key, long expires, String downloadName, String signature) {
+        if (expires < Instant.now().getEpochSecond()) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(key, expires, downloadName).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String sign(String key, long expires, String downloadName) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(secret);
+            String payload = key + "\n" + expires + (downloadName == null ? "" : "\n" + downloadName);
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
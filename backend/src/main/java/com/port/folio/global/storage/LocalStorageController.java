@@ -0,0 +1,168 @@
+package com.port.folio.global.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 저장소 파일 전송 (custom.storage.type=local 일 때만)
+ * → 서명 / 만료 검증 후 Range 요청(동영상 탐색) 지원
+ * → 서명된 name 이 있으면 그 파일명으로, 이미지 / 동영상이 아니면 attachment 로 내려보내고, 항상 nosniff + CSP sandbox 로 업로드 HTML 실행 차단
+ * → Tomcat sendfile 이 가능하면 커널에서 소켓으로 바로 전송, 아니면 FileChannel.transferTo
+ */
+@RestController
+@RequestMapping("/api/storage")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.storage.type", havingValue = "local")
+public class LocalStorageController {
+
+    private static final String PREFIX = "/api/storage/";
+
+    private final LocalStorageBackend storage;
+
+    @GetMapping("/**")
+    public void serve(@RequestParam long expires,
+                      @RequestParam String signature,
+                      @RequestParam(required = false) String name,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        String encodedKey = request.getRequestURI().substring(request.getContextPath().length() + PREFIX.length());
+        String key = UriUtils.decode(encodedKey, StandardCharsets.UTF_8);
+
+        if (!storage.verify(key, expires, name, signature)) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+
+        Path path;
+        try {
+            path = storage.resolve(key);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = file.size();
+            long start = 0;
+            long end = size - 1;
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=600");
+            response.setHeader("X-Content-Type-Options", "nosniff");
+            response.setHeader("Content-Security-Policy", "sandbox");
+
+            MediaType contentType = storage.contentType(key);
+            if (contentType == null) {
+                contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM);
+            }
+            response.setContentType(contentType.toString());
+            if (name != null || !isInline(contentType)) {
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name != null ? name : path.getFileName().toString(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+            }
+
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            if (rangeHeader != null) {
+                long[] range = parseRange(rangeHeader, size);
+                if (range == null) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                if (range.length == 2) {
+                    start = range[0];
+                    end = range[1];
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+                }
+            }
+
+            long length = end - start + 1;
+            response.setContentLengthLong(length);
+            if (length <= 0) return;
+
+            if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+                request.setAttribute("org.apache.tomcat.sendfile.filename", path.toString());
+                request.setAttribute("org.apache.tomcat.sendfile.start", start);
+                request.setAttribute("org.apache.tomcat.sendfile.end", end + 1);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += file.transferTo(position, end + 1 - position, out);
+            }
+        } catch (NoSuchFileException e) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    // 브라우저에서 바로 보여줘도 스크립트가 실행되지 않는 형식만 inline (SVG 는 스크립트를 담을 수 있어 제외)
+    static boolean isInline(MediaType contentType) {
+        if ("video".equals(contentType.getType())) return true;
+        return "image".equals(contentType.getType()) && !contentType.getSubtype().contains("svg");
+    }
+
+    /**
+     * 단일 바이트 범위 파싱
+     * → {start, end}: 부분 응답 / 빈 배열: 무시하고 전체 응답 (다중 범위, 형식 오류) / null: 416
+     */
+    public static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+
+            if (first.isEmpty()) {
+                // bytes=-N : 마지막 N 바이트
+                if (last.isEmpty()) return new long[0];
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) return null;
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+
+            long start = Long.parseLong(first);
+            if (start >= size) return null;
+            if (last.isEmpty()) return new long[]{start, size - 1};
+
+            long end = Long.parseLong(last);
+            if (end < start) return new long[0];
+            return new long[]{start, Math.min(end, size - 1)};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
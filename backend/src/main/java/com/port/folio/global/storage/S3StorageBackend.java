@@ -0,0 +1,104 @@
+package com.port.folio.global.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * S3 저장소 (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3StorageBackend implements StorageBackend {
+
+    private final String bucket;
+    private final S3Client s3Client;
+    private final S3Presigner presigner;
+
+    public S3StorageBackend(
+            @Value("${cloud.aws.region}") String region,
+            @Value("${cloud.aws.s3.bucket}") String bucket
+    ) {
+        this.bucket = bucket;
+        this.s3Client = S3Client.builder()
+                .region(Region.of(region))
+                .build();
+
+        this.presigner = S3Presigner.builder()
+                .region(Region.of(region))
+                .build();
+    }
+
+    @Override
+    public void put(String key, InputStream in, long length, String contentType) {
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromInputStream(in, length)
+        );
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
+    // DeleteObjects 한 번에 최대 1000개
+    @Override
+    public int delete(List<String> keys) {
+        int failed = 0;
+        for (int from = 0; from < keys.size(); from += 1000) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + 1000, keys.size())).stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+            failed += response.errors().size();
+        }
+        return failed;
+    }
+
+    @Override
+    public String url(String key, Duration ttl, String downloadName) {
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key);
+        if (downloadName != null) {
+            request.responseContentDisposition(ContentDisposition.attachment()
+                    .filename(downloadName, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+        GetObjectRequest getObjectRequest = request.build();
+
+        return presigner.presignGetObject(r -> r
+                        .getObjectRequest(getObjectRequest)
+                        .signatureDuration(ttl))
+                .url()
+                .toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.port.folio.global.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 파일 저장소 (custom.storage.type 으로 선택: s3 / local)
+ * → 키는 "objects/{sha256 앞 2자리}/{sha256}.{확장자}" 형식의 상대 경로 (내용 주소, 같은 내용이면 같은 키)
+ */
+public interface StorageBackend {
+
+    void put(String key, InputStream in, long length, String contentType) throws IOException;
+
+    default void put(String key, byte[] bytes, String contentType) throws IOException {
+        put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
+    /**
+     * 객체 스트림 열기 (호출자가 닫아야 함)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 일괄 삭제 → 실패한 키 개수 반환
+     */
+    int delete(List<String> keys);
+
+    /**
+     * 만료 시간이 있는 다운로드 URL
+     */
+    default String url(String key, Duration ttl) {
+        return url(key, ttl, null);
+    }
+
+    /**
+     * downloadName 이 있으면 그 이름의 첨부 파일로 내려받는 URL (Content-Disposition: attachment)
+     */
+    String url(String key, Duration ttl, String downloadName);
+}
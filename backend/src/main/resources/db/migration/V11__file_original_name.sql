@@ -0,0 +1,3 @@
+-- 업로드 당시 파일명 (키가 내용 해시라 원래 이름을 따로 보관, 이전 행은 null)
+ALTER TABLE file
+    ADD COLUMN original_name VARCHAR(255);
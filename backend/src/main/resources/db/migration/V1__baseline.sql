@@ -0,0 +1,182 @@
+-- 기준 스키마 (Flyway 도입 전 ddl-auto: update 로 만들어지던 운영 스키마 그대로)
+-- → 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀 → 새 DB 와 기존 DB 모두 V2 부터 같은 순서로 적용
+-- → 이 파일은 수정하지 않음, 이후 스키마 변경은 모두 새 버전(V2, V3 ...)으로 추가
+
+CREATE TABLE users (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    login_id         VARCHAR(50)  NOT NULL,
+    password         VARCHAR(100) NOT NULL,
+    nickname         VARCHAR(50)  NOT NULL,
+    email            VARCHAR(100),
+    role             ENUM ('USER','ADMIN') NOT NULL,
+    image_url        VARCHAR(255),
+    profile_image_id BIGINT,
+    refresh_token    VARCHAR(255),
+    bio              VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_login_id UNIQUE (login_id),
+    CONSTRAINT uk_users_profile_image_id UNIQUE (profile_image_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE category (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    public_id      VARCHAR(36)  NOT NULL,
+    category_title VARCHAR(255) NOT NULL,
+    user_id        BIGINT       NOT NULL,
+    main_video_id  BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT idx_category_public_id UNIQUE (public_id),
+    CONSTRAINT uk_category_main_video_id UNIQUE (main_video_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tab (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    tab_name    VARCHAR(255),
+    category_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE basic_tab (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    basic_tab1     VARCHAR(255),
+    basic_tab2     VARCHAR(255),
+    basic_content1 VARCHAR(255),
+    basic_content2 VARCHAR(255),
+    user_id        BIGINT,
+    category_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_basic_tab_category_id UNIQUE (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tag (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    tag_name    VARCHAR(255),
+    category_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- category_id 는 @OneToOne 매핑이지만 카테고리당 파일이 여러 개이므로 유니크 제약 없음
+CREATE TABLE file (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    title         VARCHAR(255),
+    url           VARCHAR(255),
+    type          VARCHAR(255),
+    size          BIGINT,
+    category_id   BIGINT,
+    user_id       BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE introduce (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    title       VARCHAR(255),
+    content     TEXT,
+    category_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_introduce_category_id UNIQUE (category_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post (
+    id          BIGINT  NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    content     TEXT,
+    image_url   VARCHAR(255),
+    views       INTEGER NOT NULL,
+    category_id BIGINT,
+    tab_id      BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_tab_id UNIQUE (tab_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE main (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    greeting       VARCHAR(255),
+    small_greeting VARCHAR(255),
+    introduce      TEXT,
+    name           VARCHAR(255),
+    job            VARCHAR(255),
+    work_history   TINYINT,
+    user_id        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_main_user_id UNIQUE (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE skill_category (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    name       ENUM ('SKILLS','PERSONALITY','INTERESTS','EXPERIENCE'),
+    user_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_skill_category_user_id UNIQUE (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE first_card (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    title             VARCHAR(255),
+    sub_title         VARCHAR(255),
+    content           TEXT,
+    category_name     ENUM ('SKILLS','PERSONALITY','INTERESTS','EXPERIENCE'),
+    skill_category_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE second_card (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    title             VARCHAR(255),
+    sub_title         VARCHAR(255),
+    content           TEXT,
+    category_name     ENUM ('SKILLS','PERSONALITY','INTERESTS','EXPERIENCE'),
+    skill_category_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_location (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    user_id      BIGINT,
+    lat          DOUBLE,
+    lng          DOUBLE,
+    address      VARCHAR(255),
+    email        VARCHAR(255),
+    phone_number VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- users ↔ file 순환 참조가 있어 외래 키는 테이블 생성 후 추가
+ALTER TABLE users ADD CONSTRAINT fk_users_profile_image FOREIGN KEY (profile_image_id) REFERENCES file (id);
+ALTER TABLE category ADD CONSTRAINT fk_category_main_video FOREIGN KEY (main_video_id) REFERENCES file (id);
+ALTER TABLE tab ADD CONSTRAINT fk_tab_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE basic_tab ADD CONSTRAINT fk_basic_tab_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE tag ADD CONSTRAINT fk_tag_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE file ADD CONSTRAINT fk_file_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE file ADD CONSTRAINT fk_file_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE introduce ADD CONSTRAINT fk_introduce_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE post ADD CONSTRAINT fk_post_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE post ADD CONSTRAINT fk_post_tab FOREIGN KEY (tab_id) REFERENCES tab (id);
+ALTER TABLE main ADD CONSTRAINT fk_main_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE skill_category ADD CONSTRAINT fk_skill_category_user FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE first_card ADD CONSTRAINT fk_first_card_skill_category FOREIGN KEY (skill_category_id) REFERENCES skill_category (id);
+ALTER TABLE second_card ADD CONSTRAINT fk_second_card_skill_category FOREIGN KEY (skill_category_id) REFERENCES skill_category (id);
@@ -0,0 +1,2 @@
+-- 탈퇴 요청 시각 (null 이 아니면 삭제 작업 대기/진행 중)
+ALTER TABLE users ADD COLUMN deleted_at DATETIME(6);
@@ -0,0 +1,4 @@
+-- 이미지 파생본 키 (백그라운드 변환이 끝나기 전에는 null)
+ALTER TABLE file
+    ADD COLUMN thumbnail_url VARCHAR(255),
+    ADD COLUMN medium_url    VARCHAR(255);
@@ -0,0 +1,11 @@
+-- 내용 주소(content-addressed) 저장소 객체 참조 수
+CREATE TABLE IF NOT EXISTS stored_object (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    object_key VARCHAR(255) NOT NULL,
+    size       BIGINT,
+    ref_count  INTEGER      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_stored_object_key UNIQUE (object_key)
+) ENGINE = InnoDB;
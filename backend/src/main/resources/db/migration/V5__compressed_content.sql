@@ -0,0 +1,3 @@
+-- 압축 본문 컬럼 (이전 content TEXT 는 CompressedTextBackfill 이 옮길 때까지 읽기 fallback 으로 유지)
+ALTER TABLE post ADD COLUMN content_z MEDIUMBLOB;
+ALTER TABLE introduce ADD COLUMN content_z MEDIUMBLOB;
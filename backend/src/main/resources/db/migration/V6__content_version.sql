@@ -0,0 +1,3 @@
+-- 낙관적 락 버전 (기존 행은 0 부터)
+ALTER TABLE post ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE introduce ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,12 @@
+-- 자동 저장 초안 (대상 하나당 한 행)
+CREATE TABLE IF NOT EXISTS content_draft (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    kind       ENUM ('POST','BASIC_TAB') NOT NULL,
+    target_id  BIGINT NOT NULL,
+    content_z  MEDIUMBLOB,
+    image_url  VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_content_draft_target UNIQUE (kind, target_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,12 @@
+-- 방문 집계 (범위별 시간 구간 조회수 + HyperLogLog 스케치)
+CREATE TABLE IF NOT EXISTS visit_rollup (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    scope        VARCHAR(64) NOT NULL,
+    bucket_start DATETIME(6) NOT NULL,
+    views        BIGINT      NOT NULL,
+    sketch       VARBINARY(4096),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_visit_rollup_scope_bucket UNIQUE (scope, bucket_start)
+) ENGINE = InnoDB;
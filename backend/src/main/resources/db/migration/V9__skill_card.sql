@@ -0,0 +1,38 @@
+-- first_card / second_card 를 합친 스킬 카드
+CREATE TABLE IF NOT EXISTS skill_card (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    title             VARCHAR(255),
+    sub_title         VARCHAR(255),
+    content_z         MEDIUMBLOB,
+    category_name     ENUM ('SKILLS','PERSONALITY','INTERESTS','EXPERIENCE'),
+    slot              ENUM ('FIRST','SECOND') NOT NULL,
+    skill_category_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_skill_card_slot UNIQUE (skill_category_id, category_name, slot),
+    CONSTRAINT fk_skill_card_skill_category FOREIGN KEY (skill_category_id) REFERENCES skill_category (id)
+) ENGINE = InnoDB;
+
+-- 이전 카드 이동: (스킬 카테고리, 카테고리 이름) 마다 가장 최근 행(id 가 큰 행)만
+-- 본문은 CompressedTextConverter 의 비압축 형식 [0x00][UTF-8] 으로 저장
+INSERT INTO skill_card (created_at, updated_at, title, sub_title, content_z, category_name, slot, skill_category_id)
+SELECT COALESCE(c.created_at, NOW(6)), COALESCE(c.updated_at, NOW(6)), c.title, c.sub_title,
+       CONCAT(X'00', CAST(c.content AS BINARY)), c.category_name, 'FIRST', c.skill_category_id
+FROM first_card c
+JOIN (SELECT MAX(id) AS id
+      FROM first_card
+      WHERE skill_category_id IS NOT NULL
+      GROUP BY skill_category_id, category_name) latest ON latest.id = c.id;
+
+INSERT INTO skill_card (created_at, updated_at, title, sub_title, content_z, category_name, slot, skill_category_id)
+SELECT COALESCE(c.created_at, NOW(6)), COALESCE(c.updated_at, NOW(6)), c.title, c.sub_title,
+       CONCAT(X'00', CAST(c.content AS BINARY)), c.category_name, 'SECOND', c.skill_category_id
+FROM second_card c
+JOIN (SELECT MAX(id) AS id
+      FROM second_card
+      WHERE skill_category_id IS NOT NULL
+      GROUP BY skill_category_id, category_name) latest ON latest.id = c.id;
+
+DROP TABLE first_card;
+DROP TABLE second_card;
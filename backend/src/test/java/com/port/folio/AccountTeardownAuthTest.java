@@ -0,0 +1,91 @@
+package com.port.folio;
+
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.domain.user.entity.UserRole;
+import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.domain.user.service.AccountTeardownService;
+import com.port.folio.domain.user.service.AuthLoginService;
+import com.port.folio.domain.user.service.AuthTokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+class AccountTeardownAuthTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private AuthLoginService authLoginService;
+
+    @Autowired
+    private AccountTeardownService accountTeardownService;
+
+    @Test
+    @DisplayName("탈퇴 요청 즉시 기존 accessToken 거부, 삭제가 끝난 뒤에도 거부")
+    void testTokenRejectedAfterDeletion() throws InterruptedException {
+        User user = saveUser();
+        String accessToken = authTokenService.genAccessToken(user);
+
+        User actor = authLoginService.getUserFromAccessToken(accessToken);
+        assertThat(actor).isNotNull();
+        assertThat(actor.getId()).isEqualTo(user.getId());
+
+        accountTeardownService.requestDeletion(user.getId());
+        assertThat(authLoginService.getUserFromAccessToken(accessToken)).isNull();
+
+        awaitRemoved(user.getId());
+        assertThat(authLoginService.getUserFromAccessToken(accessToken)).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제 도중 서버가 내려간 유저 (tombstone 만 남음) - 재기동 재개 전후 모두 토큰 거부")
+    void testTokenRejectedWhileResuming() throws InterruptedException {
+        User user = saveUser();
+        String accessToken = authTokenService.genAccessToken(user);
+
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        assertThat(authLoginService.getUserFromAccessToken(accessToken)).isNull();
+
+        accountTeardownService.resumePending();
+        awaitRemoved(user.getId());
+        assertThat(authLoginService.getUserFromAccessToken(accessToken)).isNull();
+    }
+
+    private User saveUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .loginId("teardown_" + suffix)
+                .password("encoded_password_123")
+                .nickname("탈퇴유저")
+                .email("teardown_" + suffix + "@example.com")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    private void awaitRemoved(Long userId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (userRepository.existsById(userId)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("탈퇴 작업이 끝나지 않았습니다: userId=" + userId);
+            }
+            Thread.sleep(50);
+        }
+        System.out.println("탈퇴 작업 완료: userId=" + userId);
+    }
+}
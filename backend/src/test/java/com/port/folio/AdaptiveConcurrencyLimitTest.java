@@ -0,0 +1,100 @@
+package com.port.folio;
+
+import com.port.folio.global.concurrency.AdaptiveConcurrencyLimit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimitTest {
+
+    // 동시에 50개까지는 제 속도, 그 이상은 나눠서 처리하는 (느려지는) 서버
+    private static final int CAPACITY = 50;
+    private static final int CLIENTS = 300;
+
+    @Test
+    @DisplayName("과부하 - 처리 용량 근처로 한도를 줄여 응답 시간 유지, 초과 요청은 거절")
+    void testConvergesUnderOverload() {
+        for (int initial : new int[]{20, 100, 150}) {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initial, 5, 400, 20);
+            Result result = new Server(limit).run(10, 30_000);
+
+            System.out.println("초기 한도 " + initial + " → 한도 " + limit.getLimit()
+                    + ", 평균 응답 " + result.avgRttMillis() + "ms, 거절 " + limit.getRejected());
+            assertThat(limit.getLimit()).isBetween(CAPACITY, CAPACITY * 3);
+            // 한도가 없으면 300 / 50 * 10ms = 60ms
+            assertThat(result.avgRttMillis()).isLessThan(35);
+            assertThat(limit.getRejected()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("과부하 중 기본 응답 시간이 느려짐 - 주기적 측정으로 한도가 바닥까지 내려가지 않음")
+    void testRelearnsSlowerBaseline() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(100, 5, 400, 20);
+        Server server = new Server(limit);
+        server.run(10, 20_000);
+        Result result = server.run(20, 20_000);
+
+        System.out.println("기본 응답 10ms → 20ms: 한도 " + limit.getLimit() + ", 평균 응답 " + result.avgRttMillis() + "ms");
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(CAPACITY);
+        assertThat(result.avgRttMillis()).isLessThan(70);
+    }
+
+    @Test
+    @DisplayName("설정 검증 - min <= initial <= max")
+    void testInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(1, 5, 10, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private record Result(long avgRttMillis) {
+    }
+
+    // 1ms 단위 시뮬레이션: 클라이언트는 응답 / 거절 즉시 다시 요청, 처리 시간은 base 의 0.5 ~ 1.5 배
+    private static class Server {
+        private final AdaptiveConcurrencyLimit limit;
+        private final Random random = new Random(1);
+        // 진행 중 요청: {남은 처리량(ms), 시작 시각}
+        private final List<double[]> running = new ArrayList<>();
+        private int now;
+
+        private Server(AdaptiveConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        // 앞 절반은 수렴 구간, 뒤 절반의 평균 응답 시간 반환
+        private Result run(double baseMillis, int millis) {
+            long done = 0;
+            long rttSum = 0;
+            for (int i = 0; i < millis; i++, now++) {
+                double rate = Math.min(1.0, (double) CAPACITY / Math.max(1, running.size()));
+                Iterator<double[]> it = running.iterator();
+                while (it.hasNext()) {
+                    double[] request = it.next();
+                    request[0] -= rate;
+                    if (request[0] <= 0) {
+                        it.remove();
+                        long rtt = now - (long) request[1] + 1;
+                        limit.release(rtt * 1_000_000);
+                        if (i >= millis / 2) {
+                            done++;
+                            rttSum += rtt;
+                        }
+                    }
+                }
+                int idle = CLIENTS - running.size();
+                for (int j = 0; j < idle && limit.tryAcquire(); j++) {
+                    running.add(new double[]{baseMillis * (0.5 + random.nextDouble()), now});
+                }
+            }
+            return new Result(done == 0 ? 0 : rttSum / done);
+        }
+    }
+}
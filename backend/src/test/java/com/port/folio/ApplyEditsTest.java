@@ -0,0 +1,92 @@
+package com.port.folio;
+
+import com.port.folio.domain.post.dto.TextEdit;
+import com.port.folio.domain.post.service.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApplyEditsTest {
+
+    private static final String BASE = "안녕하세요 포트폴리오입니다";
+
+    @Test
+    @DisplayName("여러 구간 - offset 은 모두 기준 본문 위치")
+    void testOrderedEdits() {
+        String result = PostService.applyEdits(BASE, List.of(
+                new TextEdit(0, 5, "반갑습니다"),
+                new TextEdit(6, 0, "제 "),
+                new TextEdit(BASE.length(), 0, "!")));
+
+        assertThat(result).isEqualTo("반갑습니다 제 포트폴리오입니다!");
+    }
+
+    @Test
+    @DisplayName("같은 위치 삽입 / 본문 끝까지 삭제 / 빈 본문")
+    void testBoundaries() {
+        assertThat(PostService.applyEdits("abc", List.of(new TextEdit(1, 0, "x"), new TextEdit(1, 0, "y"))))
+                .isEqualTo("axybc");
+        assertThat(PostService.applyEdits("abc", List.of(new TextEdit(1, 2, null)))).isEqualTo("a");
+        assertThat(PostService.applyEdits(null, List.of(new TextEdit(0, 0, "새 글")))).isEqualTo("새 글");
+    }
+
+    @Test
+    @DisplayName("수정 없음 - 기준 본문 그대로")
+    void testEmptyEdits() {
+        assertThat(PostService.applyEdits(BASE, null)).isEqualTo(BASE);
+        assertThat(PostService.applyEdits(BASE, List.of())).isEqualTo(BASE);
+        assertThat(PostService.applyEdits(null, List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("역순 / 겹치는 구간 거부")
+    void testOrderingAndOverlap() {
+        assertThatThrownBy(() -> PostService.applyEdits(BASE, List.of(
+                new TextEdit(6, 1, "a"),
+                new TextEdit(0, 1, "b"))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> PostService.applyEdits(BASE, List.of(
+                new TextEdit(0, 5, "a"),
+                new TextEdit(3, 1, "b"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("범위 밖 - 음수, 본문 길이 초과, offset + deleteCount 가 int 를 넘는 경우")
+    void testOutOfRange() {
+        List<TextEdit> invalid = List.of(
+                new TextEdit(-1, 0, "a"),
+                new TextEdit(0, -1, "a"),
+                new TextEdit(BASE.length() + 1, 0, "a"),
+                new TextEdit(1, BASE.length(), null),
+                new TextEdit(1, Integer.MAX_VALUE, null),
+                new TextEdit(Integer.MAX_VALUE, 1, null));
+
+        for (TextEdit edit : invalid) {
+            assertThatThrownBy(() -> PostService.applyEdits(BASE, List.of(edit)))
+                    .as("offset=%d, deleteCount=%d", edit.getOffset(), edit.getDeleteCount())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("null 구간 / 구간 수 초과 거부")
+    void testInvalidList() {
+        assertThatThrownBy(() -> PostService.applyEdits(BASE, Arrays.asList(new TextEdit(0, 0, "a"), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<TextEdit> tooMany = new ArrayList<>();
+        for (int i = 0; i <= 10_000; i++) {
+            tooMany.add(new TextEdit(0, 0, "a"));
+        }
+        assertThatThrownBy(() -> PostService.applyEdits(BASE, tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
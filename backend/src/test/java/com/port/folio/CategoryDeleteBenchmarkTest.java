@@ -0,0 +1,101 @@
+package com.port.folio;
+
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.category.service.CategoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리 삭제 벤치마크 (오래 걸리므로 RUN_BENCHMARKS 가 있을 때만 실행)
+ * → 기존 방식(JPA cascade 로 하위 엔티티 로딩 후 행 단위 삭제)과 일괄 DELETE 방식의 소요 시간 비교
+ * → 삭제 트랜잭션 시간 = 락 보유 시간
+ * → 예: RUN_BENCHMARKS=1 ./gradlew test --tests CategoryDeleteBenchmarkTest
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = ".+")
+class CategoryDeleteBenchmarkTest {
+
+    private static final int TABS = 1000;
+    private static final int TAGS = 300;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("카테고리 삭제 - cascade 삭제 대비 일괄 DELETE 소요 시간")
+    void benchmarkDeleteCategory() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Long cascadeId = seedCategory("cascade");
+        long cascadeStarted = System.nanoTime();
+        tx.executeWithoutResult(status -> categoryRepository.delete(categoryRepository.findById(cascadeId).orElseThrow()));
+        long cascadeMillis = (System.nanoTime() - cascadeStarted) / 1_000_000;
+
+        Long bulkId = seedCategory("bulk");
+        long bulkStarted = System.nanoTime();
+        categoryService.deleteCategory(bulkId);
+        long bulkMillis = (System.nanoTime() - bulkStarted) / 1_000_000;
+
+        System.out.println("카테고리 삭제 (탭/게시글 " + TABS + ", 태그 " + TAGS + ")");
+        System.out.println("  cascade 삭제 트랜잭션: " + cascadeMillis + "ms");
+        System.out.println("  일괄 DELETE 트랜잭션: " + bulkMillis + "ms");
+
+        assertThat(categoryRepository.existsById(bulkId)).isFalse();
+        for (String table : new String[]{"post", "tab", "tag", "introduce", "basic_tab", "file"}) {
+            Integer remaining = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " WHERE category_id = ?", Integer.class, bulkId);
+            assertThat(remaining).as(table).isZero();
+        }
+    }
+
+    private Long seedCategory(String title) {
+        Category category = categoryRepository.saveAndFlush(Category.builder()
+                .categoryTitle(title)
+                .userId(1L)
+                .build());
+        Long categoryId = category.getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update("INSERT INTO basic_tab (basic_tab1, basic_tab2, basic_content1, basic_content2, user_id, category_id, created_at, updated_at) " +
+                "VALUES ('소개', '자료', '내용', '내용', 1, ?, ?, ?)", categoryId, now, now);
+        jdbcTemplate.update("INSERT INTO introduce (title, content, category_id, created_at, updated_at) VALUES ('소개', ?, ?, ?, ?)",
+                "긴 소개 ".repeat(500), categoryId, now, now);
+        jdbcTemplate.batchUpdate("INSERT INTO tag (tag_name, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                IntStream.range(0, TAGS).mapToObj(i -> new Object[]{"tag" + i, categoryId, now, now}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO tab (tab_name, category_id, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                IntStream.range(0, TABS).mapToObj(i -> new Object[]{"tab" + i, categoryId, now, now}).toList());
+        jdbcTemplate.update("INSERT INTO post (content, image_url, views, category_id, tab_id, created_at, updated_at) " +
+                "SELECT ?, NULL, 0, category_id, id, ?, ? FROM tab WHERE category_id = ?", "본문 ".repeat(1000), now, now, categoryId);
+        jdbcTemplate.update("INSERT INTO file (title, url, type, size, category_id, created_at, updated_at) " +
+                "VALUES ('대표 영상', ?, 'VIDEO', 1024, ?, ?, ?)", "main-videos/" + title + ".mp4", categoryId, now, now);
+        jdbcTemplate.update("UPDATE category SET main_video_id = (SELECT id FROM file WHERE category_id = ?) WHERE id = ?",
+                categoryId, categoryId);
+        return categoryId;
+    }
+}
@@ -0,0 +1,138 @@
+package com.port.folio;
+
+import com.port.folio.domain.post.entity.Post;
+import com.port.folio.domain.post.repository.PostRepository;
+import com.port.folio.global.Jpa.CompressedTextBackfill;
+import com.port.folio.global.Jpa.CompressedTextConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 압축 벤치마크 (오래 걸리므로 RUN_BENCHMARKS 가 있을 때만 실행, 코덱 왕복은 CompressedTextConverterTest)
+ * → 같은 본문을 TEXT(content) 와 압축 바이너리(content_z)로 저장했을 때 쓰기 / 읽기 시간과 저장 크기 비교
+ * → 압축 도입 전 행의 온라인 이전(CompressedTextBackfill) 결과 확인
+ * → 넣은 post 행은 끝나면 삭제 (같은 컨텍스트를 쓰는 다른 테스트에 남기지 않음)
+ * → 예: RUN_BENCHMARKS=1 ./gradlew test --tests CompressedTextBenchmarkTest
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = ".+")
+class CompressedTextBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CompressedTextBenchmarkTest.class);
+    private static final int ROWS = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CompressedTextBackfill backfill;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("본문 압축 - TEXT 대비 쓰기 / 읽기 시간, 저장 크기")
+    void benchmarkCompression() {
+        Long lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM post", Long.class);
+        try {
+            runBenchmark();
+        } finally {
+            jdbcTemplate.update("DELETE FROM post WHERE id > ?", lastId);
+        }
+    }
+
+    private void runBenchmark() {
+        List<String> contents = IntStream.range(0, ROWS).mapToObj(CompressedTextBenchmarkTest::richText).toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long originalBytes = contents.stream().mapToLong(c -> c.getBytes(StandardCharsets.UTF_8).length).sum();
+
+        long rawWrite = time(() -> jdbcTemplate.batchUpdate(
+                "INSERT INTO post (content, views, created_at, updated_at) VALUES (?, 0, ?, ?)",
+                contents.stream().map(c -> new Object[]{c, now, now}).toList()));
+        long rawRead = time(() -> jdbcTemplate.query(
+                "SELECT content FROM post WHERE content IS NOT NULL ORDER BY id", (rs, i) -> rs.getString(1)));
+        Long rawStored = jdbcTemplate.queryForObject(
+                "SELECT SUM(OCTET_LENGTH(content)) FROM post WHERE content IS NOT NULL", Long.class);
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM post WHERE content IS NOT NULL ORDER BY id", Long.class);
+
+        long compressedWrite = time(() -> jdbcTemplate.batchUpdate(
+                "INSERT INTO post (content_z, views, created_at, updated_at) VALUES (?, 0, ?, ?)",
+                contents.stream().map(c -> new Object[]{CompressedTextConverter.encode(c), now, now}).toList()));
+        long compressedRead = time(() -> jdbcTemplate.query(
+                "SELECT content_z FROM post WHERE content_z IS NOT NULL ORDER BY id",
+                (rs, i) -> CompressedTextConverter.decode(rs.getBytes(1))));
+        Long compressedStored = jdbcTemplate.queryForObject(
+                "SELECT SUM(OCTET_LENGTH(content_z)) FROM post WHERE content_z IS NOT NULL", Long.class);
+
+        log.info("본문 압축 ({}행, 원본 {}KB)", ROWS, originalBytes / 1024);
+        log.info("  TEXT   쓰기 {}ms, 읽기 {}ms, 저장 {}KB", rawWrite, rawRead, rawStored / 1024);
+        log.info("  압축   쓰기 {}ms, 읽기 {}ms, 저장 {}KB ({})", compressedWrite, compressedRead, compressedStored / 1024,
+                String.format("%.1f%%", 100.0 * compressedStored / rawStored));
+
+        assertThat(compressedStored).isLessThan(rawStored / 2);
+
+        // 앞서 TEXT 로 넣은 행 = 압축 도입 전 행 → 온라인 이전
+        long migrateStarted = System.nanoTime();
+        int migrated;
+        try {
+            migrated = backfill.migrate("post");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        log.info("  이전   {}행, {}ms", migrated, (System.nanoTime() - migrateStarted) / 1_000_000);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post WHERE content IS NOT NULL", Integer.class)).isZero();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Post first = postRepository.findById(ids.get(0)).orElseThrow();
+            Post last = postRepository.findById(ids.get(ids.size() - 1)).orElseThrow();
+            assertThat(first.getContent()).isEqualTo(contents.get(0));
+            assertThat(last.getContent()).isEqualTo(contents.get(ROWS - 1));
+        });
+    }
+
+    // 마크업이 섞인 20KB 안팎의 본문 (행마다 조금씩 다름)
+    private static String richText(int seed) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 60; i++) {
+            sb.append("<div class=\"ql-block\"><h3 style=\"color:#333;font-weight:600\">프로젝트 ")
+                    .append(seed).append('-').append(i)
+                    .append("</h3><p style=\"line-height:1.6\">Spring Boot 와 JPA 로 구현한 포트폴리오 서비스입니다. ")
+                    .append("캐시 무효화, 커서 페이지네이션, 백그라운드 작업을 적용했습니다. 항목 번호 ")
+                    .append(seed * 31 + i)
+                    .append("</p><ul><li><strong>역할</strong>: 백엔드</li><li><code>GET /api/posts?categoryId=")
+                    .append(seed)
+                    .append("</code></li></ul></div>");
+        }
+        return sb.toString();
+    }
+
+    private static long time(Runnable task) {
+        long started = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
@@ -0,0 +1,29 @@
+package com.port.folio;
+
+import com.port.folio.global.Jpa.CompressedTextConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedTextConverterTest {
+
+    @Test
+    @DisplayName("본문 압축 - 코덱 왕복")
+    void testRoundTrip() {
+        String markup = "<div class=\"ql-block\"><h3>프로젝트</h3><p>캐시 무효화, 커서 페이지네이션</p></div>".repeat(200);
+        for (String text : List.of("", "짧은 본문", markup, "x".repeat(CompressedTextConverter.COLUMN_LENGTH / 64))) {
+            assertThat(CompressedTextConverter.decode(CompressedTextConverter.encode(text))).isEqualTo(text);
+        }
+        assertThat(CompressedTextConverter.encode(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("본문 압축 - 헤더 없는 값은 압축 도입 전 TEXT 로 간주")
+    void testDecodeLegacyText() {
+        assertThat(CompressedTextConverter.decode("<p>이전 본문</p>".getBytes(StandardCharsets.UTF_8))).isEqualTo("<p>이전 본문</p>");
+    }
+}
@@ -0,0 +1,166 @@
+package com.port.folio;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.port.folio.domain.category.entity.Category;
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.category.service.CategoryService;
+import com.port.folio.domain.draft.dto.DraftSaveRequest;
+import com.port.folio.domain.draft.entity.DraftKind;
+import com.port.folio.domain.draft.repository.ContentDraftRepository;
+import com.port.folio.domain.draft.service.DraftService;
+import com.port.folio.domain.post.repository.PostRepository;
+import com.port.folio.domain.post.service.PostService;
+import com.port.folio.domain.tab.repository.BasicTabRepository;
+import com.port.folio.domain.tab.service.TabService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+class DraftServiceTest {
+
+    @Autowired
+    private DraftService draftService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ContentDraftRepository draftRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private BasicTabRepository basicTabRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TabService tabService;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("카테고리 삭제 시 반영된 초안 행과 메모리 초안 모두 삭제")
+    void testCategoryDeleteDiscardsDrafts() {
+        Long categoryId = seedCategory();
+        Long tabId = tabIdOf(categoryId);
+
+        draftService.save(DraftKind.BASIC_TAB, categoryId, request("소개 초안"));
+        draftService.flush();
+        draftService.save(DraftKind.POST, tabId, request("게시글 초안"));
+        assertThat(draftRepository.findByKindAndTargetId(DraftKind.BASIC_TAB, categoryId)).isPresent();
+
+        categoryService.deleteCategory(categoryId);
+
+        assertThat(draftService.get(DraftKind.BASIC_TAB, categoryId)).isNull();
+        assertThat(draftService.get(DraftKind.POST, tabId)).isNull();
+        draftService.flush();
+        assertThat(draftRepository.findByKindAndTargetId(DraftKind.POST, tabId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제와 겹친 반영 - 삭제 정리가 끝난 뒤 반영되는 메모리 초안은 행을 만들지 않음")
+    void testFlushAfterDeleteSkipsOrphan() throws IOException {
+        Long categoryId = seedCategory();
+        Long tabId = tabIdOf(categoryId);
+
+        // 삭제 이벤트를 받지 않는 별도 인스턴스 = 삭제 정리보다 먼저 초안을 집어 간 반영
+        DraftService racing = newDraftService();
+        racing.save(DraftKind.POST, tabId, request("삭제 직전 초안"));
+
+        categoryService.deleteCategory(categoryId);
+        racing.flush();
+
+        assertThat(draftRepository.findByKindAndTargetId(DraftKind.POST, tabId)).isEmpty();
+        racing.shutdown();
+    }
+
+    @Test
+    @DisplayName("저널 복구 - 살아 있는 대상만 반영, 그 사이 삭제된 대상의 초안은 버림")
+    void testReplaySkipsDeletedTargets() throws IOException {
+        Long liveId = seedCategory();
+        Long deletedId = seedCategory();
+        Long deletedTabId = tabIdOf(deletedId);
+
+        // 반영 전에 비정상 종료 (shutdown 없이 버림) → 저널에만 남음
+        DraftService crashed = newDraftService();
+        crashed.save(DraftKind.BASIC_TAB, liveId, request("살아 있는 초안 1"));
+        crashed.save(DraftKind.BASIC_TAB, liveId, request("살아 있는 초안 2"));
+        crashed.save(DraftKind.POST, deletedTabId, request("삭제될 탭 초안"));
+
+        categoryService.deleteCategory(deletedId);
+
+        DraftService restarted = newDraftService();
+        assertThat(restarted.get(DraftKind.BASIC_TAB, liveId).getContent()).isEqualTo("살아 있는 초안 2");
+        restarted.flush();
+
+        assertThat(draftRepository.findByKindAndTargetId(DraftKind.BASIC_TAB, liveId))
+                .hasValueSatisfying(row -> assertThat(row.getContent()).isEqualTo("살아 있는 초안 2"));
+        assertThat(draftRepository.findByKindAndTargetId(DraftKind.POST, deletedTabId)).isEmpty();
+        restarted.shutdown();
+
+        draftService.discard(DraftKind.BASIC_TAB, List.of(liveId));
+    }
+
+    private DraftService newDraftService() throws IOException {
+        return new DraftService(3600, 1000, 20_000_000, false, dir.toString(), objectMapper, transactionManager,
+                draftRepository, postRepository, basicTabRepository, postService, tabService);
+    }
+
+    private static DraftSaveRequest request(String content) {
+        return new DraftSaveRequest(content, null);
+    }
+
+    private Long tabIdOf(Long categoryId) {
+        return jdbcTemplate.queryForObject("SELECT id FROM tab WHERE category_id = ?", Long.class, categoryId);
+    }
+
+    // 기본 탭 + 게시글이 있는 탭 1개를 가진 카테고리
+    private Long seedCategory() {
+        Long categoryId = categoryRepository.saveAndFlush(Category.builder()
+                .categoryTitle("초안")
+                .userId(1L)
+                .build()).getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update("INSERT INTO basic_tab (basic_tab1, basic_tab2, basic_content1, basic_content2, user_id, category_id, created_at, updated_at) " +
+                "VALUES ('소개', '자료', '내용', '내용', 1, ?, ?, ?)", categoryId, now, now);
+        jdbcTemplate.update("INSERT INTO tab (tab_name, category_id, created_at, updated_at) VALUES ('탭', ?, ?, ?)",
+                categoryId, now, now);
+        jdbcTemplate.update("INSERT INTO post (content, views, category_id, tab_id, created_at, updated_at) " +
+                "SELECT '본문', 0, category_id, id, ?, ? FROM tab WHERE category_id = ?", now, now, categoryId);
+        return categoryId;
+    }
+}
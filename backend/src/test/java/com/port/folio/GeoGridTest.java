@@ -0,0 +1,80 @@
+package com.port.folio;
+
+import com.port.folio.domain.main.geo.GeoGrid;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridTest {
+
+    @Test
+    @DisplayName("반경 검색 - 전수 계산 결과와 같은 점을 가까운 순으로 반환")
+    void testNearestMatchesBruteForce() {
+        GeoGrid<String> grid = new GeoGrid<>();
+        Random random = new Random(7);
+        int n = 100_000;
+        double[][] points = new double[n][];
+        for (int i = 0; i < n; i++) {
+            // 한반도 근처에 몰아서 생성
+            double lat = 33 + random.nextDouble() * 5;
+            double lng = 125 + random.nextDouble() * 5;
+            points[i] = new double[]{lat, lng};
+            grid.put(i, lat, lng, "p" + i);
+        }
+
+        double lat = 37.5665;
+        double lng = 126.978;
+        double radius = 3_000;
+        List<Long> expected = IntStream.range(0, n)
+                .filter(i -> GeoGrid.distanceMeters(lat, lng, points[i][0], points[i][1]) <= radius)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> GeoGrid.distanceMeters(lat, lng, points[i][0], points[i][1])))
+                .limit(20)
+                .map(Integer::longValue)
+                .toList();
+
+        for (int i = 0; i < 1_000; i++) {
+            grid.nearest(lat, lng, radius, 20);
+        }
+        long started = System.nanoTime();
+        int rounds = 10_000;
+        List<GeoGrid.Hit<String>> hits = null;
+        for (int i = 0; i < rounds; i++) {
+            hits = grid.nearest(lat, lng, radius, 20);
+        }
+        long micros = (System.nanoTime() - started) / 1_000 / rounds;
+        System.out.println("반경 " + (long) radius + "m 검색 (점 " + n + "개): 평균 " + micros + "µs");
+
+        assertThat(hits).extracting(GeoGrid.Hit::id).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("영역 검색 - 날짜변경선을 넘는 영역 / 이동 / 삭제")
+    void testViewportAndUpdates() {
+        GeoGrid<String> grid = new GeoGrid<>();
+        grid.put(1, 10, 179.9, "east");
+        grid.put(2, 10, -179.9, "west");
+        grid.put(3, 10, 0, "greenwich");
+
+        assertThat(grid.within(5, 179, 15, -179, 10))
+                .extracting(GeoGrid.Hit::id).containsExactlyInAnyOrder(1L, 2L);
+
+        // 이동하면 이전 위치에서는 검색되지 않음
+        grid.put(1, 10, 0.01, "moved");
+        assertThat(grid.within(5, 179, 15, -179, 10)).extracting(GeoGrid.Hit::id).containsExactly(2L);
+        assertThat(grid.nearest(10, 0, 5_000, 10)).extracting(GeoGrid.Hit::id).containsExactly(3L, 1L);
+
+        grid.remove(3);
+        assertThat(grid.nearest(10, 0, 5_000, 10)).extracting(GeoGrid.Hit::id).containsExactly(1L);
+        assertThat(grid.size()).isEqualTo(2);
+
+        // 전 세계 영역 (점이 있는 셀만 순회)
+        assertThat(grid.within(-90, -180, 90, 180, 10)).hasSize(2);
+    }
+}
@@ -0,0 +1,77 @@
+package com.port.folio;
+
+import com.port.folio.domain.analytics.sketch.HyperLogLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("고유 방문자 추정 - 중복은 한 번만, 오차 5% 이내")
+    void testEstimate() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int i = 0; i < 50_000; i++) {
+                hll.add(HyperLogLog.hash("10.0." + (i / 256) + "." + (i % 256) + "|Mozilla/5.0"));
+            }
+        }
+        assertThat((double) hll.estimate()).isCloseTo(50_000, within(2_500.0));
+
+        HyperLogLog small = new HyperLogLog();
+        for (int i = 0; i < 30; i++) {
+            small.add(HyperLogLog.hash("visitor-" + i));
+        }
+        assertThat(small.estimate()).isBetween(28L, 32L);
+    }
+
+    @Test
+    @DisplayName("시간 단위 스케치 합산 = 합집합, 직렬화 왕복")
+    void testMergeAndSerialize() {
+        HyperLogLog morning = new HyperLogLog();
+        HyperLogLog evening = new HyperLogLog();
+        for (int i = 0; i < 6_000; i++) {
+            morning.add(HyperLogLog.hash("v" + i));
+        }
+        for (int i = 3_000; i < 9_000; i++) {
+            evening.add(HyperLogLog.hash("v" + i));
+        }
+
+        byte[] stored = morning.toBytes();
+        HyperLogLog day = HyperLogLog.fromBytes(stored);
+        day.merge(evening);
+
+        System.out.println("스케치 크기: " + stored.length + "B, 일 고유 방문자 추정: " + day.estimate());
+        assertThat(stored.length).isLessThan(2048);
+        assertThat((double) day.estimate()).isCloseTo(9_000, within(450.0));
+    }
+
+    @Test
+    @DisplayName("sparse 표현 - 방문이 적으면 sparse 유지, 넘으면 dense 전환, 추정값은 표현과 무관")
+    void testSparse() {
+        HyperLogLog few = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            few.add(HyperLogLog.hash("few-" + i));
+        }
+        assertThat(few.isSparse()).isTrue();
+        assertThat(few.estimate()).isBetween(48L, 52L);
+        assertThat(HyperLogLog.fromBytes(few.toBytes()).estimate()).isEqualTo(few.estimate());
+
+        HyperLogLog many = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) {
+            many.add(HyperLogLog.hash("many-" + i));
+        }
+        assertThat(many.isSparse()).isFalse();
+
+        // sparse → dense, dense → sparse 합산 결과가 같아야 함
+        HyperLogLog sparseFirst = HyperLogLog.fromBytes(few.toBytes());
+        sparseFirst.merge(many);
+        HyperLogLog denseFirst = new HyperLogLog();
+        denseFirst.merge(few);
+        denseFirst.merge(many);
+        assertThat(denseFirst.estimate()).isEqualTo(sparseFirst.estimate());
+        assertThat((double) denseFirst.estimate()).isCloseTo(5_050, within(250.0));
+    }
+}
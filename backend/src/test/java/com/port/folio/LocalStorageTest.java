@@ -0,0 +1,109 @@
+package com.port.folio;
+
+import com.port.folio.global.storage.LocalStorageBackend;
+import com.port.folio.global.storage.LocalStorageController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageTest {
+
+    private static final String KEY = "objects/ab/abcdef.png";
+
+    @TempDir
+    Path dir;
+
+    private LocalStorageBackend storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalStorageBackend(dir.toString(), "http://localhost:8080", "test-secret");
+    }
+
+    @Test
+    @DisplayName("Range 파싱 - 일반 / 열린 범위 / 끝이 크기를 넘으면 잘라냄")
+    void testParseRange() {
+        assertThat(LocalStorageController.parseRange("bytes=0-99", 1000)).containsExactly(0, 99);
+        assertThat(LocalStorageController.parseRange("bytes=900-", 1000)).containsExactly(900, 999);
+        assertThat(LocalStorageController.parseRange("bytes=900-5000", 1000)).containsExactly(900, 999);
+    }
+
+    @Test
+    @DisplayName("Range 파싱 - 접미 범위 (bytes=-N) 는 마지막 N 바이트, 크기보다 크면 전체")
+    void testParseSuffixRange() {
+        assertThat(LocalStorageController.parseRange("bytes=-100", 1000)).containsExactly(900, 999);
+        assertThat(LocalStorageController.parseRange("bytes=-5000", 1000)).containsExactly(0, 999);
+        assertThat(LocalStorageController.parseRange("bytes=-0", 1000)).isNull();
+    }
+
+    @Test
+    @DisplayName("Range 파싱 - 시작이 크기 이상이면 416 (null)")
+    void testParseRangeNotSatisfiable() {
+        assertThat(LocalStorageController.parseRange("bytes=1000-", 1000)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=2000-3000", 1000)).isNull();
+        assertThat(LocalStorageController.parseRange("bytes=0-", 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("Range 파싱 - 다중 범위 / 형식 오류는 무시하고 전체 응답 (빈 배열)")
+    void testParseRangeFallsBackToFullBody() {
+        assertThat(LocalStorageController.parseRange("bytes=0-10,20-30", 1000)).isEmpty();
+        assertThat(LocalStorageController.parseRange("items=0-10", 1000)).isEmpty();
+        assertThat(LocalStorageController.parseRange("bytes=abc-", 1000)).isEmpty();
+        assertThat(LocalStorageController.parseRange("bytes=50-10", 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 URL - 발급한 서명은 통과, 키 / 파일명 / 만료 / 서명 변조는 거부")
+    void testVerifySignature() {
+        var params = UriComponentsBuilder.fromUriString(storage.url(KEY, Duration.ofMinutes(10), "a.png"))
+                .build().getQueryParams();
+        long expires = Long.parseLong(params.getFirst("expires"));
+        String signature = params.getFirst("signature");
+
+        assertThat(storage.verify(KEY, expires, "a.png", signature)).isTrue();
+        assertThat(storage.verify("objects/ab/other.png", expires, "a.png", signature)).isFalse();
+        assertThat(storage.verify(KEY, expires, "b.png", signature)).isFalse();
+        assertThat(storage.verify(KEY, expires, null, signature)).isFalse();
+        assertThat(storage.verify(KEY, expires + 1, "a.png", signature)).isFalse();
+        assertThat(storage.verify(KEY, expires, "a.png", signature.substring(1) + "A")).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명 URL - 만료 시각이 지나면 서명이 맞아도 거부")
+    void testVerifyExpired() {
+        var params = UriComponentsBuilder.fromUriString(storage.url(KEY, Duration.ofSeconds(-60)))
+                .build().getQueryParams();
+        long expires = Long.parseLong(params.getFirst("expires"));
+
+        assertThat(expires).isLessThan(Instant.now().getEpochSecond());
+        assertThat(storage.verify(KEY, expires, null, params.getFirst("signature"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("키 경로 - 저장소 루트 밖 (../, 절대 경로) 이나 루트 자체는 거부")
+    void testResolveRejectsTraversal() {
+        assertThat(storage.resolve(KEY)).startsWithRaw(dir.resolve("storage").toAbsolutePath());
+        assertThat(storage.resolve("objects/../objects/ab/x.png"))
+                .isEqualTo(storage.resolve("objects/ab/x.png"));
+
+        assertThatThrownBy(() -> storage.resolve("../secret.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("objects/../../storage-meta/objects/ab/abcdef.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("/etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.resolve("."))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
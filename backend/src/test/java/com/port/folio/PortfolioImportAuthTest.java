@@ -0,0 +1,90 @@
+package com.port.folio;
+
+import com.port.folio.domain.user.entity.User;
+import com.port.folio.domain.user.entity.UserRole;
+import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.domain.user.service.AuthTokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@ActiveProfiles("test")
+class PortfolioImportAuthTest {
+
+    private static final String EMPTY_DOCUMENT = "{\"categories\":[]}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Test
+    @DisplayName("로그인하지 않은 가져오기 요청은 401")
+    void testAnonymousImportRejected() throws Exception {
+        User owner = saveUser();
+
+        mockMvc.perform(post("/api/import")
+                        .param("userId", owner.getId().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EMPTY_DOCUMENT))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("다른 유저의 포트폴리오로 가져오기 요청은 403")
+    void testImportIntoOtherUserForbidden() throws Exception {
+        User owner = saveUser();
+        User other = saveUser();
+        String accessToken = authTokenService.genAccessToken(other);
+
+        mockMvc.perform(post("/api/import")
+                        .param("userId", owner.getId().toString())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EMPTY_DOCUMENT))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("본인 요청은 권한 검사를 통과해 문서 검증까지 진행 (빈 문서라 400)")
+    void testImportIntoOwnPortfolio() throws Exception {
+        User owner = saveUser();
+        String accessToken = authTokenService.genAccessToken(owner);
+
+        mockMvc.perform(post("/api/import")
+                        .param("userId", owner.getId().toString())
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EMPTY_DOCUMENT))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User saveUser() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .loginId("import_" + suffix)
+                .password("encoded_password_123")
+                .nickname("가져오기유저")
+                .email("import_" + suffix + "@example.com")
+                .role(UserRole.USER)
+                .build());
+    }
+}
@@ -0,0 +1,170 @@
+package com.port.folio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 검사 (로컬 MySQL 필요, EXPLAIN_MYSQL_URL 이 있을 때만 실행)
+ * → Flyway 마이그레이션으로 스키마를 만들고 ddl-auto: validate 로 엔티티와 일치하는지 확인
+ * → 리포지토리 인터페이스에 선언된 메서드를 임의 인자로 하나씩 실행 (롤백)
+ *   → 그 사이 이 스레드가 보낸 SQL 을 performance_schema 에서 꺼내 EXPLAIN
+ *   → 후보 인덱스 없이 전체 스캔(type = ALL, possible_keys 없음)하는 테이블이 있으면 실패
+ * → 예: EXPLAIN_MYSQL_URL=jdbc:mysql://localhost:3306/folio_explain EXPLAIN_MYSQL_USER=root ./gradlew test --tests QueryPlanTest
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_MYSQL_URL", matches = ".+")
+class QueryPlanTest {
+
+    // 전체를 읽는 것이 목적인 쿼리 (기동 시 메모리 인덱스 적재)
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "UserLocationRepository.findAllPoints",
+            "TagRepository.findAllIndexRows"
+    );
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void mysql(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("EXPLAIN_MYSQL_URL"));
+        registry.add("spring.datasource.username", () -> env("EXPLAIN_MYSQL_USER", "root"));
+        registry.add("spring.datasource.password", () -> env("EXPLAIN_MYSQL_PASSWORD", ""));
+        registry.add("spring.datasource.driverClassName", () -> "com.mysql.cj.jdbc.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Test
+    @DisplayName("리포지토리 쿼리 - 인덱스 없는 전체 스캔 없음")
+    void testNoFullTableScans() {
+        jdbcTemplate.update("UPDATE performance_schema.setup_consumers SET ENABLED = 'YES' " +
+                "WHERE NAME IN ('events_statements_history', 'events_statements_history_long')");
+
+        Repositories repositories = new Repositories(applicationContext);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<String> violations = new ArrayList<>();
+        int checked = 0;
+
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation info = repositories.getRequiredRepositoryInformation(domainType);
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            Class<?> repositoryInterface = info.getRepositoryInterface();
+
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers()) || method.isSynthetic()) continue;
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+
+                List<String> statements = tx.execute(status -> {
+                    status.setRollbackOnly();
+                    Long threadId = jdbcTemplate.queryForObject("SELECT PS_CURRENT_THREAD_ID()", Long.class);
+                    Long marker = jdbcTemplate.queryForObject(
+                            "SELECT COALESCE(MAX(EVENT_ID), 0) FROM performance_schema.events_statements_history_long WHERE THREAD_ID = ?",
+                            Long.class, threadId);
+                    invoke(repository, method);
+                    return jdbcTemplate.queryForList(
+                            "SELECT SQL_TEXT FROM performance_schema.events_statements_history_long " +
+                                    "WHERE THREAD_ID = ? AND EVENT_ID > ? AND SQL_TEXT REGEXP '^(select|update|delete)' " +
+                                    "AND SQL_TEXT NOT LIKE '%performance_schema%' ORDER BY EVENT_ID",
+                            String.class, threadId, marker);
+                });
+
+                for (String sql : statements) {
+                    List<Map<String, Object>> plan;
+                    try {
+                        plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+                    } catch (Exception e) {
+                        // performance_schema 는 긴 SQL 을 잘라서 보관함
+                        System.out.println("  건너뜀 " + name + ": " + e.getMessage());
+                        continue;
+                    }
+                    checked++;
+                    for (Map<String, Object> row : plan) {
+                        boolean fullScan = "ALL".equals(row.get("type")) && row.get("possible_keys") == null;
+                        System.out.println("  " + name + " [" + row.get("table") + "] type=" + row.get("type")
+                                + " key=" + row.get("key"));
+                        if (fullScan && !FULL_SCAN_ALLOWED.contains(name)) {
+                            violations.add(name + " → " + row.get("table") + " 전체 스캔: " + sql);
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println("EXPLAIN 검사: 쿼리 " + checked + "개, 전체 스캔 " + violations.size() + "개");
+        violations.forEach(v -> System.out.println("  " + v));
+        assertThat(checked).isPositive();
+        assertThat(violations).isEmpty();
+    }
+
+    private static void invoke(Object repository, Method method) {
+        Object[] args = new Object[method.getParameterCount()];
+        Type[] types = method.getGenericParameterTypes();
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sample(types[i]);
+        }
+        try {
+            Object result = method.invoke(repository, args);
+            // Stream 반환 메서드는 닫아야 커서가 정리됨
+            if (result instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } catch (Exception e) {
+            // 결과가 없어서 생기는 예외 등은 무시 (SQL 만 필요)
+        }
+    }
+
+    private static Object sample(Type type) {
+        Class<?> raw = type instanceof ParameterizedType p ? (Class<?>) p.getRawType() : (Class<?>) type;
+        if (raw == Long.class || raw == long.class) return 1L;
+        if (raw == Integer.class || raw == int.class) return 1;
+        if (raw == String.class) return "explain";
+        if (raw == Boolean.class || raw == boolean.class) return true;
+        if (raw == LocalDateTime.class) return LocalDateTime.now().minusDays(1);
+        if (raw == Pageable.class) return PageRequest.of(0, 10);
+        if (raw.isEnum()) return raw.getEnumConstants()[0];
+        if (Collection.class.isAssignableFrom(raw) && type instanceof ParameterizedType p) {
+            return List.of(sample(p.getActualTypeArguments()[0]), sample(p.getActualTypeArguments()[0]));
+        }
+        return null;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
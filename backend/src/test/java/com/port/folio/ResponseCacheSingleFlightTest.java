@@ -0,0 +1,157 @@
+package com.port.folio;
+
+import com.port.folio.global.cache.ResponseBodyCache;
+import com.port.folio.global.cache.ResponseCacheFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheSingleFlightTest {
+
+    private static final int READERS = 50;
+
+    @Test
+    @DisplayName("동시 미스 - DB 조회(필터 체인)는 한 번만, 나머지는 같은 응답 공유")
+    void testConcurrentMissesCollapse() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ResponseCacheFilter filter = newFilter(3_000, registry);
+        AtomicInteger loads = new AtomicInteger();
+        FilterChain chain = (request, response) -> {
+            loads.incrementAndGet();
+            sleep(200);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write("{\"posts\":[1,2,3]}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        List<MockHttpServletResponse> responses = runConcurrently(filter, chain);
+
+        double collapsed = registry.counter("folio.cache.singleflight.collapsed").count();
+        System.out.println("동시 요청 " + READERS + "개: 실제 처리 " + loads.get() + "번, 공유 " + (long) collapsed + "번");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(collapsed).isPositive();
+        assertThat(responses).allSatisfy(response -> {
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getContentAsString()).isEqualTo("{\"posts\":[1,2,3]}");
+        });
+    }
+
+    @Test
+    @DisplayName("처리 중 예외 - 기다리던 요청도 실패, 이후 요청은 다시 처리")
+    void testFailurePropagates() throws Exception {
+        ResponseCacheFilter filter = newFilter(3_000, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        FilterChain failing = (request, response) -> {
+            loads.incrementAndGet();
+            sleep(200);
+            throw new IllegalStateException("DB 오류");
+        };
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(READERS);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return run(filter, failing);
+            }));
+        }
+        start.countDown();
+        int failed = 0;
+        for (Future<MockHttpServletResponse> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failed++;
+            }
+        }
+        pool.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(failed).isEqualTo(READERS);
+
+        // 실패한 결과는 남지 않음
+        FilterChain ok = (request, response) -> {
+            loads.incrementAndGet();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+        assertThat(run(filter, ok).getStatus()).isEqualTo(200);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한 시간 초과 - 기다리던 요청은 직접 처리")
+    void testTimeoutFallsBackToOwnLoad() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ResponseCacheFilter filter = newFilter(50, registry);
+        AtomicInteger loads = new AtomicInteger();
+        FilterChain slow = (request, response) -> {
+            // 먼저 온 요청만 느림
+            if (loads.incrementAndGet() == 1) sleep(500);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        List<MockHttpServletResponse> responses = runConcurrently(filter, slow);
+
+        System.out.println("제한 시간 초과 " + (long) registry.counter("folio.cache.singleflight.timeout").count() + "번");
+        assertThat(loads.get()).isGreaterThan(1);
+        assertThat(registry.counter("folio.cache.singleflight.timeout").count()).isPositive();
+        assertThat(responses).allSatisfy(response -> assertThat(response.getStatus()).isEqualTo(200));
+    }
+
+    private static ResponseCacheFilter newFilter(long timeoutMillis, SimpleMeterRegistry registry) {
+        return new ResponseCacheFilter(new ResponseBodyCache(true, 64 * 1024 * 1024, 2 * 1024 * 1024), timeoutMillis, registry);
+    }
+
+    private static List<MockHttpServletResponse> runConcurrently(ResponseCacheFilter filter, FilterChain chain) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(READERS);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return run(filter, chain);
+            }));
+        }
+        start.countDown();
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        for (Future<MockHttpServletResponse> future : futures) {
+            responses.add(future.get());
+        }
+        pool.shutdown();
+        return responses;
+    }
+
+    private static MockHttpServletResponse run(ResponseCacheFilter filter, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.setParameter("tabId", "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static void sleep(long millis) throws ServletException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new ServletException(e);
+        }
+    }
+}
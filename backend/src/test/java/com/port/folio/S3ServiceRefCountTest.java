@@ -0,0 +1,178 @@
+package com.port.folio;
+
+import com.port.folio.domain.category.repository.CategoryRepository;
+import com.port.folio.domain.post.entity.StoredObject;
+import com.port.folio.domain.post.repository.FileRepository;
+import com.port.folio.domain.post.repository.StoredObjectRepository;
+import com.port.folio.domain.user.repository.UserRepository;
+import com.port.folio.global.aws.S3Service;
+import com.port.folio.global.image.ImageDerivativeService;
+import com.port.folio.global.storage.StorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3ServiceRefCountTest {
+
+    private static final byte[] CONTENT = "같은 내용".getBytes(StandardCharsets.UTF_8);
+
+    private StorageBackend storage;
+    private StoredObjectRepository storedObjectRepository;
+    private JdbcTemplate jdbcTemplate;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        storage = mock(StorageBackend.class);
+        storedObjectRepository = mock(StoredObjectRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        s3Service = new S3Service(storage, mock(FileRepository.class), storedObjectRepository, jdbcTemplate,
+                mock(CategoryRepository.class), mock(UserRepository.class), mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("이미 있는 내용 - 참조 수만 +1, 전송 / INSERT 없음")
+    void testIncrementExisting() throws IOException {
+        when(storedObjectRepository.incrementRefCount(expectedKey())).thenReturn(1);
+
+        String key = s3Service.uploadFile(file());
+
+        assertThat(key).isEqualTo(expectedKey());
+        verify(storage, never()).put(anyString(), any(InputStream.class), anyLong(), any());
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(), any(), any(), any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처음 올라온 내용 - 행을 먼저 INSERT 한 뒤 저장")
+    void testFirstUpload() throws IOException {
+        String key = s3Service.uploadFile(file());
+
+        verify(jdbcTemplate).update(startsWith("INSERT"), eq(key), eq((long) CONTENT.length), any(), any());
+        verify(storage).put(eq(key), any(InputStream.class), eq((long) CONTENT.length), eq("text/plain"));
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 내용이 먼저 등록됨 (중복 키) - 그 행의 참조 수 +1, 전송 생략")
+    void testDuplicateKey() throws IOException {
+        doThrow(new DuplicateKeyException("uk_stored_object_key"))
+                .when(jdbcTemplate).update(startsWith("INSERT"), any(), any(), any(), any());
+
+        String key = s3Service.uploadFile(file());
+
+        verify(storedObjectRepository, times(2)).incrementRefCount(key);
+        verify(storage, never()).put(anyString(), any(InputStream.class), anyLong(), any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 실패 - 선점한 행을 되돌리고 예외 전달")
+    void testPutFailure() throws IOException {
+        doThrow(new IOException("연결 끊김"))
+                .when(storage).put(anyString(), any(InputStream.class), anyLong(), any());
+
+        assertThatThrownBy(() -> s3Service.uploadFile(file())).isInstanceOf(IOException.class);
+        verify(jdbcTemplate).update("DELETE FROM stored_object WHERE object_key = ?", expectedKey());
+    }
+
+    @Test
+    @DisplayName("호출한 트랜잭션 롤백 - 다른 업로드가 등록하지 않았으면 객체 삭제, 커밋이면 유지")
+    void testRollbackCleanup() throws IOException {
+        String key = s3Service.uploadFile(file());
+        TransactionSynchronization cleanup = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+        cleanup.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        verify(storage, never()).delete(anyList());
+
+        when(storedObjectRepository.findForUpdate(key)).thenReturn(Optional.of(new StoredObject()));
+        cleanup.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(storage, never()).delete(anyList());
+
+        when(storedObjectRepository.findForUpdate(key)).thenReturn(Optional.empty());
+        cleanup.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(storage).delete(List.of(key));
+    }
+
+    @Test
+    @DisplayName("참조 해제 - 마지막 참조일 때만 행 + 원본 + 파생본 삭제")
+    void testRelease() {
+        String key = expectedKey();
+        when(storedObjectRepository.decrementRefCount(key)).thenReturn(1);
+
+        when(storedObjectRepository.findRefCount(key)).thenReturn(Optional.of(1));
+        s3Service.releaseContentKey(key);
+        verify(storedObjectRepository, never()).deleteByObjectKey(key);
+        verify(storage, never()).delete(anyList());
+
+        when(storedObjectRepository.findRefCount(key)).thenReturn(Optional.of(0));
+        s3Service.releaseContentKey(key);
+        verify(storedObjectRepository).deleteByObjectKey(key);
+        verify(storage).delete(List.of(key,
+                key + ImageDerivativeService.THUMBNAIL_SUFFIX,
+                key + ImageDerivativeService.MEDIUM_SUFFIX));
+    }
+
+    @Test
+    @DisplayName("참조 해제 - 이미 0 이면 (중복 해제) 아무것도 지우지 않음")
+    void testReleaseTwice() {
+        String key = expectedKey();
+        when(storedObjectRepository.decrementRefCount(key)).thenReturn(0);
+
+        s3Service.releaseContentKey(key);
+
+        verify(storedObjectRepository, never()).deleteByObjectKey(anyString());
+        verify(storage, never()).delete(anyList());
+    }
+
+    private MockMultipartFile file() {
+        return new MockMultipartFile("file", "메모.txt", "text/plain", CONTENT);
+    }
+
+    private String expectedKey() {
+        try {
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+            return "objects/" + hash.substring(0, 2) + "/" + hash + ".txt";
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
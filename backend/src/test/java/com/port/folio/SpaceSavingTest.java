@@ -0,0 +1,48 @@
+package com.port.folio;
+
+import com.port.folio.domain.analytics.sketch.SpaceSaving;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("인기 키 추적 - 카운터 수보다 많은 키가 섞여도 상위 키는 순서대로 남음")
+    void testHeavyHitters() {
+        SpaceSaving sketch = new SpaceSaving(50);
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 20) sketch.add("hot-a");
+            else if (roll < 32) sketch.add("hot-b");
+            else if (roll < 40) sketch.add("hot-c");
+            else sketch.add("cold-" + random.nextInt(5_000));
+        }
+
+        List<SpaceSaving.Entry> top = SpaceSaving.top(List.of(sketch), 3);
+        assertThat(top).extracting(SpaceSaving.Entry::key).containsExactly("hot-a", "hot-b", "hot-c");
+        // 추정치는 실제 값 이상, 과대 추정은 error 이하
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(19_000);
+        assertThat(top.get(0).count() - top.get(0).error()).isLessThanOrEqualTo(21_000);
+    }
+
+    @Test
+    @DisplayName("구간 스케치 합산")
+    void testMergeSlots() {
+        SpaceSaving first = new SpaceSaving(10);
+        SpaceSaving second = new SpaceSaving(10);
+        for (int i = 0; i < 5; i++) first.add("a");
+        for (int i = 0; i < 3; i++) first.add("b");
+        for (int i = 0; i < 4; i++) second.add("b");
+        second.add("c");
+
+        List<SpaceSaving.Entry> top = SpaceSaving.top(List.of(first, second), 10);
+        assertThat(top).extracting(SpaceSaving.Entry::key).containsExactly("b", "a", "c");
+        assertThat(top.get(0).count()).isEqualTo(7);
+    }
+}
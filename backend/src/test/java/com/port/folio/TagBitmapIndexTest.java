@@ -0,0 +1,63 @@
+package com.port.folio;
+
+import com.port.folio.domain.tag.index.TagBitmapIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagBitmapIndexTest {
+
+    private TagBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagBitmapIndex();
+        index.replaceCategory(1L, List.of("Java", "Spring"));
+        index.replaceCategory(2L, List.of("java", "React"));
+        index.replaceCategory(3L, List.of("#Spring", "JavaScript"));
+    }
+
+    @Test
+    @DisplayName("AND / OR 조합 조회 - 태그 이름은 정규화되어 비교")
+    void testAndOr() {
+        assertThat(index.categoriesWithAll(List.of("JAVA", "spring")).toArray()).containsExactly(1);
+        assertThat(index.categoriesWithAny(List.of("java", "spring")).toArray()).containsExactly(1, 2, 3);
+        assertThat(index.categoriesWithAll(List.of("java", "없는태그")).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("카테고리 태그 교체 시 빠진 태그는 역색인과 자동완성에서 제거")
+    void testReplaceCategory() {
+        index.replaceCategory(2L, List.of("React"));
+
+        assertThat(index.categoriesWithAll(List.of("java")).toArray()).containsExactly(1);
+
+        index.replaceCategory(3L, List.of());
+        assertThat(index.autocomplete("java", 10)).containsExactly("java");
+    }
+
+    @Test
+    @DisplayName("접두어 자동완성 - 사용 카테고리 수가 많은 순")
+    void testAutocomplete() {
+        assertThat(index.autocomplete("ja", 10)).containsExactly("java", "javascript");
+        assertThat(index.autocomplete("s", 10)).containsExactly("spring");
+        assertThat(index.autocomplete("x", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두어 자동완성 - 사전순으로 뒤에 있는 인기 태그도 상위에 포함")
+    void testAutocompleteRanksAllMatches() {
+        for (int i = 0; i < 100; i++) {
+            index.replaceCategory(100L + i, List.of(String.format("tag%03d", i)));
+        }
+        for (int i = 0; i < 5; i++) {
+            index.replaceCategory(300L + i, List.of("tagzz", "tag050"));
+        }
+
+        assertThat(index.autocomplete("tag", 3)).containsExactly("tag050", "tagzz", "tag000");
+    }
+}
@@ -61,6 +61,9 @@ export default function CategoryPage({ params }: CategoryPageProps) {
   const {
     resources,
     isResourcesLoading,
+    hasMoreResources,
+    isLoadingMore,
+    loadMoreResources,
     handleUploadSuccess,
     handleDeleteResource,
   } = useResources(category);
@@ -288,6 +291,9 @@ export default function CategoryPage({ params }: CategoryPageProps) {
                   handleUploadSuccess={handleUploadSuccess}
                   handleDeleteResource={handleDeleteResource}
                   category={category}
+                  hasMoreResources={hasMoreResources}
+                  isLoadingMore={isLoadingMore}
+                  loadMoreResources={loadMoreResources}
                 />
               )}
 
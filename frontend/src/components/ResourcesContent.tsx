@@ -13,6 +13,9 @@ interface ResourcesContentProps {
   resources: FileResource[];
   handleDeleteResource: (id: string) => Promise<void>;
   category: CategoryResponse | null;
+  hasMoreResources?: boolean;
+  isLoadingMore?: boolean;
+  loadMoreResources?: () => void;
 }
 
 export const ResourcesContent: React.FC<ResourcesContentProps> = ({
@@ -22,6 +25,9 @@ export const ResourcesContent: React.FC<ResourcesContentProps> = ({
   resources,
   handleDeleteResource,
   category,
+  hasMoreResources = false,
+  isLoadingMore = false,
+  loadMoreResources,
 }) => {
   return (
     <div>
@@ -176,6 +182,19 @@ export const ResourcesContent: React.FC<ResourcesContentProps> = ({
               ))}
             </div>
           )}
+
+          {/* 다음 페이지 */}
+          {!isResourcesLoading && hasMoreResources && loadMoreResources && (
+            <div className="flex justify-center mt-6">
+              <button
+                onClick={loadMoreResources}
+                disabled={isLoadingMore}
+                className="px-4 py-2 text-sm text-gray-700 border border-gray-300 rounded-lg hover:bg-gray-50 transition-colors disabled:opacity-50"
+              >
+                {isLoadingMore ? "불러오는 중..." : "더 보기"}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </div>
@@ -1,4 +1,5 @@
 import { CategoryRequest, CategoryResponse } from "../types/category";
+import { CursorPage, fetchAllPages, readPage, withPage } from "@/utils/cursorPage";
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 
@@ -44,37 +45,51 @@ export class CategoryService {
   }
 
   /**
-   * 사용자별 카테고리 목록 조회
+   * 사용자별 카테고리 목록 조회 (X-Next-Cursor 를 따라 모든 페이지)
    * @param userId 사용자 ID
    * @returns Promise<CategoryResponse[]>
    */
   async getCategories(userId: number): Promise<CategoryResponse[]> {
     try {
-      const response = await fetch(
-        `${API_BASE_URL}/api/category?userId=${userId}`,
-        {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-          },
-          credentials: "omit", // 쿠키 사용하지 않음
-        }
+      return await fetchAllPages((cursor) =>
+        this.getCategoriesPage(userId, cursor)
       );
-
-      if (!response.ok) {
-        throw new Error(
-          `카테고리 목록 조회 실패: ${response.status} ${response.statusText}`
-        );
-      }
-
-      const categories: CategoryResponse[] = await response.json();
-      return categories;
     } catch (error) {
       console.error("카테고리 목록 조회 중 오류 발생:", error);
       throw error;
     }
   }
 
+  /**
+   * 사용자별 카테고리 목록 한 페이지 조회
+   * @param userId 사용자 ID
+   * @param cursor 이전 페이지의 X-Next-Cursor (첫 페이지는 null)
+   * @returns Promise<CursorPage<CategoryResponse>>
+   */
+  async getCategoriesPage(
+    userId: number,
+    cursor: number | null = null
+  ): Promise<CursorPage<CategoryResponse>> {
+    const response = await fetch(
+      withPage(`${API_BASE_URL}/api/category?userId=${userId}`, cursor),
+      {
+        method: "GET",
+        headers: {
+          "Content-Type": "application/json",
+        },
+        credentials: "omit", // 쿠키 사용하지 않음
+      }
+    );
+
+    if (!response.ok) {
+      throw new Error(
+        `카테고리 목록 조회 실패: ${response.status} ${response.statusText}`
+      );
+    }
+
+    return readPage<CategoryResponse>(response);
+  }
+
   /**
    * 특정 카테고리 조회 (publicId로)
    * @param publicId 카테고리 공개 ID
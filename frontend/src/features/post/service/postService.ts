@@ -6,6 +6,7 @@ import {
   BasicTabUpdateReq,
 } from "../types/post";
 import { CreateIntroduce, IntroduceResponse } from "../../main/type/introduce";
+import { CursorPage, fetchAllPages, readPage, withPage } from "@/utils/cursorPage";
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 
@@ -64,10 +65,18 @@ export async function updatePost(
   }
 }
 
-// 카테고리별 게시글 목록 조회
+// 카테고리별 게시글 목록 조회 (모든 페이지)
 export async function getPosts(categoryId: number): Promise<PostListDto[]> {
+  return fetchAllPages((cursor) => getPostsPage(categoryId, cursor));
+}
+
+// 카테고리별 게시글 목록 한 페이지 조회
+export async function getPostsPage(
+  categoryId: number,
+  cursor: number | null = null
+): Promise<CursorPage<PostListDto>> {
   const response = await fetch(
-    `${API_BASE_URL}/api/posts/list?categoryId=${categoryId}`,
+    withPage(`${API_BASE_URL}/api/posts/list?categoryId=${categoryId}`, cursor),
     {
       method: "GET",
       headers: {
@@ -83,7 +92,7 @@ export async function getPosts(categoryId: number): Promise<PostListDto[]> {
     );
   }
 
-  return await response.json();
+  return readPage<PostListDto>(response);
 }
 
 // 게시글 상세 조회
@@ -1,4 +1,5 @@
 import { CreateTabReq, TabRes } from "../types/tab";
+import { CursorPage, fetchAllPages, readPage, withPage } from "@/utils/cursorPage";
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 
@@ -41,44 +42,15 @@ export class TabService {
   }
 
   /**
-   * 카테고리별 탭 목록 조회
+   * 카테고리별 탭 목록 조회 (X-Next-Cursor 를 따라 모든 페이지)
    * @param categoryId 카테고리 ID
    * @returns Promise<TabRes[]>
    */
   async getTabs(categoryId: number): Promise<TabRes[]> {
     try {
-      const response = await fetch(
-        `${API_BASE_URL}/api/v1/tab/list?categoryId=${categoryId}`,
-        {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-          },
-          credentials: "omit", // 쿠키 사용하지 않음
-        }
+      return await fetchAllPages((cursor) =>
+        this.getTabsPage(categoryId, cursor)
       );
-
-      if (!response.ok) {
-        // 에러 응답 본문도 함께 로그
-        const errorText = await response.text();
-        console.error(
-          `탭 목록 조회 실패 - Status: ${response.status}, Response:`,
-          errorText
-        );
-
-        // 500 에러인 경우 빈 배열 반환 (서버 에러지만 클라이언트는 정상 동작)
-        if (response.status === 500) {
-          console.warn("서버 에러로 인해 빈 탭 목록을 반환합니다.");
-          return [];
-        }
-
-        throw new Error(
-          `탭 목록 조회 실패: ${response.status} ${response.statusText}`
-        );
-      }
-
-      const tabs: TabRes[] = await response.json();
-      return tabs;
     } catch (error) {
       console.error("탭 목록 조회 중 오류 발생:", error);
 
@@ -95,6 +67,42 @@ export class TabService {
     }
   }
 
+  /**
+   * 카테고리별 탭 목록 한 페이지 조회
+   * @param categoryId 카테고리 ID
+   * @param cursor 이전 페이지의 X-Next-Cursor (첫 페이지는 null)
+   * @returns Promise<CursorPage<TabRes>>
+   */
+  async getTabsPage(
+    categoryId: number,
+    cursor: number | null = null
+  ): Promise<CursorPage<TabRes>> {
+    const response = await fetch(
+      withPage(`${API_BASE_URL}/api/v1/tab/list?categoryId=${categoryId}`, cursor),
+      {
+        method: "GET",
+        headers: {
+          "Content-Type": "application/json",
+        },
+        credentials: "omit", // 쿠키 사용하지 않음
+      }
+    );
+
+    if (!response.ok) {
+      // 에러 응답 본문도 함께 로그
+      const errorText = await response.text();
+      console.error(
+        `탭 목록 조회 실패 - Status: ${response.status}, Response:`,
+        errorText
+      );
+      throw new Error(
+        `탭 목록 조회 실패: ${response.status} ${response.statusText}`
+      );
+    }
+
+    return readPage<TabRes>(response);
+  }
+
   /**
    * 탭 삭제
    * @param tabId 삭제할 탭 ID
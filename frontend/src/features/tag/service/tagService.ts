@@ -1,4 +1,5 @@
 import { TagRequest, TagResponse } from "../types/tag";
+import { CursorPage, fetchAllPages, readPage, withPage } from "@/utils/cursorPage";
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 
@@ -44,37 +45,51 @@ export class TagService {
   }
 
   /**
-   * 카테고리별 태그 목록 조회
+   * 카테고리별 태그 목록 조회 (X-Next-Cursor 를 따라 모든 페이지)
    * @param categoryId 카테고리 ID
    * @returns Promise<TagResponse[]>
    */
   async getTags(categoryId: number): Promise<TagResponse[]> {
     try {
-      const response = await fetch(
-        `${API_BASE_URL}/api/v1/tag?categoryId=${categoryId}`,
-        {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-          },
-          credentials: "omit",
-        }
+      return await fetchAllPages((cursor) =>
+        this.getTagsPage(categoryId, cursor)
       );
-
-      if (!response.ok) {
-        throw new Error(
-          `태그 목록 조회 실패: ${response.status} ${response.statusText}`
-        );
-      }
-
-      const tags: TagResponse[] = await response.json();
-      return tags;
     } catch (error) {
       console.error("태그 목록 조회 중 오류 발생:", error);
       throw error;
     }
   }
 
+  /**
+   * 카테고리별 태그 목록 한 페이지 조회
+   * @param categoryId 카테고리 ID
+   * @param cursor 이전 페이지의 X-Next-Cursor (첫 페이지는 null)
+   * @returns Promise<CursorPage<TagResponse>>
+   */
+  async getTagsPage(
+    categoryId: number,
+    cursor: number | null = null
+  ): Promise<CursorPage<TagResponse>> {
+    const response = await fetch(
+      withPage(`${API_BASE_URL}/api/v1/tag?categoryId=${categoryId}`, cursor),
+      {
+        method: "GET",
+        headers: {
+          "Content-Type": "application/json",
+        },
+        credentials: "omit",
+      }
+    );
+
+    if (!response.ok) {
+      throw new Error(
+        `태그 목록 조회 실패: ${response.status} ${response.statusText}`
+      );
+    }
+
+    return readPage<TagResponse>(response);
+  }
+
   /**
    * 태그 수정
    * @param tagData 수정할 태그 데이터
@@ -1,4 +1,5 @@
 // 파일 업로드 서비스
+import { CursorPage, fetchAllPages, readPage, withPage } from "@/utils/cursorPage";
 
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_URL || "http://localhost:8080";
 
@@ -153,13 +154,21 @@ export const uploadMainVideo = async (
   }
 };
 
-// ✅ 카테고리별 파일 조회
+// ✅ 카테고리별 파일 조회 (모든 페이지)
 export const getFilesByCategory = async (
   categoryId: number
 ): Promise<FileResource[]> => {
+  return fetchAllPages((cursor) => getFilesByCategoryPage(categoryId, cursor));
+};
+
+// ✅ 카테고리별 파일 한 페이지 조회 (다운로드 URL 은 페이지 단위로 발급)
+export const getFilesByCategoryPage = async (
+  categoryId: number,
+  cursor: number | null = null
+): Promise<CursorPage<FileResource>> => {
   try {
     const response = await fetch(
-      `${API_BASE_URL}/api/files/category/${categoryId}`,
+      withPage(`${API_BASE_URL}/api/files/category/${categoryId}`, cursor),
       {
         method: "GET",
         credentials: "omit",
@@ -170,7 +179,7 @@ export const getFilesByCategory = async (
       throw new Error("파일 목록 조회에 실패했습니다.");
     }
 
-    return await response.json();
+    return await readPage<FileResource>(response);
   } catch (error) {
     console.error("파일 목록 조회 오류:", error);
     throw error;
@@ -1,6 +1,6 @@
 import { useState, useEffect, useCallback } from "react";
 import {
-  getFilesByCategory,
+  getFilesByCategoryPage,
   deleteFile,
   FileResource,
 } from "@/features/upload/service/uploadService";
@@ -9,22 +9,44 @@ import { CategoryResponse } from "@/features/category/types/category";
 export const useResources = (category: CategoryResponse | null) => {
   const [resources, setResources] = useState<FileResource[]>([]);
   const [isResourcesLoading, setIsResourcesLoading] = useState(true);
+  // 다음 페이지 커서 (null 이면 마지막 페이지)
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
 
+  // 첫 페이지부터 다시 조회
   const loadResources = useCallback(async () => {
     if (!category) return;
 
     try {
       setIsResourcesLoading(true);
-      const resourcesFromApi = await getFilesByCategory(category.id);
-      setResources(resourcesFromApi);
+      const page = await getFilesByCategoryPage(category.id);
+      setResources(page.items);
+      setNextCursor(page.nextCursor);
     } catch (error) {
       console.error("자료 로딩 실패:", error);
       setResources([]);
+      setNextCursor(null);
     } finally {
       setIsResourcesLoading(false);
     }
   }, [category]);
 
+  // 다음 페이지를 이어서 조회
+  const loadMoreResources = async () => {
+    if (!category || nextCursor === null || isLoadingMore) return;
+
+    try {
+      setIsLoadingMore(true);
+      const page = await getFilesByCategoryPage(category.id, nextCursor);
+      setResources((prev) => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (error) {
+      console.error("자료 추가 로딩 실패:", error);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  };
+
   const handleUploadSuccess = async () => {
     setResources([]);
     setIsResourcesLoading(true);
@@ -58,7 +80,10 @@ export const useResources = (category: CategoryResponse | null) => {
   return {
     resources,
     isResourcesLoading,
+    hasMoreResources: nextCursor !== null,
+    isLoadingMore,
     loadResources,
+    loadMoreResources,
     handleUploadSuccess,
     handleDeleteResource,
   };
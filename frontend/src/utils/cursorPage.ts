@@ -0,0 +1,42 @@
+// 목록 API 커서 페이지 (본문은 배열, 다음 커서는 X-Next-Cursor 헤더)
+export const PAGE_SIZE = 50;
+export const NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: number | null; // null 이면 마지막 페이지
+}
+
+// 목록 URL 에 size / cursor 파라미터 추가
+export const withPage = (
+  url: string,
+  cursor: number | null = null,
+  size: number = PAGE_SIZE
+) => {
+  const separator = url.includes("?") ? "&" : "?";
+  const cursorParam = cursor !== null ? `&cursor=${cursor}` : "";
+  return `${url}${separator}size=${size}${cursorParam}`;
+};
+
+// 응답 본문 + X-Next-Cursor 헤더로 페이지 생성
+export const readPage = async <T>(
+  response: Response
+): Promise<CursorPage<T>> => {
+  const next = response.headers.get(NEXT_CURSOR_HEADER);
+  const items: T[] = await response.json();
+  return { items, nextCursor: next ? Number(next) : null };
+};
+
+// X-Next-Cursor 가 없을 때까지 다음 페이지를 이어서 조회
+export const fetchAllPages = async <T>(
+  fetchPage: (cursor: number | null) => Promise<CursorPage<T>>
+): Promise<T[]> => {
+  const all: T[] = [];
+  let cursor: number | null = null;
+  do {
+    const page: CursorPage<T> = await fetchPage(cursor);
+    all.push(...page.items);
+    cursor = page.nextCursor;
+  } while (cursor !== null);
+  return all;
+};